@@ -0,0 +1,227 @@
+package com.sjhacks.sjhopes.analytics;
+
+import com.sjhacks.sjhopes.models.dto.ShelterSummaryDto;
+import com.sjhacks.sjhopes.models.dto.ShelterTypeSummaryDto;
+import com.sjhacks.sjhopes.models.dto.TaskSummaryDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.models.event.TaskChangedEvent;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import com.sjhacks.sjhopes.service.BedInventoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Running totals behind /api/admin/analytics/*. Every shelter/task change adjusts the
+// counters by its delta, so reads are O(1) instead of a burst of COUNT/SUM queries.
+// A periodic reconcile rebuilds everything from two queries in case an update was missed.
+// Changes are applied against the last known state of each shelter and task rather than the
+// event's own "previous", so applying one twice is harmless - which is what lets reconcile
+// replay the changes that arrived while it was reading.
+@Component
+@Slf4j
+public class AnalyticsAggregator {
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    // Last known state of each shelter and task, so a change can subtract what it replaces
+    private final Map<Long, ShelterStats> shelters = new HashMap<>();
+    private final Map<Long, TaskStatus> taskStatuses = new HashMap<>();
+
+    // Changes delivered while reconcile() reads its snapshot, reapplied on top of it
+    private List<Object> sinceSnapshot;
+
+    private long totalShelters;
+    private long activeShelters;
+    private long activeCapacity;
+    private long activeAvailability;
+    private long activeAllowingPets;
+    private long activeAllowingPartners;
+    private final Map<ShelterType, TypeTotals> activeByType = new EnumMap<>(ShelterType.class);
+    private final Map<TaskStatus, Long> tasksByStatus = new EnumMap<>(TaskStatus.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${sjhopes.analytics.reconcile-interval-ms:300000}",
+            initialDelayString = "${sjhopes.analytics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (this) {
+            sinceSnapshot = new ArrayList<>();
+        }
+        List<Object[]> shelterRows;
+        List<Object[]> taskRows;
+        try {
+            shelterRows = shelterRepository.findAnalyticsRows();
+            taskRows = taskRepository.findAllStatuses();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                sinceSnapshot = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            shelters.clear();
+            totalShelters = activeShelters = activeCapacity = activeAvailability = 0;
+            activeAllowingPets = activeAllowingPartners = 0;
+            activeByType.clear();
+            for (Object[] row : shelterRows) {
+                Long id = (Long) row[0];
+                int availability = bedInventory.getAvailability(id).orElse((Integer) row[3]);
+                ShelterStats stats = new ShelterStats((Boolean) row[1], (Integer) row[2], availability,
+                        (Boolean) row[4], (Boolean) row[5], (ShelterType) row[6]);
+                shelters.put(id, stats);
+                add(stats, 1);
+            }
+
+            taskStatuses.clear();
+            tasksByStatus.clear();
+            for (Object[] row : taskRows) {
+                taskStatuses.put((Long) row[0], (TaskStatus) row[1]);
+                tasksByStatus.merge((TaskStatus) row[1], 1L, Long::sum);
+            }
+
+            // Some of these may already be in the snapshot; applying them again changes nothing
+            List<Object> changes = sinceSnapshot;
+            sinceSnapshot = null;
+            for (Object change : changes) {
+                if (change instanceof ShelterChangedEvent event) apply(event);
+                else apply((TaskChangedEvent) change);
+            }
+        }
+        log.debug("Analytics: Reconciled counters from {} shelters", shelterRows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onShelterChanged(ShelterChangedEvent event) {
+        if (sinceSnapshot != null) sinceSnapshot.add(event);
+        apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (sinceSnapshot != null) sinceSnapshot.add(event);
+        apply(event);
+    }
+
+    private void apply(ShelterChangedEvent event) {
+        ShelterStats previous = shelters.get(event.getShelterId());
+        ShelterStats next = switch (event.getChangeType()) {
+            case SAVED -> ShelterStats.of(event.getShelter());
+            // Live count when there is one: a replayed or late event may carry an older value
+            case AVAILABILITY_CHANGED -> previous != null ? previous.withAvailability(
+                    bedInventory.getAvailability(event.getShelterId()).orElse(event.getCurrentAvailability())) : null;
+            case DELETED -> null;
+        };
+        if (previous != null) {
+            add(previous, -1);
+        }
+        if (next != null) {
+            add(next, 1);
+            shelters.put(event.getShelterId(), next);
+        } else {
+            shelters.remove(event.getShelterId());
+        }
+    }
+
+    private void apply(TaskChangedEvent event) {
+        TaskStatus previous = taskStatuses.get(event.getTaskId());
+        TaskStatus next = event.getCurrentStatus(); // null once deleted
+        if (previous == next) return;
+        if (previous != null) {
+            tasksByStatus.merge(previous, -1L, Long::sum);
+        }
+        if (next != null) {
+            tasksByStatus.merge(next, 1L, Long::sum);
+            taskStatuses.put(event.getTaskId(), next);
+        } else {
+            taskStatuses.remove(event.getTaskId());
+        }
+    }
+
+    // Occupancy rate is left at 0.0 for the service to fill in
+    public synchronized ShelterSummaryDto getShelterTotals() {
+        return new ShelterSummaryDto(totalShelters, activeShelters, totalShelters - activeShelters,
+                activeCapacity, activeAvailability, 0.0, activeAllowingPets, activeAllowingPartners);
+    }
+
+    public synchronized List<ShelterTypeSummaryDto> getShelterTypeTotals() {
+        List<ShelterTypeSummaryDto> result = new ArrayList<>();
+        activeByType.forEach((type, totals) -> result.add(
+                new ShelterTypeSummaryDto(type, totals.count, totals.capacity, totals.availability, 0.0)));
+        return result;
+    }
+
+    // {totalCapacity, currentAvailability} per active shelter
+    public synchronized Map<Long, int[]> getActiveShelterLevels() {
+        Map<Long, int[]> result = new HashMap<>();
+        shelters.forEach((id, stats) -> {
+            if (stats.active) result.put(id, new int[]{stats.capacity, stats.availability});
+        });
+        return result;
+    }
+
+    public synchronized TaskSummaryDto getTaskTotals() {
+        long open = tasksByStatus.getOrDefault(TaskStatus.OPEN, 0L);
+        long assigned = tasksByStatus.getOrDefault(TaskStatus.ASSIGNED, 0L);
+        long completed = tasksByStatus.getOrDefault(TaskStatus.COMPLETED, 0L);
+        return new TaskSummaryDto(open + assigned + completed, open, assigned, completed);
+    }
+
+    // sign = 1 to add a shelter's contribution, -1 to take it away
+    private void add(ShelterStats stats, int sign) {
+        totalShelters += sign;
+        if (!stats.active) return;
+        activeShelters += sign;
+        activeCapacity += (long) sign * stats.capacity;
+        activeAvailability += (long) sign * stats.availability;
+        if (stats.allowsPets) activeAllowingPets += sign;
+        if (stats.allowsPartner) activeAllowingPartners += sign;
+
+        TypeTotals totals = activeByType.computeIfAbsent(stats.type, type -> new TypeTotals());
+        totals.count += sign;
+        totals.capacity += (long) sign * stats.capacity;
+        totals.availability += (long) sign * stats.availability;
+        if (totals.count == 0) {
+            activeByType.remove(stats.type);
+        }
+    }
+
+    private record ShelterStats(boolean active, int capacity, int availability,
+                                boolean allowsPets, boolean allowsPartner, ShelterType type) {
+
+        static ShelterStats of(Shelter shelter) {
+            return new ShelterStats(shelter.isActive(), shelter.getTotalCapacity(), shelter.getCurrentAvailability(),
+                    shelter.isAllowsPets(), shelter.isAllowsPartner(), shelter.getShelterType());
+        }
+
+        ShelterStats withAvailability(int newAvailability) {
+            return new ShelterStats(active, capacity, newAvailability, allowsPets, allowsPartner, type);
+        }
+    }
+
+    private static final class TypeTotals {
+        long count;
+        long capacity;
+        long availability;
+    }
+}
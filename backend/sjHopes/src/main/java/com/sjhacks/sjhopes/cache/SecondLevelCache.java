@@ -0,0 +1,76 @@
+package com.sjhacks.sjhopes.cache;
+
+import com.sjhacks.sjhopes.models.dto.CacheStatsDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.CacheImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Hibernate second-level cache (Caffeine via JCache, see application.conf). Hibernate keeps the
+// regions current itself, except for the shelter availability UPDATEs run as plain SQL (see
+// shelterRowsUpdated); this also exposes per-region hit/miss counts next to ShelterQueryCache's.
+@Component
+public class SecondLevelCache {
+
+    // Cached shelter queries live in their own region, sized and expired apart from the rest
+    public static final String SHELTER_QUERY_REGION = "shelter-queries";
+
+    private static final String[] SHELTER_SPACES = {"shelters"};
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<CacheStatsDto> getStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        Set<String> regions = new LinkedHashSet<>(List.of(statistics.getSecondLevelCacheRegionNames()));
+        regions.add(SHELTER_QUERY_REGION);
+        List<CacheStatsDto> result = new ArrayList<>();
+        for (String region : regions) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats == null) continue; // Region not created yet
+            long hits = stats.getHitCount();
+            long misses = stats.getMissCount();
+            result.add(new CacheStatsDto("hibernate." + region, Math.max(0, stats.getElementCountInMemory()), hits, misses,
+                    hits + misses == 0 ? 0.0 : (double) hits / (hits + misses),
+                    0)); // Evictions aren't tracked by Hibernate
+        }
+        return result;
+    }
+
+    // For shelter rows changed by plain SQL inside a transaction. Hibernate's bulk-update handling
+    // would drop every cached shelter; this evicts only these ids and moves the shelters
+    // update-timestamp so cached queries over the table stop validating. Both happen now and again
+    // when the transaction ends, so nothing read from the old rows in between is kept.
+    public static void shelterRowsUpdated(EntityManager entityManager, Collection<Long> ids) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        CacheImplementor cache = session.getFactory().getCache();
+        List<Long> updated = List.copyOf(ids);
+        cache.getTimestampsCache().preInvalidate(SHELTER_SPACES, session);
+        updated.forEach(id -> cache.evictEntityData(Shelter.class, id));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.getTimestampsCache().invalidate(SHELTER_SPACES, session);
+                updated.forEach(id -> cache.evictEntityData(Shelter.class, id));
+            }
+        });
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sjhacks.sjhopes.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sjhacks.sjhopes.mapper.ShelterMapper;
+import com.sjhacks.sjhopes.models.dto.CacheStatsDto;
+import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// Read-through cache of mapped shelter DTOs by id (criteria searches go through ShelterFilterIndex).
+// Invalidation is driven by ShelterChangedEvent after commit; TTL is just a backstop.
+@Component
+@Slf4j
+public class ShelterQueryCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, Optional<ShelterResponseDto>> byId;
+    // Bumped before every invalidation; a load that saw its stripe move may hold the old row and isn't kept
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ShelterQueryCache(@Value("${sjhopes.cache.shelters.max-size:10000}") long maxSize,
+                             @Value("${sjhopes.cache.shelters.ttl-seconds:60}") long ttlSeconds) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<ShelterResponseDto> getById(Long id, Function<Long, Optional<Shelter>> loader) {
+        Optional<ShelterResponseDto> cached = byId.getIfPresent(id);
+        if (cached != null) return cached;
+        long generation = generations.get(stripe(id));
+        Optional<ShelterResponseDto> loaded = loader.apply(id).map(ShelterMapper::mapToResponseDTO);
+        // Checked under the entry's lock, so an invalidation either shows here or removes what we store
+        byId.asMap().compute(id, (key, current) ->
+                current != null || generations.get(stripe(key)) != generation ? current : loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShelterChanged(ShelterChangedEvent event) {
+        Long id = event.getShelterId();
+        generations.incrementAndGet(stripe(id));
+        byId.invalidate(id);
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+
+    public List<CacheStatsDto> getStats() {
+        return List.of(toStats("shelters.byId", byId));
+    }
+
+    private static CacheStatsDto toStats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -5,17 +5,30 @@ import com.sjhacks.sjhopes.mapper.TaskMapper;
 import com.sjhacks.sjhopes.models.dto.*;
 import com.sjhacks.sjhopes.models.entity.Shelter;
 import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.OccupancyScope;
+import com.sjhacks.sjhopes.models.enums.SampleResolution;
 import com.sjhacks.sjhopes.service.AnalyticsService;
+import com.sjhacks.sjhopes.service.OccupancyHistoryService;
+import com.sjhacks.sjhopes.service.OutboxService;
+import com.sjhacks.sjhopes.service.PlacementService;
 import com.sjhacks.sjhopes.service.ResourceService;
+import com.sjhacks.sjhopes.service.ShelterImportService;
+import com.sjhacks.sjhopes.service.TaskImportService;
 import com.sjhacks.sjhopes.service.TaskService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -30,6 +43,16 @@ public class AdminController {
     private TaskService taskService;
     @Autowired
     private AnalyticsService analyticsService;
+    @Autowired
+    private OccupancyHistoryService occupancyHistoryService;
+    @Autowired
+    private TaskImportService taskImportService;
+    @Autowired
+    private ShelterImportService shelterImportService;
+    @Autowired
+    private PlacementService placementService;
+    @Autowired
+    private OutboxService outboxService;
 
     @PostMapping("/shelters")
     public ResponseEntity<ShelterResponseDto> addShelter(@Valid @RequestBody ShelterRequestDto shelterRequest) {
@@ -50,6 +73,34 @@ public class AdminController {
         }
     }
 
+    // POST /api/admin/shelters/bulk - CSV roster, upserted by name + addressLine1
+    @PostMapping(value = "/shelters/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResultDto> bulkUpsertSheltersCsv(InputStream body) {
+        log.info("ADMIN CONTROLLER: POST /api/admin/shelters/bulk (CSV)");
+        try {
+            return ResponseEntity.ok(shelterImportService.importCsv(body));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IOException e) {
+            log.error("ADMIN CONTROLLER: Error reading bulk shelter upload", e);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read upload", e);
+        }
+    }
+
+    // POST /api/admin/shelters/bulk - GeoJSON FeatureCollection of Point features, upserted by name + addressLine1
+    @PostMapping(value = "/shelters/bulk", consumes = {"application/geo+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<BulkImportResultDto> bulkUpsertSheltersGeoJson(InputStream body) {
+        log.info("ADMIN CONTROLLER: POST /api/admin/shelters/bulk (GeoJSON)");
+        try {
+            return ResponseEntity.ok(shelterImportService.importGeoJson(body));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IOException e) {
+            log.error("ADMIN CONTROLLER: Error reading bulk shelter upload", e);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read upload", e);
+        }
+    }
+
     @PutMapping("/shelters/{id}")
     public ResponseEntity<ShelterResponseDto> updateShelter(@PathVariable Long id,
                                                             @Valid @RequestBody ShelterRequestDto shelterRequest) {
@@ -92,6 +143,27 @@ public class AdminController {
         }
     }
 
+    // POST /api/admin/shelters/reconcile - recompute availability from SHELTERED clients and live holds now
+    @PostMapping("/shelters/reconcile")
+    public ResponseEntity<Integer> reconcileAvailability() {
+        log.info("ADMIN CONTROLLER: POST /api/admin/shelters/reconcile");
+        return ResponseEntity.ok(resourceService.reconcileAvailability()); // Number of shelters corrected
+    }
+
+    // POST /api/admin/placements/batch?dryRun=true - match all SEEKING_PLACEMENT clients to free beds
+    @PostMapping("/placements/batch")
+    public ResponseEntity<PlacementResultDto> placeSeekingClients(@RequestParam(defaultValue = "false") boolean dryRun) {
+        log.info("ADMIN CONTROLLER: POST /api/admin/placements/batch - dryRun: {}", dryRun);
+        try {
+            return ResponseEntity.ok(placementService.placeSeekingClients(dryRun));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("ADMIN CONTROLLER: Error running batch placement", e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error running batch placement", e);
+        }
+    }
+
     // --- Task Admin CRUD ---
 
     @PostMapping("/tasks")
@@ -111,6 +183,34 @@ public class AdminController {
         }
     }
 
+    // POST /api/admin/tasks/bulk - JSON array of TaskRequestDto, streamed; invalid rows are reported, not fatal
+    @PostMapping(value = "/tasks/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDto> bulkAddTasksJson(InputStream body) {
+        log.info("ADMIN CONTROLLER: POST /api/admin/tasks/bulk (JSON)");
+        try {
+            return ResponseEntity.ok(taskImportService.importJson(body));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IOException e) {
+            log.error("ADMIN CONTROLLER: Error reading bulk task upload", e);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read upload", e);
+        }
+    }
+
+    // POST /api/admin/tasks/bulk - CSV with a header row named after TaskRequestDto fields
+    @PostMapping(value = "/tasks/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResultDto> bulkAddTasksCsv(InputStream body) {
+        log.info("ADMIN CONTROLLER: POST /api/admin/tasks/bulk (CSV)");
+        try {
+            return ResponseEntity.ok(taskImportService.importCsv(body));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IOException e) {
+            log.error("ADMIN CONTROLLER: Error reading bulk task upload", e);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read upload", e);
+        }
+    }
+
     @PutMapping("/tasks/{id}")
     public ResponseEntity<TaskResponseDto> updateTask(@PathVariable Long id,
                                                       @Valid @RequestBody TaskRequestDto taskRequest) {
@@ -163,6 +263,63 @@ public class AdminController {
         }
     }
 
+    // GET /api/admin/analytics/occupancy-history?scope=SHELTER_TYPE&key=TINY_HOME&from=2025-01-01T00:00&to=2025-04-01T00:00
+    // resolution is optional (MINUTE/HOUR/DAY) - picked from the range when omitted
+    @GetMapping("/analytics/occupancy-history")
+    public ResponseEntity<List<OccupancyPointDto>> getOccupancyHistory(
+            @RequestParam(defaultValue = "TOTAL") OccupancyScope scope,
+            @RequestParam(required = false) String key,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) SampleResolution resolution) {
+        log.info("ADMIN CONTROLLER: GET /api/admin/analytics/occupancy-history invoked - scope: {}, key: {}", scope, key);
+        try {
+            return ResponseEntity.ok(occupancyHistoryService.getHistory(scope, key, from, to, resolution));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("ADMIN CONTROLLER: Error getting occupancy history", e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error retrieving occupancy history", e);
+        }
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        log.info("ADMIN CONTROLLER: GET /api/admin/cache/stats invoked");
+        return ResponseEntity.ok(resourceService.getCacheStats());
+    }
+
+    // GET /api/admin/outbox/events?after=0&limit=100 - the change stream in sequence order
+    @GetMapping("/outbox/events")
+    public ResponseEntity<List<OutboxEventDto>> getOutboxEvents(@RequestParam(defaultValue = "0") long after,
+                                                                @RequestParam(defaultValue = "100") int limit) {
+        log.info("ADMIN CONTROLLER: GET /api/admin/outbox/events invoked - after: {}, limit: {}", after, limit);
+        if (limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive");
+        }
+        return ResponseEntity.ok(outboxService.getEvents(after, Math.min(limit, 1000)));
+    }
+
+    @GetMapping("/outbox/consumers")
+    public ResponseEntity<List<OutboxConsumerDto>> getOutboxConsumers() {
+        log.info("ADMIN CONTROLLER: GET /api/admin/outbox/consumers invoked");
+        return ResponseEntity.ok(outboxService.getConsumers());
+    }
+
+    // POST /api/admin/outbox/consumers/{name}/reset?sequence=0 - replay the retained stream into a consumer
+    @PostMapping("/outbox/consumers/{name}/reset")
+    public ResponseEntity<Void> resetOutboxConsumer(@PathVariable String name, @RequestParam(defaultValue = "0") long sequence) {
+        log.info("ADMIN CONTROLLER: POST /api/admin/outbox/consumers/{}/reset - sequence: {}", name, sequence);
+        try {
+            outboxService.resetConsumer(name, sequence);
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     @GetMapping("/analytics/shelter-types")
     public ResponseEntity<List<ShelterTypeSummaryDto>> getShelterTypeSummary() {
         log.info("ADMIN CONTROLLER: GET /api/admin/analytics/shelter-types invoked");
@@ -1,10 +1,21 @@
 package com.sjhacks.sjhopes.controller;
 
 import com.sjhacks.sjhopes.mapper.ClientMapper;
+import com.sjhacks.sjhopes.mapper.ClientNoteMapper;
+import com.sjhacks.sjhopes.models.dto.ClientMatchDto;
+import com.sjhacks.sjhopes.models.dto.ClientNoteDto;
+import com.sjhacks.sjhopes.models.dto.ClientNoteRequestDto;
 import com.sjhacks.sjhopes.models.dto.ClientRequestDto;
 import com.sjhacks.sjhopes.models.dto.ClientResponseDto;
+import com.sjhacks.sjhopes.models.dto.ClientTransferRequestDto;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
 import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.ClientNote;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
 import com.sjhacks.sjhopes.service.ClientService;
+import com.sjhacks.sjhopes.service.ResourceService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,15 +33,23 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ClientController {
 
+    private static final int MAX_LOOKUP_LIMIT = 50;
+    private static final int MAX_NOTES_LIMIT = 100;
+
     @Autowired
     private ClientService clientService;
 
+    @Autowired
+    private ResourceService resourceService;
+
     // POST /api/clients - Register a new client
     @PostMapping
     public ResponseEntity<ClientResponseDto> registerClient(@Valid @RequestBody ClientRequestDto clientRequest) {
         try {
             Client registeredClient = clientService.registerClient(clientRequest);
             ClientResponseDto responseDto = ClientMapper.mapToResponseDTO(registeredClient);
+            // Registration isn't blocked, the caseworker decides whether one of these is the same person
+            responseDto.setPossibleDuplicates(clientService.findPossibleDuplicates(registeredClient));
             return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
         } catch (Exception e) {
             log.error("CONTROLLER: Error registering client", e);
@@ -47,6 +66,66 @@ public class ClientController {
                 .collect(Collectors.toList());
     }
 
+    // GET /api/clients/page?size=50&sort=LAST_UPDATED&cursor=... - keyset-paginated clients
+    @GetMapping("/page")
+    public PageResponseDto<ClientResponseDto> getClientPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "ID") ListingSort sort
+    ) {
+        log.info("CONTROLLER: GET /api/clients/page invoked - size: {}, sort: {}", size, sort);
+        try {
+            return clientService.getClientPage(cursor, size, sort).map(ClientMapper::mapToResponseDTO);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // GET /api/clients/lookup?q=jon smi&typeahead=true&limit=10 - fuzzy name match, best first
+    @GetMapping("/lookup")
+    public List<ClientMatchDto> lookupClients(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean typeahead
+    ) {
+        log.info("CONTROLLER: GET /api/clients/lookup invoked - q: '{}', typeahead: {}", q, typeahead);
+        if (q.isBlank() || limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must not be blank and limit must be positive");
+        }
+        return clientService.lookupClients(q, Math.min(limit, MAX_LOOKUP_LIMIT), typeahead);
+    }
+
+    // GET /api/clients/{id}/notes?before=123&limit=20 - newest notes first; pass the last id as `before` for older ones
+    @GetMapping("/{id}/notes")
+    public List<ClientNoteDto> getClientNotes(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        if (limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive");
+        }
+        try {
+            return clientService.getClientNotes(id, before, Math.min(limit, MAX_NOTES_LIMIT)).stream()
+                    .map(ClientNoteMapper::mapToResponseDTO)
+                    .toList();
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        }
+    }
+
+    // POST /api/clients/{id}/notes - append a note
+    @PostMapping("/{id}/notes")
+    public ResponseEntity<ClientNoteDto> addClientNote(@PathVariable Long id, @Valid @RequestBody ClientNoteRequestDto noteRequest) {
+        log.info("CONTROLLER: POST /api/clients/{}/notes", id);
+        try {
+            ClientNote note = clientService.appendClientNote(id, noteRequest.getText(), noteRequest.getAuthor());
+            return ResponseEntity.status(HttpStatus.CREATED).body(ClientNoteMapper.mapToResponseDTO(note));
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        }
+    }
+
     // GET /api/clients/{id} - Get a specific client
     @GetMapping("/{id}")
     public ResponseEntity<ClientResponseDto> getClientById(@PathVariable Long id) {
@@ -56,4 +135,34 @@ public class ClientController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // POST /api/clients/{id}/check-out?status=INACTIVE - client leaves their shelter, the bed goes back to inventory
+    @PostMapping("/{id}/check-out")
+    public ResponseEntity<Void> checkOutClient(@PathVariable Long id,
+                                               @RequestParam(defaultValue = "INACTIVE") ClientStatus status) {
+        log.info("CONTROLLER: POST /api/clients/{}/check-out as {}", id, status);
+        try {
+            if (!resourceService.checkOutClient(id, status)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Check-out failed: Client not found or not sheltered.");
+            }
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // POST /api/clients/{id}/transfer - move a sheltered client to another shelter in one step
+    @PostMapping("/{id}/transfer")
+    public ResponseEntity<Void> transferClient(@PathVariable Long id, @Valid @RequestBody ClientTransferRequestDto transferRequest) {
+        log.info("CONTROLLER: POST /api/clients/{}/transfer to shelter id: {}", id, transferRequest.getShelterId());
+        try {
+            if (!resourceService.transferClient(id, transferRequest.getShelterId())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Transfer failed: Shelter not found or no availability.");
+            }
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
 }
@@ -1,22 +1,30 @@
 package com.sjhacks.sjhopes.controller;
 
-import com.sjhacks.sjhopes.mapper.ShelterMapper;
+import com.sjhacks.sjhopes.mapper.BedHoldMapper;
+import com.sjhacks.sjhopes.models.dto.BedHoldRequestDto;
+import com.sjhacks.sjhopes.models.dto.BedHoldResponseDto;
+import com.sjhacks.sjhopes.models.dto.GroupReservationRequestDto;
+import com.sjhacks.sjhopes.models.dto.NearbyShelterDto;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
 import com.sjhacks.sjhopes.models.dto.ShelterReserveRequestDto;
 import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
-import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
 import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.service.AvailabilityStreamService;
+import com.sjhacks.sjhopes.service.BedHoldService;
 import com.sjhacks.sjhopes.service.ResourceService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -24,46 +32,94 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ResourceController {
 
+    private static final double MAX_NEARBY_RADIUS_KM = 500.0;
+    private static final int MAX_NEARBY_LIMIT = 100;
+
     @Autowired
     private ResourceService resourceService;
 
+    @Autowired
+    private AvailabilityStreamService availabilityStreamService;
+
+    @Autowired
+    private BedHoldService bedHoldService;
+
     // GET /api/shelters
     @GetMapping("/shelters")
     public List<ShelterResponseDto> getAllActiveShelters() {
         log.info("CONTROLLER: GET /api/shelters (active) invoked");
-        // Call the service method for active shelters
-        List<Shelter> shelters = resourceService.getAllActiveShelters();
-        // Map results to Response DTOs
-        return shelters.stream()
-                .map(ShelterMapper::mapToResponseDTO)
-                .collect(Collectors.toList());
+        // Served from the shelter cache, already mapped to Response DTOs
+        return resourceService.getAllActiveShelterDtos();
+    }
+
+    // GET /api/shelters/page?size=50&sort=ID&cursor=... - keyset-paginated active shelters
+    @GetMapping("/shelters/page")
+    public PageResponseDto<ShelterResponseDto> getActiveShelterPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "ID") ListingSort sort
+    ) {
+        log.info("CONTROLLER: GET /api/shelters/page invoked - size: {}, sort: {}", size, sort);
+        try {
+            return resourceService.getActiveShelterPage(cursor, size, sort);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // GET /api/shelters/stream - Server-Sent Events, "availability" events carry a JSON array of
+    // {shelterId, currentAvailability, active} deltas for shelters that changed since the last event
+    @GetMapping(value = "/shelters/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamShelterAvailability() {
+        log.info("CONTROLLER: GET /api/shelters/stream invoked ({} subscribers)", availabilityStreamService.getSubscriberCount());
+        return availabilityStreamService.subscribe();
     }
 
-    // GET /api/shelters/search?allowsPets=true&shelterType=TINY_HOME...
+    // GET /api/shelters/search?allowsPets=true&shelterType=TINY_HOME&minAvailability=4...
     @GetMapping("/shelters/search")
     public List<ShelterResponseDto> searchSheltersByCriteria(
             @RequestParam(required = false) Boolean allowsPets,
             @RequestParam(required = false) Boolean allowsPartner,
             @RequestParam(required = false) ShelterType shelterType,
-            @RequestParam(required = false) Boolean isActive // User can override active status here
+            @RequestParam(required = false) Boolean isActive, // User can override active status here
+            @RequestParam(defaultValue = "0") int minAvailability // e.g. family size for a group reservation
     ) {
-        log.info("CONTROLLER: GET /api/shelters/search invoked with filters - allowsPets: {}, allowsPartner: {}, shelterType: {}, isActive: {}",
-                allowsPets, allowsPartner, shelterType, isActive);
+        log.info("CONTROLLER: GET /api/shelters/search invoked with filters - allowsPets: {}, allowsPartner: {}, shelterType: {}, isActive: {}, minAvailability: {}",
+                allowsPets, allowsPartner, shelterType, isActive, minAvailability);
 
-        // Call the service method for searching with criteria
-        List<Shelter> shelters = resourceService.findSheltersByCriteria(allowsPets, allowsPartner, shelterType, isActive);
+        // Call the service method for searching with criteria (cached per criteria combination)
+        return resourceService.searchShelterDtos(allowsPets, allowsPartner, shelterType, isActive, minAvailability);
+    }
 
-        // Map results to Response DTOs
-        return shelters.stream()
-                .map(ShelterMapper::mapToResponseDTO)
-                .collect(Collectors.toList());
+    // GET /api/shelters/nearby?latitude=37.33&longitude=-121.89&radiusKm=10&limit=5&availableOnly=true
+    // minAvailability=N only returns shelters with at least N free beds (availableOnly is minAvailability=1)
+    @GetMapping("/shelters/nearby")
+    public List<NearbyShelterDto> findNearbyShelters(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "25") double radiusKm,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean availableOnly,
+            @RequestParam(defaultValue = "0") int minAvailability,
+            @RequestParam(required = false) Boolean allowsPets,
+            @RequestParam(required = false) Boolean allowsPartner,
+            @RequestParam(required = false) ShelterType shelterType
+    ) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Latitude/longitude out of range");
+        }
+        if (radiusKm <= 0 || limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "radiusKm and limit must be positive");
+        }
+        return resourceService.findNearbyShelters(latitude, longitude, Math.min(radiusKm, MAX_NEARBY_RADIUS_KM),
+                Math.min(limit, MAX_NEARBY_LIMIT), Math.max(minAvailability, availableOnly ? 1 : 0),
+                allowsPets, allowsPartner, shelterType);
     }
 
     // GET /api/shelters/{id} - Return single Response DTO
     @GetMapping("/shelters/{id}")
     public ResponseEntity<ShelterResponseDto> getShelterById(@PathVariable Long id) {
-        return resourceService.getShelterById(id)
-                .map(ShelterMapper::mapToResponseDTO)
+        return resourceService.getShelterDtoById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -89,4 +145,77 @@ public class ResourceController {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Error processing reservation", e);
         }
     }
+
+    // POST /api/shelters/{id}/reserve-group - N beds for N clients (e.g. a family), all placed or none
+    @PostMapping("/shelters/{id}/reserve-group")
+    public ResponseEntity<Void> reserveGroup(@PathVariable Long id, @Valid @RequestBody GroupReservationRequestDto groupRequest) {
+        List<Long> clientIds = groupRequest.getClientIds();
+        log.info("CONTROLLER: POST /api/shelters/{}/reserve-group for clients: {}", id, clientIds);
+        if (clientIds.stream().distinct().count() != clientIds.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Client IDs must be unique");
+        }
+        try {
+            if (!resourceService.reserveGroup(id, clientIds)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Reservation failed: Shelter not found or fewer than " + clientIds.size() + " beds available.");
+            }
+            return ResponseEntity.ok().build();
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, enfe.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    // POST /api/shelters/{id}/holds - take a bed out of availability for ttlMinutes while the client is on the way
+    @PostMapping("/shelters/{id}/holds")
+    public ResponseEntity<BedHoldResponseDto> holdBed(@PathVariable Long id, @Valid @RequestBody BedHoldRequestDto holdRequest) {
+        log.info("CONTROLLER: POST /api/shelters/{}/holds for client id: {}", id, holdRequest.getClientId());
+        try {
+            return bedHoldService.holdBed(id, holdRequest.getClientId(), holdRequest.getTtlMinutes())
+                    .map(hold -> ResponseEntity.status(HttpStatus.CREATED).body(BedHoldMapper.mapToResponseDTO(hold)))
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Hold failed: Shelter not found or no availability."));
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // GET /api/shelters/holds/{holdId}
+    @GetMapping("/shelters/holds/{holdId}")
+    public ResponseEntity<BedHoldResponseDto> getHold(@PathVariable Long holdId) {
+        return bedHoldService.getHold(holdId)
+                .map(BedHoldMapper::mapToResponseDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // PUT /api/shelters/holds/{holdId}/confirm - client arrived, the hold becomes a placement
+    @PutMapping("/shelters/holds/{holdId}/confirm")
+    public ResponseEntity<Void> confirmHold(@PathVariable Long holdId) {
+        log.info("CONTROLLER: PUT /api/shelters/holds/{}/confirm", holdId);
+        try {
+            if (!bedHoldService.confirmHold(holdId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Confirm failed: Hold is no longer active.");
+            }
+            return ResponseEntity.ok().build();
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        }
+    }
+
+    // DELETE /api/shelters/holds/{holdId} - give the bed back before the hold expires
+    @DeleteMapping("/shelters/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable Long holdId) {
+        log.info("CONTROLLER: DELETE /api/shelters/holds/{}", holdId);
+        try {
+            if (!bedHoldService.releaseHold(holdId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Release failed: Hold is no longer active.");
+            }
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.sjhacks.sjhopes.controller;
+
+import com.sjhacks.sjhopes.models.dto.SearchHitDto;
+import com.sjhacks.sjhopes.models.enums.SearchDocType;
+import com.sjhacks.sjhopes.service.SearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+@Slf4j
+public class SearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private SearchService searchService;
+
+    // GET /api/search?q=women only&type=SHELTER&limit=20 - ranked full-text matches with snippets
+    @GetMapping
+    public List<SearchHitDto> search(
+            @RequestParam String q,
+            @RequestParam(required = false) SearchDocType type,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        log.info("CONTROLLER: GET /api/search invoked - q: '{}', type: {}, limit: {}", q, type, limit);
+        if (q.isBlank() || limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must not be blank and limit must be positive");
+        }
+        return searchService.search(q, type, Math.min(limit, MAX_LIMIT));
+    }
+}
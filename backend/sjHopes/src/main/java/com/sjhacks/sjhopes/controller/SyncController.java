@@ -0,0 +1,39 @@
+package com.sjhacks.sjhopes.controller;
+
+import com.sjhacks.sjhopes.models.dto.SyncChangesDto;
+import com.sjhacks.sjhopes.service.SyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*")
+@Slf4j
+public class SyncController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private SyncService syncService;
+
+    // GET /api/sync/changes?since=<watermark>&limit=200 - shelters, tasks and clients changed since
+    // the watermark plus tombstones for deletes; omit since for the first (full) download
+    @GetMapping("/changes")
+    public SyncChangesDto getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "200") int limit
+    ) {
+        log.info("CONTROLLER: GET /api/sync/changes invoked - incremental: {}, limit: {}", since != null, limit);
+        if (limit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive");
+        }
+        try {
+            return syncService.getChanges(since, Math.min(limit, MAX_LIMIT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
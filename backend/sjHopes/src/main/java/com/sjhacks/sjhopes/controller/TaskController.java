@@ -1,18 +1,23 @@
 package com.sjhacks.sjhopes.controller;
 
 import com.sjhacks.sjhopes.mapper.TaskMapper;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
 import com.sjhacks.sjhopes.models.dto.TaskAssignRequestDto;
 import com.sjhacks.sjhopes.models.dto.TaskResponseDto;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
 import com.sjhacks.sjhopes.service.TaskService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,6 +39,56 @@ public class TaskController {
                 .collect(Collectors.toList());
     }
 
+    // GET /api/tasks/page?size=50&sort=LAST_UPDATED&cursor=... - keyset-paginated tasks
+    @GetMapping("/page")
+    public PageResponseDto<TaskResponseDto> getTaskPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "ID") ListingSort sort
+    ) {
+        log.info("CONTROLLER: GET /api/tasks/page invoked - size: {}, sort: {}", size, sort);
+        try {
+            return taskService.getTaskPage(cursor, size, sort).map(TaskMapper::mapToResponseDTO);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // GET /api/tasks/search?status=OPEN&clientId=5&from=2025-06-01T00:00:00&to=2025-06-08T00:00:00&limit=50
+    // Any filter may be omitted; results are ordered by taskDateTime (unscheduled first), then id
+    @GetMapping("/search")
+    public List<TaskResponseDto> searchTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Long clientId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("CONTROLLER: GET /api/tasks/search invoked - status: {}, clientId: {}", status, clientId);
+        try {
+            return taskService.searchTasks(status, clientId, from, to, limit).stream()
+                    .map(TaskMapper::mapToResponseDTO)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // GET /api/tasks/upcoming?from=...&to=...&limit=50 - OPEN scheduled tasks, soonest first (default: next 7 days)
+    @GetMapping("/upcoming")
+    public List<TaskResponseDto> getUpcomingTasks(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("CONTROLLER: GET /api/tasks/upcoming invoked - from: {}, to: {}", from, to);
+        try {
+            return taskService.getUpcomingOpenTasks(from, to, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     // GET /api/tasks/{id} - Return single Response DTO
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id) {
@@ -0,0 +1,77 @@
+package com.sjhacks.sjhopes.controller;
+
+import com.sjhacks.sjhopes.models.dto.WaitlistEntryDto;
+import com.sjhacks.sjhopes.models.dto.WaitlistRequestDto;
+import com.sjhacks.sjhopes.service.WaitlistService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@CrossOrigin(origins = "*")
+@Slf4j
+public class WaitlistController {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Value("${sjhopes.waitlist.max-await-seconds:60}")
+    private int maxAwaitSeconds;
+
+    // POST /api/waitlist - queue a client for a full shelter (shelterId) or any shelter of a type (shelterType)
+    @PostMapping
+    public ResponseEntity<WaitlistEntryDto> joinWaitlist(@Valid @RequestBody WaitlistRequestDto waitlistRequest) {
+        log.info("CONTROLLER: POST /api/waitlist for client id: {}", waitlistRequest.getClientId());
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(waitlistService.join(waitlistRequest));
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    // GET /api/waitlist/{id} - current status and queue position
+    @GetMapping("/{id}")
+    public ResponseEntity<WaitlistEntryDto> getEntry(@PathVariable Long id) {
+        return waitlistService.getEntry(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // GET /api/waitlist/{id}/await?timeoutSeconds=30 - long poll, returns once the entry is placed or cancelled
+    @GetMapping("/{id}/await")
+    public DeferredResult<WaitlistEntryDto> awaitEntry(@PathVariable Long id,
+                                                       @RequestParam(defaultValue = "30") int timeoutSeconds) {
+        int timeout = Math.max(1, Math.min(timeoutSeconds, maxAwaitSeconds));
+        try {
+            return waitlistService.awaitResolution(id, timeout * 1000L);
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        }
+    }
+
+    // DELETE /api/waitlist/{id} - leave the waitlist
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelEntry(@PathVariable Long id) {
+        log.info("CONTROLLER: DELETE /api/waitlist/{}", id);
+        try {
+            if (!waitlistService.cancel(id)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cancel failed: Entry is no longer waiting.");
+            }
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException enfe) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, enfe.getMessage());
+        }
+    }
+}
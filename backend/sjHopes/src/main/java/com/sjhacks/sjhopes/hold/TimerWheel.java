@@ -0,0 +1,70 @@
+package com.sjhacks.sjhopes.hold;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Hashed timer wheel: deadlines hash into a ring of tick-sized slots, and each tick only looks at
+// one slot. Scheduling and cancelling are O(1), and a tick costs the size of one slot, so tens of
+// thousands of pending deadlines need neither a thread each nor a full scan.
+public final class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Map<K, Long>> slots;     // key -> deadline (epoch millis)
+    private final Map<K, Integer> slotOfKey = new HashMap<>();
+    private long currentTick;                   // Last tick that has been processed
+
+    public TimerWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = slotCount - 1;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) slots.add(new HashMap<>());
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    // (Re)schedules key; a deadline already in the past fires on the next advance
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // Round up so the slot is only visited once the deadline has passed
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        int slot = (int) (tick & mask);
+        slots.get(slot).put(key, deadlineMillis);
+        slotOfKey.put(key, slot);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Integer slot = slotOfKey.remove(key);
+        return slot != null && slots.get(slot).remove(key) != null;
+    }
+
+    public synchronized int size() {
+        return slotOfKey.size();
+    }
+
+    // Removes and returns every key whose deadline is <= nowMillis
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> due = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        // Past one full turn every slot has been visited; later ticks would repeat them
+        long firstTick = Math.max(currentTick + 1, targetTick - mask);
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            Iterator<Map.Entry<K, Long>> it = slots.get((int) (tick & mask)).entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Long> entry = it.next();
+                if (entry.getValue() <= nowMillis) { // Later entries in this slot belong to a future turn
+                    due.add(entry.getKey());
+                    slotOfKey.remove(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return due;
+    }
+}
@@ -0,0 +1,211 @@
+package com.sjhacks.sjhopes.index;
+
+import com.sjhacks.sjhopes.models.enums.ClientChangeType;
+import com.sjhacks.sjhopes.models.event.ClientChangedEvent;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Trigram index over client names for fuzzy lookup. Names are normalized (case, accents,
+// punctuation) and split into padded trigrams like pg_trgm, so "Jon Smyth" still finds
+// "John Smith". Each trigram maps to a sorted list of dense slots; a query only walks the
+// rarest few lists to collect candidates (any match above the threshold must share one of
+// them) and checks the rest with binary search, so common trigrams never get scanned.
+@Component
+@Slf4j
+public class ClientNameIndex {
+
+    public record Match(long clientId, String name, double similarity) {
+    }
+
+    private static final int LOAD_BATCH = 10_000;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private long[] clientIds = new long[1024];
+    private String[] names = new String[1024];
+    private int[] trigramCounts = new int[1024];
+    private int size;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slotById.clear();
+            size = 0;
+            long afterId = 0;
+            List<Object[]> batch;
+            do {
+                batch = clientRepository.findIdAndNamePage(afterId, PageRequest.of(0, LOAD_BATCH));
+                for (Object[] row : batch) {
+                    afterId = (Long) row[0];
+                    putLocked(afterId, (String) row[1]);
+                }
+            } while (batch.size() == LOAD_BATCH);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Index: Client name index built with {} clients and {} trigrams", size, postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientChangedEvent event) {
+        if (event.getChangeType() != ClientChangeType.REGISTERED) return;
+        lock.writeLock().lock();
+        try {
+            putLocked(event.getClientId(), event.getName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Best matches for the query, most similar first. Similarity is trigram Jaccard; with prefix=true
+    // the last word is treated as still being typed, and a name only has to contain minSimilarity
+    // of the query's trigrams to qualify.
+    public List<Match> search(String query, int limit, double minSimilarity, boolean prefix) {
+        long[] wanted = trigrams(query, prefix).stream().mapToLong(Long::longValue).toArray();
+        if (wanted.length == 0 || limit <= 0) return List.of();
+        int required = Math.max(1, (int) Math.ceil(minSimilarity * wanted.length));
+
+        lock.readLock().lock();
+        try {
+            IntList[] lists = new IntList[wanted.length];
+            for (int i = 0; i < wanted.length; i++) {
+                lists[i] = postings.getOrDefault(wanted[i], IntList.EMPTY);
+            }
+            Arrays.sort(lists, Comparator.comparingInt(IntList::size));
+
+            // A name sharing `required` of the trigrams is in at least one of the rarest (n - required + 1)
+            int probeLists = wanted.length - required + 1;
+            Map<Integer, Integer> shared = new HashMap<>();
+            for (int i = 0; i < probeLists; i++) {
+                IntList list = lists[i];
+                for (int j = 0; j < list.size; j++) {
+                    shared.merge(list.values[j], 1, Integer::sum);
+                }
+            }
+
+            PriorityQueue<Match> top = new PriorityQueue<>(Comparator.comparingDouble(Match::similarity));
+            for (Map.Entry<Integer, Integer> candidate : shared.entrySet()) {
+                int slot = candidate.getKey();
+                int count = candidate.getValue();
+                for (int i = probeLists; i < lists.length; i++) {
+                    if (lists[i].contains(slot)) count++;
+                }
+                if (count < required) continue;
+                double similarity = (double) count / (wanted.length + trigramCounts[slot] - count);
+                if (!prefix && similarity < minSimilarity) continue;
+                if (top.size() < limit) {
+                    top.add(new Match(clientIds[slot], names[slot], similarity));
+                } else if (similarity > top.peek().similarity()) {
+                    top.poll();
+                    top.add(new Match(clientIds[slot], names[slot], similarity));
+                }
+            }
+            List<Match> matches = new ArrayList<>(top);
+            matches.sort(Comparator.comparingDouble(Match::similarity).reversed().thenComparingLong(Match::clientId));
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Clients are never renamed or deleted today, so a known id is left alone
+    private void putLocked(long clientId, String name) {
+        if (slotById.containsKey(clientId)) return;
+        if (size == clientIds.length) {
+            int capacity = size * 2;
+            clientIds = Arrays.copyOf(clientIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            trigramCounts = Arrays.copyOf(trigramCounts, capacity);
+        }
+        int slot = size++;
+        Set<Long> grams = trigrams(name, false);
+        clientIds[slot] = clientId;
+        names[slot] = name;
+        trigramCounts[slot] = grams.size();
+        slotById.put(clientId, slot);
+        for (long gram : grams) {
+            postings.computeIfAbsent(gram, key -> new IntList()).add(slot); // Slots only grow, lists stay sorted
+        }
+    }
+
+    // "  w", " wo", "wor", "ord", "rd " per word; the last word has no closing trigram while typing
+    static Set<Long> trigrams(String text, boolean openEnded) {
+        Set<Long> grams = new LinkedHashSet<>();
+        if (text == null) return grams;
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+        if (normalized.isEmpty()) return grams;
+        String[] words = normalized.split(" ");
+        for (int w = 0; w < words.length; w++) {
+            boolean open = openEnded && w == words.length - 1;
+            String padded = "  " + words[w] + (open ? "" : " ");
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(pack(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2)));
+            }
+        }
+        return grams;
+    }
+
+    private static long pack(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    // Growable sorted int array, far smaller than a List<Integer> per trigram
+    private static final class IntList {
+        static final IntList EMPTY = new IntList();
+
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
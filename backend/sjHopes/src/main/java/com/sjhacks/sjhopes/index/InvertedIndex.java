@@ -0,0 +1,199 @@
+package com.sjhacks.sjhopes.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Small in-memory inverted index: term -> (doc id -> term frequency), ranked with BM25.
+// Terms live in a sorted map so a query token also matches every term it prefixes
+// ("vet" finds "veterans"), at a discount against exact matches.
+public final class InvertedIndex {
+
+    public record Hit(long id, double score) {
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.7;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int SNIPPET_RADIUS = 60;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "with");
+
+    private record Doc(int length, String[] terms, String text) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+
+    // Lower-cased alphanumeric runs, stop words dropped
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    // termFreqs is already weighted by field (see TextSearchIndex); text is kept for snippets
+    public void put(long id, Map<String, Integer> termFreqs, String text) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (termFreqs.isEmpty()) return;
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(id, entry.getValue());
+                length += entry.getValue();
+            }
+            docs.put(id, new Doc(length, termFreqs.keySet().toArray(String[]::new), text));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docs.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Best `limit` documents for the query, highest score first. Any token may match (OR);
+    // documents matching more of them naturally score higher.
+    public List<Hit> search(String query, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            if (docs.isEmpty()) return List.of();
+            double docCount = docs.size();
+            double avgLength = (double) totalLength / docs.size();
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String token : tokens) {
+                // Per token a doc scores its best matching term, so "vet" + "veteran" + "veterans" don't stack
+                Map<Long, Double> best = new HashMap<>();
+                Map<Long, Integer> exact = postings.get(token);
+                if (exact != null) {
+                    score(exact, 1.0, docCount, avgLength, best);
+                }
+                if (token.length() >= MIN_PREFIX_LENGTH) {
+                    int expansions = 0;
+                    for (Map.Entry<String, Map<Long, Integer>> entry
+                            : postings.subMap(token, false, token + Character.MAX_VALUE, false).entrySet()) {
+                        if (++expansions > MAX_PREFIX_EXPANSIONS) break;
+                        score(entry.getValue(), PREFIX_WEIGHT, docCount, avgLength, best);
+                    }
+                }
+                best.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            scores.forEach((id, score) -> {
+                if (top.size() < limit) {
+                    top.add(new Hit(id, score));
+                } else if (score > top.peek().score()) {
+                    top.poll();
+                    top.add(new Hit(id, score));
+                }
+            });
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Window of the stored text around the first word starting with a query token
+    public String snippet(long id, String query) {
+        Doc doc;
+        lock.readLock().lock();
+        try {
+            doc = docs.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (doc == null || doc.text() == null) return null;
+        String text = doc.text();
+        String lower = text.toLowerCase(Locale.ROOT);
+
+        int hit = -1;
+        for (String token : tokenize(query)) {
+            for (int at = lower.indexOf(token); at >= 0; at = lower.indexOf(token, at + 1)) {
+                if (at == 0 || !Character.isLetterOrDigit(lower.charAt(at - 1))) {
+                    if (hit < 0 || at < hit) hit = at;
+                    break;
+                }
+            }
+        }
+        if (hit < 0) hit = 0;
+        int start = Math.max(0, hit - SNIPPET_RADIUS);
+        int end = Math.min(text.length(), hit + SNIPPET_RADIUS);
+        return (start > 0 ? "..." : "") + text.substring(start, end).strip() + (end < text.length() ? "..." : "");
+    }
+
+    private void score(Map<Long, Integer> posting, double weight, double docCount, double avgLength, Map<Long, Double> best) {
+        double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+        for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+            Doc doc = docs.get(entry.getKey());
+            double tf = entry.getValue();
+            double score = weight * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * doc.length() / avgLength));
+            best.merge(entry.getKey(), score, Math::max);
+        }
+    }
+
+    private void removeLocked(long id) {
+        Doc doc = docs.remove(id);
+        if (doc == null) return;
+        for (String term : doc.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) postings.remove(term);
+            }
+        }
+        totalLength -= doc.length();
+    }
+}
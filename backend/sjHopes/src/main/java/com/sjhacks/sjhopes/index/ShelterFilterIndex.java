@@ -0,0 +1,256 @@
+package com.sjhacks.sjhopes.index;
+
+import com.sjhacks.sjhopes.mapper.ShelterMapper;
+import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.service.BedInventoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Bitmap index behind the shelter search. Every shelter gets a slot number, assigned in id order;
+// one bitmap per boolean column and per ShelterType marks the slots that match, so a search is a
+// few BitSet ANDs and a walk over the set bits into the slot -> DTO table, already sorted by id.
+// Kept current from ShelterChangedEvent.
+@Component
+@Slf4j
+public class ShelterFilterIndex {
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final List<ShelterResponseDto> dtoBySlot = new ArrayList<>(); // null for deleted shelters
+    private long lastId = Long.MIN_VALUE; // Id in the highest slot handed out
+    private int holes;                    // Slots left empty by deletes, reclaimed by compacting
+
+    // Events that arrive while rebuild() is reading from the database; replayed on top of the snapshot
+    private List<ShelterChangedEvent> buffered;
+
+    private final BitSet present = new BitSet();
+    private final BitSet allowsPets = new BitSet();
+    private final BitSet allowsPartner = new BitSet();
+    private final BitSet active = new BitSet();
+    private final Map<ShelterType, BitSet> byType = new EnumMap<>(ShelterType.class);
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuild(shelterRepository::findAll);
+    }
+
+    // The read runs outside the lock so searches keep working; changes committed meanwhile are
+    // buffered and applied on top of the snapshot
+    void rebuild(Supplier<List<Shelter>> source) {
+        lock.writeLock().lock();
+        try {
+            buffered = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Shelter> shelters;
+        try {
+            shelters = source.get();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try { // Keep the index we had, plus what changed since
+                buffered.forEach(this::apply);
+                buffered = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        List<ShelterResponseDto> dtos = new ArrayList<>(shelters.size());
+        for (Shelter shelter : shelters) {
+            bedInventory.overlay(shelter);
+            dtos.add(ShelterMapper.mapToResponseDTO(shelter));
+        }
+        lock.writeLock().lock();
+        try {
+            layOut(dtos);
+            buffered.forEach(this::apply);
+            buffered = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Index: Filter index built with {} shelters", shelters.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShelterChanged(ShelterChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (buffered != null) {
+                buffered.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // null filter = any value; slots are in id order, so results come out like the repository query
+    public List<ShelterResponseDto> search(Boolean pets, Boolean partner, ShelterType shelterType, Boolean isActive,
+                                           int minAvailability) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) present.clone();
+            and(matches, allowsPets, pets);
+            and(matches, allowsPartner, partner);
+            and(matches, active, isActive);
+            if (shelterType != null) {
+                matches.and(Optional.ofNullable(byType.get(shelterType)).orElseGet(BitSet::new));
+            }
+
+            List<ShelterResponseDto> result = new ArrayList<>(matches.cardinality());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                ShelterResponseDto dto = dtoBySlot.get(slot);
+                if (dto.getCurrentAvailability() >= minAvailability) {
+                    result.add(dto);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Applies a tri-state filter: TRUE keeps the set bits, FALSE keeps the clear ones
+    private static void and(BitSet matches, BitSet column, Boolean wanted) {
+        if (wanted == null) return;
+        if (wanted) matches.and(column);
+        else matches.andNot(column);
+    }
+
+    // Callers hold the write lock from here on
+    private void apply(ShelterChangedEvent event) {
+        switch (event.getChangeType()) {
+            case SAVED -> {
+                ShelterResponseDto dto = ShelterMapper.mapToResponseDTO(event.getShelter());
+                dto.setCurrentAvailability(liveAvailability(dto.getId(), dto.getCurrentAvailability()));
+                put(dto);
+            }
+            case AVAILABILITY_CHANGED -> {
+                Integer slot = slotById.get(event.getShelterId());
+                if (slot != null) { // Replace, never mutate - readers may be serializing the old one
+                    dtoBySlot.set(slot, ShelterMapper.withAvailability(dtoBySlot.get(slot),
+                            liveAvailability(event.getShelterId(), event.getCurrentAvailability())));
+                }
+            }
+            case DELETED -> remove(event.getShelterId());
+        }
+    }
+
+    // Events are delivered on their committing threads, so two for one shelter can arrive in either
+    // order. The count is re-read here, under the write lock, instead of taken from the event: the
+    // last event applied always leaves the latest count behind.
+    private int liveAvailability(Long shelterId, int fromEvent) {
+        OptionalInt live = bedInventory.getAvailability(shelterId);
+        if (live.isPresent()) {
+            return live.getAsInt();
+        }
+        return shelterRepository.findAvailabilityById(shelterId).orElse(fromEvent);
+    }
+
+    private void put(ShelterResponseDto dto) {
+        Integer existing = slotById.get(dto.getId());
+        if (existing != null) {
+            fill(existing, dto);
+        } else if (dto.getId() > lastId) {
+            append(dto);
+        } else { // Ids normally only grow; one arriving out of order means laying the table out again
+            List<ShelterResponseDto> dtos = liveDtos();
+            dtos.add(dto);
+            layOut(dtos);
+        }
+    }
+
+    private void remove(Long shelterId) {
+        Integer removed = slotById.remove(shelterId);
+        if (removed == null) return;
+        int slot = removed;
+        dtoBySlot.set(slot, null);
+        present.clear(slot);
+        allowsPets.clear(slot);
+        allowsPartner.clear(slot);
+        active.clear(slot);
+        byType.values().forEach(bits -> bits.clear(slot));
+        if (++holes > slotById.size()) {
+            layOut(liveDtos()); // Mostly holes, compact
+        }
+    }
+
+    private void layOut(List<ShelterResponseDto> dtos) {
+        dtos.sort(Comparator.comparing(ShelterResponseDto::getId));
+        slotById.clear();
+        dtoBySlot.clear();
+        lastId = Long.MIN_VALUE;
+        holes = 0;
+        present.clear();
+        allowsPets.clear();
+        allowsPartner.clear();
+        active.clear();
+        byType.clear();
+        dtos.forEach(this::append);
+    }
+
+    private void append(ShelterResponseDto dto) {
+        int slot = dtoBySlot.size();
+        dtoBySlot.add(dto);
+        slotById.put(dto.getId(), slot);
+        lastId = dto.getId();
+        fill(slot, dto);
+    }
+
+    private void fill(int slot, ShelterResponseDto dto) {
+        dtoBySlot.set(slot, dto);
+        present.set(slot);
+        allowsPets.set(slot, dto.isAllowsPets());
+        allowsPartner.set(slot, dto.isAllowsPartner());
+        active.set(slot, dto.isActive());
+        byType.values().forEach(bits -> bits.clear(slot));
+        if (dto.getShelterType() != null) {
+            byType.computeIfAbsent(dto.getShelterType(), type -> new BitSet()).set(slot);
+        }
+    }
+
+    private List<ShelterResponseDto> liveDtos() {
+        List<ShelterResponseDto> dtos = new ArrayList<>(slotById.size());
+        for (ShelterResponseDto dto : dtoBySlot) {
+            if (dto != null) dtos.add(dto);
+        }
+        return dtos;
+    }
+}
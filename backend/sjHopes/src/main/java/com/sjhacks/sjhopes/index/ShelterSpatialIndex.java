@@ -0,0 +1,281 @@
+package com.sjhacks.sjhopes.index;
+
+import com.sjhacks.sjhopes.models.dto.NearbyShelterDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.service.BedInventoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Uniform lat/lng grid over active shelters. A lookup only visits the grid cells around
+// the query point (ring by ring), so cost depends on local density, not directory size.
+@Component
+@Slf4j
+public class ShelterSpatialIndex {
+
+    private static final double CELL_DEGREES = 0.05; // ~5.5 km north-south
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    // Swapped whole by rebuild(), so lookups never see a half-filled grid
+    private volatile Grid grid = new Grid();
+
+    // Events that arrive while rebuild() is reading from the database; replayed onto the new grid
+    private List<ShelterChangedEvent> buffered;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuild(() -> shelterRepository.findAllByIsActive(true));
+    }
+
+    void rebuild(Supplier<List<Shelter>> source) {
+        synchronized (this) {
+            buffered = new ArrayList<>();
+        }
+        Grid fresh = new Grid();
+        try {
+            for (Shelter shelter : source.get()) {
+                bedInventory.overlay(shelter);
+                fresh.put(new Entry(shelter));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) { // Keep the grid we had, plus what changed since
+                buffered.forEach(this::apply);
+                buffered = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            grid = fresh;
+            buffered.forEach(this::apply);
+            buffered = null;
+        }
+        log.info("Index: Spatial index built with {} active shelters", fresh.entries.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onShelterChanged(ShelterChangedEvent event) {
+        if (buffered != null) {
+            buffered.add(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    // k nearest active shelters within radiusKm that pass the filters, closest first
+    public List<NearbyShelterDto> findNearest(double latitude, double longitude, double radiusKm, int limit,
+                                              int minAvailability, Boolean allowsPets, Boolean allowsPartner,
+                                              ShelterType shelterType) {
+        // Max-heap on distance holding the best `limit` candidates seen so far
+        PriorityQueue<Candidate> best = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distanceKm).reversed());
+
+        Grid grid = this.grid;
+        double cellKm = cellSizeKm(latitude);
+        int maxRing = (int) Math.ceil(radiusKm / cellKm) + 1;
+        long ringCells = (2L * maxRing + 1) * (2L * maxRing + 1);
+
+        if (ringCells > grid.entries.size()) {
+            // Radius covers more cells than there are shelters, a straight scan is cheaper
+            for (Entry entry : grid.entries.values()) {
+                offer(best, entry, latitude, longitude, radiusKm, limit, minAvailability, allowsPets, allowsPartner, shelterType);
+            }
+        } else {
+            int row = row(latitude);
+            int col = col(longitude);
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // Nothing in this ring or beyond can be closer than (ring - 1) cells away
+                if (best.size() == limit && best.peek().distanceKm() < (ring - 1) * cellKm) {
+                    break;
+                }
+                for (int dr = -ring; dr <= ring; dr++) {
+                    boolean edgeRow = Math.abs(dr) == ring;
+                    for (int dc = -ring; dc <= ring; dc += edgeRow ? 1 : 2 * ring) {
+                        Set<Long> ids = grid.cells.get(key(row + dr, col + dc));
+                        if (ids == null) continue;
+                        for (Long id : ids) {
+                            Entry entry = grid.entries.get(id);
+                            if (entry != null) {
+                                offer(best, entry, latitude, longitude, radiusKm, limit, minAvailability,
+                                        allowsPets, allowsPartner, shelterType);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        List<NearbyShelterDto> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Candidate candidate = best.poll();
+            result.add(0, candidate.entry().toDto(candidate.distanceKm()));
+        }
+        return result;
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void offer(PriorityQueue<Candidate> best, Entry entry, double latitude, double longitude, double radiusKm,
+                       int limit, int minAvailability, Boolean allowsPets, Boolean allowsPartner, ShelterType shelterType) {
+        if (entry.currentAvailability < minAvailability) return;
+        if (allowsPets != null && entry.allowsPets != allowsPets) return;
+        if (allowsPartner != null && entry.allowsPartner != allowsPartner) return;
+        if (shelterType != null && entry.shelterType != shelterType) return;
+
+        double distance = distanceKm(latitude, longitude, entry.latitude, entry.longitude);
+        if (distance > radiusKm) return;
+        if (best.size() < limit) {
+            best.add(new Candidate(entry, distance));
+        } else if (distance < best.peek().distanceKm()) {
+            best.poll();
+            best.add(new Candidate(entry, distance));
+        }
+    }
+
+    // Callers hold the monitor from here on
+    private void apply(ShelterChangedEvent event) {
+        switch (event.getChangeType()) {
+            case SAVED -> {
+                Shelter shelter = event.getShelter();
+                if (shelter.isActive()) {
+                    grid.put(new Entry(shelter).withAvailability(
+                            liveAvailability(shelter.getId(), shelter.getCurrentAvailability())));
+                } else {
+                    grid.remove(event.getShelterId());
+                }
+            }
+            case AVAILABILITY_CHANGED -> {
+                Entry entry = grid.entries.get(event.getShelterId());
+                if (entry != null) {
+                    grid.put(entry.withAvailability(liveAvailability(event.getShelterId(), event.getCurrentAvailability())));
+                }
+            }
+            case DELETED -> grid.remove(event.getShelterId());
+        }
+    }
+
+    // Availability events can be delivered out of order; the counter always holds the latest
+    private int liveAvailability(Long shelterId, int fromEvent) {
+        OptionalInt live = bedInventory.getAvailability(shelterId);
+        if (live.isPresent()) {
+            return live.getAsInt();
+        }
+        return shelterRepository.findAvailabilityById(shelterId).orElse(fromEvent);
+    }
+
+    // Smallest side of a cell at this latitude, used as the per-ring distance bound
+    private static double cellSizeKm(double latitude) {
+        return CELL_DEGREES * KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(Math.abs(latitude) + CELL_DEGREES)));
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int col(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private record Candidate(Entry entry, double distanceKm) {
+    }
+
+    private static final class Grid {
+        private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+        void put(Entry entry) {
+            Entry previous = entries.put(entry.id, entry);
+            if (previous != null && previous.cell != entry.cell) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(entry.cell, key -> ConcurrentHashMap.newKeySet()).add(entry.id);
+        }
+
+        void remove(Long shelterId) {
+            Entry previous = entries.remove(shelterId);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+        }
+
+        private void removeFromCell(Entry entry) {
+            cells.computeIfPresent(entry.cell, (key, ids) -> {
+                ids.remove(entry.id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    // Immutable snapshot of the fields the index filters on; replaced, never mutated
+    private static final class Entry {
+        private final Long id;
+        private final String name;
+        private final double latitude;
+        private final double longitude;
+        private final long cell;
+        private final int totalCapacity;
+        private final int currentAvailability;
+        private final ShelterType shelterType;
+        private final boolean allowsPets;
+        private final boolean allowsPartner;
+
+        Entry(Shelter shelter) {
+            this(shelter.getId(), shelter.getName(), shelter.getLatitude(), shelter.getLongitude(),
+                    shelter.getTotalCapacity(), shelter.getCurrentAvailability(), shelter.getShelterType(),
+                    shelter.isAllowsPets(), shelter.isAllowsPartner());
+        }
+
+        private Entry(Long id, String name, double latitude, double longitude, int totalCapacity,
+                      int currentAvailability, ShelterType shelterType, boolean allowsPets, boolean allowsPartner) {
+            this.id = id;
+            this.name = name;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cell = key(row(latitude), col(longitude));
+            this.totalCapacity = totalCapacity;
+            this.currentAvailability = currentAvailability;
+            this.shelterType = shelterType;
+            this.allowsPets = allowsPets;
+            this.allowsPartner = allowsPartner;
+        }
+
+        Entry withAvailability(int availability) {
+            return new Entry(id, name, latitude, longitude, totalCapacity, availability, shelterType, allowsPets, allowsPartner);
+        }
+
+        NearbyShelterDto toDto(double distanceKm) {
+            return new NearbyShelterDto(id, name, latitude, longitude, Math.round(distanceKm * 100.0) / 100.0,
+                    totalCapacity, currentAvailability, shelterType, allowsPets, allowsPartner);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.sjhacks.sjhopes.index;
+
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.models.event.TaskChangedEvent;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Full-text indexes over active shelters (name, organization, description) and tasks
+// (title, location, description). Names and titles count 3x so they outrank passing mentions.
+// Built on startup, then updated per document from the change events.
+@Component
+@Slf4j
+public class TextSearchIndex {
+
+    private static final int TITLE_BOOST = 3;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final InvertedIndex shelters = new InvertedIndex();
+    private final InvertedIndex tasks = new InvertedIndex();
+
+    private final Map<Long, String> shelterNames = new ConcurrentHashMap<>();
+    private final Map<Long, String> taskTitles = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        shelters.clear();
+        tasks.clear();
+        shelterNames.clear();
+        taskTitles.clear();
+        shelterRepository.findAllByIsActive(true).forEach(this::putShelter);
+        taskRepository.findAll().forEach(this::putTask);
+        log.info("Index: Text index built with {} shelters and {} tasks", shelters.size(), tasks.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShelterChanged(ShelterChangedEvent event) {
+        switch (event.getChangeType()) {
+            case SAVED -> {
+                if (event.getShelter().isActive()) {
+                    putShelter(event.getShelter());
+                } else {
+                    removeShelter(event.getShelterId());
+                }
+            }
+            case DELETED -> removeShelter(event.getShelterId());
+            case AVAILABILITY_CHANGED -> { } // No text changed
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED, UPDATED -> putTask(event.getTask());
+            case DELETED -> {
+                tasks.remove(event.getTaskId());
+                taskTitles.remove(event.getTaskId());
+            }
+            case STATUS_CHANGED -> { } // No text changed
+        }
+    }
+
+    public InvertedIndex shelters() {
+        return shelters;
+    }
+
+    public InvertedIndex tasks() {
+        return tasks;
+    }
+
+    public String shelterName(long id) {
+        return shelterNames.get(id);
+    }
+
+    public String taskTitle(long id) {
+        return taskTitles.get(id);
+    }
+
+    private void putShelter(Shelter shelter) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, shelter.getName(), TITLE_BOOST);
+        addTerms(terms, shelter.getOperatingOrganization(), 1);
+        addTerms(terms, shelter.getDescription(), 1);
+        shelters.put(shelter.getId(), terms, join(shelter.getDescription(), shelter.getOperatingOrganization()));
+        shelterNames.put(shelter.getId(), shelter.getName());
+    }
+
+    private void removeShelter(Long shelterId) {
+        shelters.remove(shelterId);
+        shelterNames.remove(shelterId);
+    }
+
+    private void putTask(Task task) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, task.getTitle(), TITLE_BOOST);
+        addTerms(terms, task.getLocation(), 1);
+        addTerms(terms, task.getDescription(), 1);
+        tasks.put(task.getId(), terms, join(task.getDescription(), task.getLocation()));
+        taskTitles.put(task.getId(), task.getTitle());
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : InvertedIndex.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static String join(String first, String second) {
+        if (first == null || first.isBlank()) return second;
+        if (second == null || second.isBlank()) return first;
+        return first + " - " + second;
+    }
+}
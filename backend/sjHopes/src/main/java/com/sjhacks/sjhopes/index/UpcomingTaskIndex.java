@@ -0,0 +1,104 @@
+package com.sjhacks.sjhopes.index;
+
+import com.sjhacks.sjhopes.mapper.TaskMapper;
+import com.sjhacks.sjhopes.models.dto.TaskResponseDto;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import com.sjhacks.sjhopes.models.event.TaskChangedEvent;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// OPEN tasks with a future taskDateTime, ordered by (taskDateTime, id). "Open tasks this week"
+// is a sub-map walk that stops after `limit` entries, with no database round trip.
+@Component
+@Slf4j
+public class UpcomingTaskIndex {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final ConcurrentSkipListMap<Key, TaskResponseDto> byTime = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Key> keys = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        byTime.clear();
+        keys.clear();
+        for (Task task : taskRepository.findByStatusAndTaskDateTimeGreaterThanEqual(TaskStatus.OPEN, LocalDateTime.now())) {
+            put(task);
+        }
+        log.info("Index: Upcoming task index built with {} open scheduled tasks", byTime.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED, UPDATED -> put(event.getTask());
+            // Assigned and completed tasks are no longer up for grabs
+            case STATUS_CHANGED, DELETED -> remove(event.getTaskId());
+        }
+    }
+
+    // Drop tasks whose start time has passed
+    @Scheduled(fixedDelayString = "${sjhopes.tasks.upcoming-prune-interval-ms:60000}")
+    public synchronized void prunePast() {
+        var past = byTime.headMap(new Key(LocalDateTime.now(), Long.MIN_VALUE));
+        past.keySet().forEach(key -> keys.remove(key.id()));
+        past.clear();
+    }
+
+    // OPEN tasks scheduled in [from, to), soonest first
+    public List<TaskResponseDto> findOpen(LocalDateTime from, LocalDateTime to, int limit) {
+        List<TaskResponseDto> result = new ArrayList<>(Math.min(limit, 64));
+        for (TaskResponseDto task : byTime.subMap(new Key(from, Long.MIN_VALUE), new Key(to, Long.MIN_VALUE)).values()) {
+            if (result.size() == limit) break;
+            result.add(task);
+        }
+        return result;
+    }
+
+    public int size() {
+        return byTime.size();
+    }
+
+    private void put(Task task) {
+        remove(task.getId());
+        if (task.getStatus() != TaskStatus.OPEN || task.getTaskDateTime() == null
+                || task.getTaskDateTime().isBefore(LocalDateTime.now())) {
+            return;
+        }
+        Key key = new Key(task.getTaskDateTime(), task.getId());
+        keys.put(task.getId(), key);
+        byTime.put(key, TaskMapper.mapToResponseDTO(task));
+    }
+
+    private void remove(Long taskId) {
+        Key previous = keys.remove(taskId);
+        if (previous != null) {
+            byTime.remove(previous);
+        }
+    }
+
+    private record Key(LocalDateTime taskDateTime, long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER =
+                Comparator.comparing(Key::taskDateTime).thenComparingLong(Key::id);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sjhacks.sjhopes.mapper;
+
+import com.sjhacks.sjhopes.models.dto.BedHoldResponseDto;
+import com.sjhacks.sjhopes.models.entity.BedHold;
+
+public class BedHoldMapper {
+
+    public static BedHoldResponseDto mapToResponseDTO(BedHold entity) {
+        if (entity == null) return null;
+        BedHoldResponseDto dto = new BedHoldResponseDto();
+        dto.setId(entity.getId());
+        dto.setShelterId(entity.getShelterId());
+        dto.setClientId(entity.getClientId());
+        dto.setBeds(entity.getBeds());
+        dto.setStatus(entity.getStatus());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setExpiresAt(entity.getExpiresAt());
+        dto.setResolvedAt(entity.getResolvedAt());
+        return dto;
+    }
+}
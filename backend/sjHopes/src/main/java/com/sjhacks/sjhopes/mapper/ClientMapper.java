@@ -13,7 +13,11 @@ public class ClientMapper {
             entity.setStatus(ClientStatus.SEEKING_PLACEMENT); // Default status on creation
         }
         entity.setName(dto.getName());
-        entity.setCaseworkerNotes(dto.getCaseworkerNotes());
+        if (dto.getHasPet() != null) entity.setHasPet(dto.getHasPet());
+        if (dto.getHasPartner() != null) entity.setHasPartner(dto.getHasPartner());
+        entity.setPreferredShelterType(dto.getPreferredShelterType());
+        entity.setLatitude(dto.getLatitude());
+        entity.setLongitude(dto.getLongitude());
         return entity;
     }
 
@@ -33,7 +37,11 @@ public class ClientMapper {
         }
         dto.setRegistrationDate(entity.getRegistrationDate());
         dto.setLastActivityDate(entity.getLastActivityDate());
-        dto.setCaseworkerNotes(entity.getCaseworkerNotes());
+        dto.setHasPet(entity.isHasPet());
+        dto.setHasPartner(entity.isHasPartner());
+        dto.setPreferredShelterType(entity.getPreferredShelterType());
+        dto.setLatitude(entity.getLatitude());
+        dto.setLongitude(entity.getLongitude());
         return dto;
     }
 
@@ -0,0 +1,19 @@
+package com.sjhacks.sjhopes.mapper;
+
+import com.sjhacks.sjhopes.models.dto.ClientNoteDto;
+import com.sjhacks.sjhopes.models.entity.ClientNote;
+import com.sjhacks.sjhopes.util.NoteCodec;
+
+public class ClientNoteMapper {
+
+    public static ClientNoteDto mapToResponseDTO(ClientNote entity) {
+        if (entity == null) return null;
+        ClientNoteDto dto = new ClientNoteDto();
+        dto.setId(entity.getId());
+        dto.setClientId(entity.getClientId());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setAuthor(entity.getAuthor());
+        dto.setText(NoteCodec.decode(entity.getBody(), entity.isCompressed()));
+        return dto;
+    }
+}
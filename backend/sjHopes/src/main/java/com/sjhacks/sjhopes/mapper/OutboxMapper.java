@@ -0,0 +1,19 @@
+package com.sjhacks.sjhopes.mapper;
+
+import com.sjhacks.sjhopes.models.dto.OutboxEventDto;
+import com.sjhacks.sjhopes.models.entity.OutboxEvent;
+
+public class OutboxMapper {
+
+    public static OutboxEventDto mapToResponseDTO(OutboxEvent entity) {
+        if (entity == null) return null;
+        OutboxEventDto dto = new OutboxEventDto();
+        dto.setSequence(entity.getSequenceNumber());
+        dto.setAggregateType(entity.getAggregateType());
+        dto.setAggregateId(entity.getAggregateId());
+        dto.setEventType(entity.getEventType());
+        dto.setPayload(entity.getPayload());
+        dto.setCreatedAt(entity.getCreatedAt());
+        return dto;
+    }
+}
@@ -62,5 +62,31 @@ public class ShelterMapper {
 
         return dto;
     }
+
+    // Copy with a new availability, for indexes that hand the old instance out to readers
+    public static ShelterResponseDto withAvailability(ShelterResponseDto source, int currentAvailability) {
+        ShelterResponseDto dto = new ShelterResponseDto();
+        dto.setId(source.getId());
+        dto.setName(source.getName());
+        dto.setAddressLine1(source.getAddressLine1());
+        dto.setAddressLine2(source.getAddressLine2());
+        dto.setCity(source.getCity());
+        dto.setState(source.getState());
+        dto.setZipCode(source.getZipCode());
+        dto.setLatitude(source.getLatitude());
+        dto.setLongitude(source.getLongitude());
+        dto.setTotalCapacity(source.getTotalCapacity());
+        dto.setCurrentAvailability(currentAvailability);
+        dto.setShelterType(source.getShelterType());
+        dto.setPhone(source.getPhone());
+        dto.setEmail(source.getEmail());
+        dto.setOperatingOrganization(source.getOperatingOrganization());
+        dto.setDescription(source.getDescription());
+        dto.setAllowsPets(source.isAllowsPets());
+        dto.setAllowsPartner(source.isAllowsPartner());
+        dto.setLastUpdated(source.getLastUpdated());
+        dto.setActive(source.isActive());
+        return dto;
+    }
 }
 
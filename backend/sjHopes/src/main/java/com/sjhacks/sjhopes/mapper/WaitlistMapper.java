@@ -0,0 +1,23 @@
+package com.sjhacks.sjhopes.mapper;
+
+import com.sjhacks.sjhopes.models.dto.WaitlistEntryDto;
+import com.sjhacks.sjhopes.models.entity.WaitlistEntry;
+
+public class WaitlistMapper {
+
+    public static WaitlistEntryDto mapToResponseDTO(WaitlistEntry entity, Integer position) {
+        if (entity == null) return null;
+        WaitlistEntryDto dto = new WaitlistEntryDto();
+        dto.setId(entity.getId());
+        dto.setClientId(entity.getClientId());
+        dto.setShelterId(entity.getShelterId());
+        dto.setShelterType(entity.getShelterType());
+        dto.setPriority(entity.getPriority());
+        dto.setStatus(entity.getStatus());
+        dto.setPosition(position);
+        dto.setPlacedShelterId(entity.getPlacedShelterId());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setResolvedAt(entity.getResolvedAt());
+        return dto;
+    }
+}
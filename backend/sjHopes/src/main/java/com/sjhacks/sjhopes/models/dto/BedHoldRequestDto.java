@@ -0,0 +1,15 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class BedHoldRequestDto {
+
+    @NotNull(message = "Client ID is required for a hold")
+    private Long clientId;
+
+    @Min(value = 1, message = "Hold must last at least a minute")
+    private Integer ttlMinutes; // Optional, defaults to sjhopes.holds.default-ttl-minutes
+}
@@ -0,0 +1,19 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import com.sjhacks.sjhopes.models.enums.HoldStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BedHoldResponseDto {
+
+    private Long id;
+    private Long shelterId;
+    private Long clientId;
+    private int beds;
+    private HoldStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime resolvedAt;
+}
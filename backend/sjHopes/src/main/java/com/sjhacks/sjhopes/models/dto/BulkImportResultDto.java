@@ -0,0 +1,27 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkImportResultDto {
+    private long totalRows;
+    private long created;
+    private long updated; // Upserts only: rows that matched an existing record or an earlier row of the same import
+    private long failed;
+    private boolean errorsTruncated; // Only the first MAX_REPORTED_ERRORS row errors are listed
+    private List<ImportRowErrorDto> errors = new ArrayList<>();
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public void addError(long row, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportRowErrorDto(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientMatchDto {
+
+    private Long id;
+    private String name;
+    private double similarity; // 0-1, trigram overlap with the query
+}
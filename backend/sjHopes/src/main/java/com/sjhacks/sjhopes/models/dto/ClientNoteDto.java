@@ -0,0 +1,15 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ClientNoteDto {
+
+    private Long id;
+    private Long clientId;
+    private LocalDateTime createdAt;
+    private String author;
+    private String text;
+}
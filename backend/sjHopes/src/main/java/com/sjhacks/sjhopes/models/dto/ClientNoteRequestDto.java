@@ -0,0 +1,16 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class ClientNoteRequestDto {
+
+    @NotBlank(message = "Note text is required")
+    @Size(max = 65535, message = "Note is too long")
+    private String text;
+
+    @Size(max = 100, message = "Author must be at most 100 characters")
+    private String author;
+}
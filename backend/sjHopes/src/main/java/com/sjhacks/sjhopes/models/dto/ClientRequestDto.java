@@ -1,5 +1,8 @@
 package com.sjhacks.sjhopes.models.dto;
 
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -11,6 +14,21 @@ public class ClientRequestDto {
     @Size(min = 1, max = 100, message = "Name length invalid")
     private String name;
 
-    private String caseworkerNotes; // Optional notes
+    private String caseworkerNotes; // Optional, saved as the client's first note
+
+    // Placement needs, all optional
+    private Boolean hasPet;
+
+    private Boolean hasPartner;
+
+    private ShelterType preferredShelterType;
+
+    @DecimalMin(value = "-90.0", message = "Latitude out of range")
+    @DecimalMax(value = "90.0", message = "Latitude out of range")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude out of range")
+    @DecimalMax(value = "180.0", message = "Longitude out of range")
+    private Double longitude;
 
 }
@@ -1,9 +1,11 @@
 package com.sjhacks.sjhopes.models.dto;
 
 import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 public class ClientResponseDto {
@@ -15,5 +17,10 @@ public class ClientResponseDto {
     private String currentShelterName;
     private LocalDateTime registrationDate;
     private LocalDateTime lastActivityDate;
-    private String caseworkerNotes;
+    private boolean hasPet;
+    private boolean hasPartner;
+    private ShelterType preferredShelterType;
+    private Double latitude;
+    private Double longitude;
+    private List<ClientMatchDto> possibleDuplicates; // Only set in the registration response
 }
@@ -0,0 +1,11 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ClientTransferRequestDto {
+
+    @NotNull(message = "Shelter ID is required for transfer")
+    private Long shelterId;
+}
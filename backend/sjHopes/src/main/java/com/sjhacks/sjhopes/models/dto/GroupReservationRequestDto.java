@@ -0,0 +1,16 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class GroupReservationRequestDto {
+
+    @NotEmpty(message = "At least one client ID is required for reservation")
+    @Size(max = 20, message = "A group reservation can hold at most 20 clients")
+    private List<@NotNull Long> clientIds;
+}
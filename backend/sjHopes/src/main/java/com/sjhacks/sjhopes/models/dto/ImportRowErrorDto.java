@@ -0,0 +1,13 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDto {
+    private long row; // 1-based position in the uploaded array / CSV data rows
+    private String message;
+}
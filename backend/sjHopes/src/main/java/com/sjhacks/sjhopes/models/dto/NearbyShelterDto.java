@@ -0,0 +1,22 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyShelterDto {
+    private Long id;
+    private String name;
+    private double latitude;
+    private double longitude;
+    private double distanceKm;
+    private int totalCapacity;
+    private int currentAvailability;
+    private ShelterType shelterType;
+    private boolean allowsPets;
+    private boolean allowsPartner;
+}
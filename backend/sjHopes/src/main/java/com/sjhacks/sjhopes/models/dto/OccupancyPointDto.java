@@ -0,0 +1,18 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyPointDto {
+    private LocalDateTime bucketStart;
+    private double capacity;
+    private double availability;
+    private double occupancyRate;   // Percent, same rounding as the summary endpoints
+    private int minAvailability;
+}
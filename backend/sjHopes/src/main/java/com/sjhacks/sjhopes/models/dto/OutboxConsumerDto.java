@@ -0,0 +1,18 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxConsumerDto {
+
+    private String consumerName;
+    private long lastSequence;
+    private long lag; // Sequenced events not yet processed
+    private LocalDateTime updatedAt;
+}
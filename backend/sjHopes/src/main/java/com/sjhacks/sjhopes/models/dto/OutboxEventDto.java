@@ -0,0 +1,17 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import com.sjhacks.sjhopes.models.enums.OutboxAggregateType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class OutboxEventDto {
+
+    private long sequence;
+    private OutboxAggregateType aggregateType;
+    private Long aggregateId;
+    private String eventType;
+    private String payload; // JSON
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDto<T> {
+    private List<T> items;
+    private int size;
+    private String nextCursor; // Pass back as ?cursor= for the next page, null on the last page
+
+    public <R> PageResponseDto<R> map(Function<T, R> mapper) {
+        return new PageResponseDto<>(items.stream().map(mapper).toList(), size, nextCursor);
+    }
+}
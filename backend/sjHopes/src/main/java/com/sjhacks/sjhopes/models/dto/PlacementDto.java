@@ -0,0 +1,16 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementDto {
+    private Long clientId;
+    private Long shelterId;
+    private String shelterName;
+    private Double distanceKm; // Null when the client has no known location
+    private boolean preferredTypeMatched;
+}
@@ -0,0 +1,18 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class PlacementResultDto {
+    private boolean dryRun;
+    private int seekingClients;
+    private int sheltersWithBeds;
+    private int placed;
+    private int unplaced;
+    private long planningMs;
+    private List<PlacementDto> placements = new ArrayList<>();
+    private List<Long> unplacedClientIds = new ArrayList<>();
+}
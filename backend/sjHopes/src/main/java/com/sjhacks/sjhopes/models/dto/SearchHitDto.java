@@ -0,0 +1,18 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import com.sjhacks.sjhopes.models.enums.SearchDocType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDto {
+
+    private SearchDocType type;
+    private Long id;
+    private String title;   // Shelter name or task title
+    private double score;   // BM25, only comparable within one response
+    private String snippet; // Text around the first match
+}
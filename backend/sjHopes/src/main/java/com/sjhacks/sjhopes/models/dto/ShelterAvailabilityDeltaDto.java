@@ -0,0 +1,14 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShelterAvailabilityDeltaDto {
+    private Long shelterId;
+    private int currentAvailability;
+    private boolean isActive; // false once the shelter is deactivated or deleted
+}
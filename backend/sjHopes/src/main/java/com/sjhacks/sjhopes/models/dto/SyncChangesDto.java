@@ -0,0 +1,20 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class SyncChangesDto {
+
+    private String watermark;           // Pass back as ?since= on the next sync
+    private boolean hasMore;            // A feed hit the limit - sync again right away
+    private boolean fullResyncRequired; // Watermark predates tombstone retention - drop local data, sync without ?since=
+    private List<ShelterResponseDto> shelters = new ArrayList<>();
+    private List<TaskResponseDto> tasks = new ArrayList<>();
+    private List<ClientResponseDto> clients = new ArrayList<>();
+    private List<TombstoneDto> deleted = new ArrayList<>();
+}
@@ -0,0 +1,18 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import com.sjhacks.sjhopes.models.enums.SyncEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TombstoneDto {
+
+    private SyncEntityType type;
+    private Long id;
+    private LocalDateTime deletedAt;
+}
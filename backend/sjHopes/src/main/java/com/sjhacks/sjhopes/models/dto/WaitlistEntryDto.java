@@ -0,0 +1,22 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.enums.WaitlistStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class WaitlistEntryDto {
+
+    private Long id;
+    private Long clientId;
+    private Long shelterId;
+    private ShelterType shelterType;
+    private int priority;
+    private WaitlistStatus status;
+    private Integer position; // 1-based place in its queue while WAITING
+    private Long placedShelterId;
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,23 @@
+package com.sjhacks.sjhopes.models.dto;
+
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class WaitlistRequestDto {
+
+    @NotNull(message = "Client ID is required")
+    private Long clientId;
+
+    // Exactly one of shelterId / shelterType
+    private Long shelterId;
+
+    private ShelterType shelterType;
+
+    @Min(value = 0, message = "Priority must be between 0 and 9")
+    @Max(value = 9, message = "Priority must be between 0 and 9")
+    private Integer priority; // Higher is served first, defaults to 0
+}
@@ -0,0 +1,48 @@
+package com.sjhacks.sjhopes.models.entity;
+
+import com.sjhacks.sjhopes.models.enums.HoldStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// A bed taken out of a shelter's availability for a limited time. The bed stays claimed while
+// HELD and either becomes a placement (CONFIRMED) or goes back to the shelter (RELEASED/EXPIRED).
+@Entity(name = "bed_holds")
+@Table(indexes = {
+        // Expiry sweep and restart reload: HELD holds by deadline
+        @Index(name = "idx_bed_holds_status_expires", columnList = "status, expires_at")
+})
+@Data
+@NoArgsConstructor
+public class BedHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long shelterId;
+
+    @Column(nullable = false)
+    private Long clientId;
+
+    @Column(nullable = false)
+    private int beds = 1;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private HoldStatus status = HoldStatus.HELD;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = true) // Set when the hold leaves HELD
+    private LocalDateTime resolvedAt;
+}
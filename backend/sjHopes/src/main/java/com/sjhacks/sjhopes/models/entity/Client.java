@@ -1,6 +1,7 @@
 package com.sjhacks.sjhopes.models.entity;
 
 import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +11,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity(name = "clients")
+@Table(indexes = {
+        @Index(name = "idx_clients_activity", columnList = "last_activity_date, id"),
+        // Batch placement reads every SEEKING_PLACEMENT client in registration order
+        @Index(name = "idx_clients_status_registered", columnList = "status, registration_date, id")
+})
 @Data
 @NoArgsConstructor
 public class Client {
@@ -38,6 +44,20 @@ public class Client {
     @Column(nullable = false)
     private LocalDateTime lastActivityDate;
 
-    @Column(columnDefinition = "TEXT", nullable = true)
-    private String caseworkerNotes; // Optional notes field
+    // Placement needs, used to match the client to a compatible shelter
+    @Column(nullable = false)
+    private boolean hasPet = false;
+
+    @Column(nullable = false)
+    private boolean hasPartner = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = true) // Null = no preference
+    private ShelterType preferredShelterType;
+
+    @Column(nullable = true) // Last known location, optional
+    private Double latitude;
+
+    @Column(nullable = true)
+    private Double longitude;
 }
@@ -0,0 +1,40 @@
+package com.sjhacks.sjhopes.models.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// One caseworker note. Notes are only ever appended, never edited, and live outside the
+// clients row so listings don't load them.
+@Entity(name = "client_notes")
+@Table(indexes = {
+        @Index(name = "idx_client_notes_client", columnList = "client_id, id")
+})
+@Data
+@NoArgsConstructor
+public class ClientNote {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long clientId;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = true, updatable = false, length = 100)
+    private String author; // Free text until there are caseworker accounts
+
+    @Column(nullable = false, updatable = false)
+    private boolean compressed = false; // body is DEFLATE-compressed UTF-8 when true
+
+    @Lob
+    @Column(nullable = false, updatable = false)
+    private byte[] body;
+}
@@ -0,0 +1,39 @@
+package com.sjhacks.sjhopes.models.entity;
+
+import com.sjhacks.sjhopes.models.enums.SyncEntityType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Tombstone for the delta sync feed: a deleted row leaves no lastUpdated behind, so the delete
+// itself is recorded here in the same transaction. Purged after the retention window.
+@Entity(name = "deleted_records")
+@Table(indexes = {
+        @Index(name = "idx_deleted_records_time", columnList = "deleted_at, id")
+})
+@Data
+@NoArgsConstructor
+public class DeletedRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public DeletedRecord(SyncEntityType entityType, Long entityId, LocalDateTime deletedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deletedAt = deletedAt;
+    }
+}
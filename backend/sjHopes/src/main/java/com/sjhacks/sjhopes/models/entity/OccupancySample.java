@@ -0,0 +1,49 @@
+package com.sjhacks.sjhopes.models.entity;
+
+import com.sjhacks.sjhopes.models.enums.OccupancyScope;
+import com.sjhacks.sjhopes.models.enums.SampleResolution;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One point of the occupancy time series: average capacity/availability over a bucket
+@Entity(name = "occupancy_samples")
+@Table(indexes = {
+        @Index(name = "idx_occupancy_series", columnList = "scope, series_key, resolution, bucket_start")
+})
+@Data
+@NoArgsConstructor
+public class OccupancySample {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SampleResolution resolution;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OccupancyScope scope;
+
+    @Column(nullable = false, length = 32)
+    private String seriesKey;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private double capacity; // Average over the bucket
+
+    @Column(nullable = false)
+    private double availability; // Average over the bucket
+
+    @Column(nullable = false)
+    private int minAvailability; // Tightest point in the bucket
+
+    @Column(nullable = false)
+    private int sampleCount; // Raw snapshots folded into this point
+}
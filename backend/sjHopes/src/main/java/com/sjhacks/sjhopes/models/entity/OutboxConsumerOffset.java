@@ -0,0 +1,24 @@
+package com.sjhacks.sjhopes.models.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Last outbox sequence a consumer has fully processed; it resumes after this on restart
+@Entity(name = "outbox_consumer_offsets")
+@Data
+@NoArgsConstructor
+public class OutboxConsumerOffset {
+
+    @Id
+    @Column(length = 64)
+    private String consumerName;
+
+    @Column(nullable = false)
+    private long lastSequence;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.sjhacks.sjhopes.models.entity;
+
+import com.sjhacks.sjhopes.models.enums.OutboxAggregateType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One domain change, written in the same transaction as the change itself. sequenceNumber stays
+// null until the relay picks the row up; from then on it is the row's position in the stream.
+@Entity(name = "outbox_events")
+@Table(indexes = {
+        // Unsequenced rows (NULL first) in insert order for the relay, then the stream in sequence order
+        @Index(name = "idx_outbox_sequence", columnList = "sequence_number, id")
+})
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = true)
+    private Long sequenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxAggregateType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 32)
+    private String eventType; // The ShelterChangeType / TaskChangeType / ClientChangeType name
+
+    @Column(columnDefinition = "TEXT", nullable = true)
+    private String payload; // JSON, null when the event carries nothing beyond the id
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -4,17 +4,31 @@ import com.sjhacks.sjhopes.models.enums.ShelterType;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity(name = "shelters")
+@Table(indexes = {
+        @Index(name = "idx_shelters_active_updated", columnList = "is_active, last_updated, id"),
+        // Delta sync reads changes across active and inactive shelters
+        @Index(name = "idx_shelters_updated", columnList = "last_updated, id"),
+        // Natural key used by bulk imports to match incoming rows to existing shelters
+        @Index(name = "idx_shelters_name_address", columnList = "name, address_line1")
+})
+// Read on every reservation and lookup, written far less often: kept in the second-level cache
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 public class Shelter {
 
+    // Pooled sequence so bulk imports can batch their inserts (see Task)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shelters_seq")
+    @SequenceGenerator(name = "shelters_seq", sequenceName = "shelters_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
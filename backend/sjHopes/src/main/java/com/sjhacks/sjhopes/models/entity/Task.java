@@ -10,12 +10,21 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity(name = "tasks")
+@Table(indexes = {
+        @Index(name = "idx_tasks_updated", columnList = "last_updated, id"),
+        // Task search: status and/or client filters, then a taskDateTime range in index order
+        @Index(name = "idx_tasks_status_time", columnList = "status, task_date_time, id"),
+        @Index(name = "idx_tasks_client_time", columnList = "client_id, task_date_time, id")
+})
 @Data
 @NoArgsConstructor
 public class Task {
 
+    // Pooled sequence (a tasks_seq table on MySQL): ids are handed out 50 at a time, which keeps
+    // JDBC insert batching on - IDENTITY would force one round trip per insert
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,51 @@
+package com.sjhacks.sjhopes.models.entity;
+
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.enums.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// A client queued for a bed at one shelter, or at any shelter of one type
+@Entity(name = "waitlist_entries")
+@Table(indexes = {
+        @Index(name = "idx_waitlist_status_client", columnList = "status, client_id")
+})
+@Data
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // Also the FIFO tie-breaker within a priority
+
+    @Column(nullable = false)
+    private Long clientId;
+
+    @Column(nullable = true) // Set for a specific shelter...
+    private Long shelterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = true) // ...or for any shelter of this type
+    private ShelterType shelterType;
+
+    @Column(nullable = false)
+    private int priority = 0; // 0-9, higher is served first
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = true)
+    private LocalDateTime resolvedAt;
+
+    @Column(nullable = true) // Where the dispatcher placed the client
+    private Long placedShelterId;
+}
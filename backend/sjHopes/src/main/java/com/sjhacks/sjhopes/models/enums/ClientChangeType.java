@@ -0,0 +1,7 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum ClientChangeType {
+    REGISTERED,
+    STATUS_CHANGED, // Status and/or shelter link moved (placement, check-out, transfer)
+    NOTE_ADDED
+}
@@ -0,0 +1,8 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum HoldStatus {
+    HELD,      // Bed taken out of availability, waiting for confirm/release
+    CONFIRMED, // Client arrived, hold turned into a placement
+    RELEASED,  // Given back early by the outreach worker
+    EXPIRED    // TTL ran out, bed returned automatically
+}
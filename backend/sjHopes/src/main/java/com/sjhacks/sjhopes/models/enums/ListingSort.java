@@ -0,0 +1,6 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum ListingSort {
+    ID,           // Oldest first, by id
+    LAST_UPDATED  // Most recently changed first (lastUpdated / lastActivityDate), ties broken by id
+}
@@ -0,0 +1,7 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum OccupancyScope {
+    TOTAL,        // All active shelters, series key "ALL"
+    SHELTER_TYPE, // Series key is the ShelterType name
+    SHELTER       // Series key is the shelter id
+}
@@ -0,0 +1,7 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum OutboxAggregateType {
+    SHELTER,
+    TASK,
+    CLIENT
+}
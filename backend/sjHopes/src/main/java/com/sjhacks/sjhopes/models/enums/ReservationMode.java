@@ -0,0 +1,6 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum ReservationMode {
+    IN_MEMORY,         // Compare-and-set on the in-memory bed inventory, written back in batches
+    CONDITIONAL_UPDATE // Single guarded UPDATE per claim, the affected-row count decides success
+}
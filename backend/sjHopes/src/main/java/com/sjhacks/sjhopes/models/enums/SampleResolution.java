@@ -0,0 +1,25 @@
+package com.sjhacks.sjhopes.models.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum SampleResolution {
+    MINUTE(ChronoUnit.MINUTES), // Raw snapshots, kept for a couple of days
+    HOUR(ChronoUnit.HOURS),     // Rolled up from MINUTE, kept for a few months
+    DAY(ChronoUnit.DAYS);       // Rolled up from HOUR, kept indefinitely
+
+    private final ChronoUnit unit;
+
+    SampleResolution(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public Duration step() {
+        return unit.getDuration();
+    }
+}
@@ -0,0 +1,7 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum ShelterChangeType {
+    SAVED,                // Created or updated by an admin
+    AVAILABILITY_CHANGED, // Beds claimed or released
+    DELETED
+}
@@ -0,0 +1,6 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum SyncEntityType {
+    SHELTER,
+    TASK
+}
@@ -0,0 +1,8 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,        // Details edited by an admin, status unchanged
+    STATUS_CHANGED, // Assigned or completed
+    DELETED
+}
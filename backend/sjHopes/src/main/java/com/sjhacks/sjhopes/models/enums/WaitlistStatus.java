@@ -0,0 +1,7 @@
+package com.sjhacks.sjhopes.models.enums;
+
+public enum WaitlistStatus {
+    WAITING,   // Queued for the next compatible free bed
+    PLACED,    // Dispatcher reserved a bed for the client
+    CANCELLED  // Withdrawn, or the client was placed some other way
+}
@@ -0,0 +1,31 @@
+package com.sjhacks.sjhopes.models.event;
+
+import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.enums.ClientChangeType;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import lombok.Value;
+
+// Published by ClientServiceImpl and ResourceServiceImpl; listeners normally handle it after the transaction commits
+@Value
+public class ClientChangedEvent {
+
+    Long clientId;
+    ClientChangeType changeType;
+    String name;         // Only set for REGISTERED
+    ClientStatus status; // null for NOTE_ADDED
+    Long shelterId;      // Shelter after the change, null if none
+    Long noteId;         // Only set for NOTE_ADDED
+
+    public static ClientChangedEvent registered(Client client) {
+        return new ClientChangedEvent(client.getId(), ClientChangeType.REGISTERED, client.getName(), client.getStatus(),
+                null, null);
+    }
+
+    public static ClientChangedEvent statusChanged(Long clientId, ClientStatus status, Long shelterId) {
+        return new ClientChangedEvent(clientId, ClientChangeType.STATUS_CHANGED, null, status, shelterId, null);
+    }
+
+    public static ClientChangedEvent noteAdded(Long clientId, Long noteId) {
+        return new ClientChangedEvent(clientId, ClientChangeType.NOTE_ADDED, null, null, null, noteId);
+    }
+}
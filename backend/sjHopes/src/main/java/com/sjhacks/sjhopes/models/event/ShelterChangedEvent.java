@@ -0,0 +1,27 @@
+package com.sjhacks.sjhopes.models.event;
+
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ShelterChangeType;
+import lombok.Value;
+
+// Published by ResourceServiceImpl; listeners normally handle it after the transaction commits
+@Value
+public class ShelterChangedEvent {
+
+    Long shelterId;
+    ShelterChangeType changeType;
+    Shelter shelter;         // Only set for SAVED
+    int currentAvailability; // Not meaningful for DELETED
+
+    public static ShelterChangedEvent saved(Shelter shelter) {
+        return new ShelterChangedEvent(shelter.getId(), ShelterChangeType.SAVED, shelter, shelter.getCurrentAvailability());
+    }
+
+    public static ShelterChangedEvent availabilityChanged(Long shelterId, int currentAvailability) {
+        return new ShelterChangedEvent(shelterId, ShelterChangeType.AVAILABILITY_CHANGED, null, currentAvailability);
+    }
+
+    public static ShelterChangedEvent deleted(Long shelterId) {
+        return new ShelterChangedEvent(shelterId, ShelterChangeType.DELETED, null, 0);
+    }
+}
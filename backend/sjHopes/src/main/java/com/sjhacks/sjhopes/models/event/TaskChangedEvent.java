@@ -0,0 +1,34 @@
+package com.sjhacks.sjhopes.models.event;
+
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.TaskChangeType;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import lombok.Value;
+
+// Published by TaskServiceImpl; listeners normally handle it after the transaction commits
+@Value
+public class TaskChangedEvent {
+
+    Long taskId;
+    TaskChangeType changeType;
+    TaskStatus previousStatus; // null for CREATED
+    TaskStatus currentStatus;  // null for DELETED
+    Task task;                 // Snapshot for CREATED/UPDATED, null otherwise
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(task.getId(), TaskChangeType.CREATED, null, task.getStatus(), task);
+    }
+
+    public static TaskChangedEvent updated(Task task) {
+        return new TaskChangedEvent(task.getId(), TaskChangeType.UPDATED, task.getStatus(), task.getStatus(), task);
+    }
+
+    // Status moves are single guarded UPDATEs, so there is no loaded entity to attach
+    public static TaskChangedEvent statusChanged(Long taskId, TaskStatus previousStatus, TaskStatus currentStatus) {
+        return new TaskChangedEvent(taskId, TaskChangeType.STATUS_CHANGED, previousStatus, currentStatus, null);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId, TaskStatus previousStatus) {
+        return new TaskChangedEvent(taskId, TaskChangeType.DELETED, previousStatus, null, null);
+    }
+}
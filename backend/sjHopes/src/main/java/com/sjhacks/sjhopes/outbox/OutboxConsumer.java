@@ -0,0 +1,16 @@
+package com.sjhacks.sjhopes.outbox;
+
+import com.sjhacks.sjhopes.models.dto.OutboxEventDto;
+
+import java.util.List;
+
+// A derived view fed from the outbox stream. Any bean implementing this is picked up by OutboxRelay.
+// Delivery is at-least-once: a batch whose accept() throws is delivered again, so apply events idempotently.
+public interface OutboxConsumer {
+
+    // Key for the stored offset - renaming a consumer replays the stream for it
+    String consumerName();
+
+    // Events in sequence order, all after the consumer's last offset
+    void accept(List<OutboxEventDto> events);
+}
@@ -0,0 +1,131 @@
+package com.sjhacks.sjhopes.outbox;
+
+import com.sjhacks.sjhopes.mapper.OutboxMapper;
+import com.sjhacks.sjhopes.models.entity.OutboxConsumerOffset;
+import com.sjhacks.sjhopes.models.entity.OutboxEvent;
+import com.sjhacks.sjhopes.repository.OutboxConsumerOffsetRepository;
+import com.sjhacks.sjhopes.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Background relay for the outbox. Each pass numbers newly committed rows in batches (that number
+// is the stream order) and then feeds every OutboxConsumer the events after its stored offset. The
+// offset only moves once accept() returns, so a failure or a crash means redelivery, never a gap.
+// Like the bed inventory, this assumes a single application instance.
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final String SEQUENCE_SQL = "UPDATE outbox_events SET sequence_number = ? WHERE id = ? AND sequence_number IS NULL";
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private OutboxConsumerOffsetRepository offsetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired(required = false)
+    private List<OutboxConsumer> consumers = List.of();
+
+    @Value("${sjhopes.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${sjhopes.outbox.retention-hours:168}")
+    private long retentionHours;
+
+    @Scheduled(fixedDelayString = "${sjhopes.outbox.relay-interval-ms:500}")
+    public synchronized void relay() {
+        int sequenced;
+        do {
+            sequenced = sequenceBatch();
+        } while (sequenced == batchSize);
+        consumers.forEach(this::deliver);
+    }
+
+    // Moves a consumer back (replay) or forward (skip); takes effect on the next pass
+    public synchronized void resetOffset(String consumerName, long sequence) {
+        OutboxConsumerOffset offset = offsetRepository.findById(consumerName).orElseGet(() -> newOffset(consumerName));
+        offset.setLastSequence(sequence);
+        offset.setUpdatedAt(LocalDateTime.now());
+        offsetRepository.save(offset);
+        log.info("Outbox: Offset of consumer {} reset to {}", consumerName, sequence);
+    }
+
+    public List<String> getConsumerNames() {
+        return consumers.stream().map(OutboxConsumer::consumerName).toList();
+    }
+
+    // Drops events every registered consumer is past, once they're older than the replay window
+    @Scheduled(cron = "${sjhopes.outbox.purge-cron:0 45 3 * * *}")
+    public synchronized void purge() {
+        long upTo = outboxRepository.findHeadSequence();
+        for (OutboxConsumer consumer : consumers) {
+            long consumed = offsetRepository.findById(consumer.consumerName()).map(OutboxConsumerOffset::getLastSequence).orElse(0L);
+            upTo = Math.min(upTo, consumed);
+        }
+        long limit = upTo;
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.deleteConsumed(limit, LocalDateTime.now().minusHours(retentionHours)));
+        log.info("Outbox: Purged {} events up to sequence {}", purged, limit);
+    }
+
+    // Numbers one batch of unsequenced rows after the current head; returns how many
+    private int sequenceBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Long> ids = outboxRepository.findUnsequencedIds(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return 0;
+            long next = outboxRepository.findHeadSequence();
+            List<Object[]> args = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                args.add(new Object[]{++next, id});
+            }
+            jdbcTemplate.batchUpdate(SEQUENCE_SQL, args);
+            return ids.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    private void deliver(OutboxConsumer consumer) {
+        String name = consumer.consumerName();
+        OutboxConsumerOffset offset = offsetRepository.findById(name).orElseGet(() -> newOffset(name));
+        while (true) {
+            List<OutboxEvent> batch = outboxRepository.findAfter(offset.getLastSequence(), PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) return;
+            try {
+                consumer.accept(batch.stream().map(OutboxMapper::mapToResponseDTO).toList());
+            } catch (RuntimeException e) {
+                log.error("Outbox: Consumer {} failed after sequence {}, will retry: {}", name, offset.getLastSequence(), e.getMessage(), e);
+                return;
+            }
+            offset.setLastSequence(batch.get(batch.size() - 1).getSequenceNumber());
+            offset.setUpdatedAt(LocalDateTime.now());
+            offset = offsetRepository.save(offset);
+            if (batch.size() < batchSize) return;
+        }
+    }
+
+    // A new consumer starts from the oldest retained event, so it can build its view from the stream
+    private static OutboxConsumerOffset newOffset(String consumerName) {
+        OutboxConsumerOffset offset = new OutboxConsumerOffset();
+        offset.setConsumerName(consumerName);
+        offset.setLastSequence(0L);
+        offset.setUpdatedAt(LocalDateTime.now());
+        return offset;
+    }
+}
@@ -0,0 +1,88 @@
+package com.sjhacks.sjhopes.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sjhacks.sjhopes.mapper.ShelterMapper;
+import com.sjhacks.sjhopes.mapper.TaskMapper;
+import com.sjhacks.sjhopes.models.entity.OutboxEvent;
+import com.sjhacks.sjhopes.models.enums.OutboxAggregateType;
+import com.sjhacks.sjhopes.models.event.ClientChangedEvent;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.models.event.TaskChangedEvent;
+import com.sjhacks.sjhopes.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Turns the domain events the services already publish into outbox rows. BEFORE_COMMIT runs inside
+// the mutating transaction, so the row commits or rolls back together with the change.
+@Component
+public class OutboxWriter {
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onShelterChanged(ShelterChangedEvent event) {
+        Object payload = switch (event.getChangeType()) {
+            case SAVED -> ShelterMapper.mapToResponseDTO(event.getShelter());
+            case AVAILABILITY_CHANGED -> Map.of("currentAvailability", event.getCurrentAvailability());
+            case DELETED -> null;
+        };
+        write(OutboxAggregateType.SHELTER, event.getShelterId(), event.getChangeType().name(), payload);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Object payload;
+        if (event.getTask() != null) {
+            payload = TaskMapper.mapToResponseDTO(event.getTask());
+        } else {
+            Map<String, Object> statuses = new LinkedHashMap<>();
+            statuses.put("previousStatus", event.getPreviousStatus());
+            statuses.put("currentStatus", event.getCurrentStatus());
+            payload = statuses;
+        }
+        write(OutboxAggregateType.TASK, event.getTaskId(), event.getChangeType().name(), payload);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onClientChanged(ClientChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        switch (event.getChangeType()) {
+            case REGISTERED -> {
+                payload.put("name", event.getName());
+                payload.put("status", event.getStatus());
+            }
+            case STATUS_CHANGED -> {
+                payload.put("status", event.getStatus());
+                payload.put("shelterId", event.getShelterId());
+            }
+            case NOTE_ADDED -> payload.put("noteId", event.getNoteId()); // Note text stays out of the log
+        }
+        write(OutboxAggregateType.CLIENT, event.getClientId(), event.getChangeType().name(), payload);
+    }
+
+    private void write(OutboxAggregateType type, Long aggregateId, String eventType, Object payload) {
+        OutboxEvent row = new OutboxEvent();
+        row.setAggregateType(type);
+        row.setAggregateId(aggregateId);
+        row.setEventType(eventType);
+        row.setCreatedAt(LocalDateTime.now());
+        try {
+            row.setPayload(payload != null ? objectMapper.writeValueAsString(payload) : null);
+        } catch (JsonProcessingException e) {
+            // Failing here fails the mutation - better than a change the stream never hears about
+            throw new IllegalStateException("Could not serialize " + type + " " + eventType + " event", e);
+        }
+        outboxRepository.save(row);
+    }
+}
@@ -0,0 +1,200 @@
+package com.sjhacks.sjhopes.placement;
+
+import com.sjhacks.sjhopes.index.ShelterSpatialIndex;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// Capacity-respecting client -> shelter assignment, greedy with repair:
+//   1. For each client, score every compatible shelter (distance + preferred-type penalty) and keep
+//      the cheapest few as candidates.
+//   2. Most constrained clients first (fewest compatible shelters, then registration order), each
+//      takes its cheapest candidate with a free bed.
+//   3. Repair: an unplaced client may take a bed from a full shelter if one of its occupants can move
+//      to another candidate that still has room (one-step augmenting path).
+// Pure in-memory work: 10k clients x 1k shelters is ~10M cheap score evaluations.
+public final class PlacementPlanner {
+
+    private static final int CANDIDATES = 8;
+    private static final double KM_PER_DEGREE_LAT = 110.57;
+    private static final double KM_PER_DEGREE_LON = 111.32;
+
+    private final double maxDistanceKm;
+    private final double typeMismatchPenaltyKm;
+
+    public PlacementPlanner(double maxDistanceKm, double typeMismatchPenaltyKm) {
+        this.maxDistanceKm = maxDistanceKm;
+        this.typeMismatchPenaltyKm = typeMismatchPenaltyKm;
+    }
+
+    // A client waiting for a bed; coordinates are optional
+    public record Seeker(long clientId, boolean hasPet, boolean hasPartner, ShelterType preferredType,
+                         Double latitude, Double longitude) {
+    }
+
+    // A shelter with `beds` free right now
+    public record Site(long shelterId, ShelterType type, boolean allowsPets, boolean allowsPartner,
+                       double latitude, double longitude, int beds) {
+    }
+
+    // distanceKm is null when the client has no known location
+    public record Assignment(long clientId, long shelterId, Double distanceKm, boolean preferredTypeMatched) {
+    }
+
+    public record Plan(List<Assignment> assignments, List<Long> unplacedClientIds) {
+    }
+
+    public Plan plan(List<Seeker> seekers, List<Site> sites) {
+        int n = seekers.size();
+        int[] remaining = new int[sites.size()];
+        int totalRemaining = 0;
+        for (int j = 0; j < sites.size(); j++) {
+            remaining[j] = Math.max(0, sites.get(j).beds());
+            totalRemaining += remaining[j];
+        }
+
+        // 1. Candidate lists
+        int[][] candidates = new int[n][];
+        int[] compatibleCount = new int[n];
+        for (int i = 0; i < n; i++) {
+            Seeker seeker = seekers.get(i);
+            double cosLat = cosLatitude(seeker);
+            int[] best = new int[CANDIDATES];
+            double[] bestCost = new double[CANDIDATES];
+            int size = 0;
+            for (int j = 0; j < sites.size(); j++) {
+                if (remaining[j] == 0) continue;
+                double cost = cost(seeker, cosLat, sites.get(j));
+                if (Double.isNaN(cost)) continue;
+                compatibleCount[i]++;
+                // Insertion into the small sorted candidate array
+                if (size < CANDIDATES || cost < bestCost[size - 1]) {
+                    int pos = size < CANDIDATES ? size++ : size - 1;
+                    while (pos > 0 && bestCost[pos - 1] > cost) {
+                        best[pos] = best[pos - 1];
+                        bestCost[pos] = bestCost[pos - 1];
+                        pos--;
+                    }
+                    best[pos] = j;
+                    bestCost[pos] = cost;
+                }
+            }
+            candidates[i] = Arrays.copyOf(best, size);
+        }
+
+        // 2. Greedy pass, most constrained first; a stable sort keeps registration order within ties
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt(i -> compatibleCount[i]));
+
+        int[] placedAt = new int[n];
+        Arrays.fill(placedAt, -1);
+        List<List<Integer>> occupants = new ArrayList<>(sites.size());
+        for (int j = 0; j < sites.size(); j++) occupants.add(new ArrayList<>());
+
+        for (int i : order) {
+            if (totalRemaining == 0) break;
+            int site = firstWithRoom(candidates[i], remaining);
+            if (site < 0 && compatibleCount[i] > candidates[i].length) {
+                site = cheapestWithRoom(seekers.get(i), sites, remaining); // Candidates filled up, look further
+            }
+            if (site >= 0) {
+                placedAt[i] = site;
+                remaining[site]--;
+                totalRemaining--;
+                occupants.get(site).add(i);
+            }
+        }
+
+        // 3. Repair: free a bed at one of u's candidates by moving an occupant to a shelter with room
+        for (int u : order) {
+            if (totalRemaining == 0) break;
+            if (placedAt[u] >= 0) continue;
+            repair:
+            for (int s : candidates[u]) {
+                List<Integer> atSite = occupants.get(s);
+                for (int k = 0; k < atSite.size(); k++) {
+                    int occupant = atSite.get(k);
+                    int target = firstWithRoom(candidates[occupant], remaining);
+                    if (target < 0 || target == s) continue;
+                    atSite.set(k, u); // u takes the occupant's bed
+                    placedAt[u] = s;
+                    placedAt[occupant] = target;
+                    occupants.get(target).add(occupant);
+                    remaining[target]--;
+                    totalRemaining--;
+                    break repair;
+                }
+            }
+        }
+
+        List<Assignment> assignments = new ArrayList<>();
+        List<Long> unplaced = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Seeker seeker = seekers.get(i);
+            if (placedAt[i] < 0) {
+                unplaced.add(seeker.clientId());
+                continue;
+            }
+            Site site = sites.get(placedAt[i]);
+            Double distance = hasLocation(seeker)
+                    ? ShelterSpatialIndex.distanceKm(seeker.latitude(), seeker.longitude(), site.latitude(), site.longitude())
+                    : null;
+            assignments.add(new Assignment(seeker.clientId(), site.shelterId(), distance,
+                    seeker.preferredType() == null || seeker.preferredType() == site.type()));
+        }
+        return new Plan(assignments, unplaced);
+    }
+
+    private static int firstWithRoom(int[] candidates, int[] remaining) {
+        for (int site : candidates) {
+            if (remaining[site] > 0) return site;
+        }
+        return -1;
+    }
+
+    private int cheapestWithRoom(Seeker seeker, List<Site> sites, int[] remaining) {
+        int best = -1;
+        double bestCost = Double.MAX_VALUE;
+        double cosLat = cosLatitude(seeker);
+        for (int j = 0; j < sites.size(); j++) {
+            if (remaining[j] == 0) continue;
+            double cost = cost(seeker, cosLat, sites.get(j));
+            if (!Double.isNaN(cost) && cost < bestCost) {
+                best = j;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    // NaN when the shelter can't take this client at all
+    private double cost(Seeker seeker, double cosLat, Site site) {
+        if (seeker.hasPet() && !site.allowsPets()) return Double.NaN;
+        if (seeker.hasPartner() && !site.allowsPartner()) return Double.NaN;
+        double cost = 0;
+        if (hasLocation(seeker)) {
+            // Equirectangular approximation: plenty for ranking at county scale, much cheaper than haversine
+            double dLat = (site.latitude() - seeker.latitude()) * KM_PER_DEGREE_LAT;
+            if (Math.abs(dLat) > maxDistanceKm) return Double.NaN;
+            double dLon = (site.longitude() - seeker.longitude()) * KM_PER_DEGREE_LON * cosLat;
+            cost = Math.sqrt(dLat * dLat + dLon * dLon);
+            if (cost > maxDistanceKm) return Double.NaN;
+        }
+        if (seeker.preferredType() != null && seeker.preferredType() != site.type()) {
+            cost += typeMismatchPenaltyKm;
+        }
+        return cost;
+    }
+
+    private static double cosLatitude(Seeker seeker) {
+        return hasLocation(seeker) ? Math.cos(Math.toRadians(seeker.latitude())) : 1.0;
+    }
+
+    private static boolean hasLocation(Seeker seeker) {
+        return seeker.latitude() != null && seeker.longitude() != null;
+    }
+}
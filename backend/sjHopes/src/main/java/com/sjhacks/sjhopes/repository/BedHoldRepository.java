@@ -0,0 +1,45 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.BedHold;
+import com.sjhacks.sjhopes.models.enums.HoldStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BedHoldRepository extends JpaRepository<BedHold, Long> {
+
+    // id, expiresAt of every live hold - reloads the timer wheel after a restart
+    @Query("SELECT h.id, h.expiresAt FROM bed_holds h WHERE h.status = :status")
+    List<Object[]> findDeadlinesByStatus(@Param("status") HoldStatus status);
+
+    // Backstop sweep for anything the timer wheel missed
+    @Query("SELECT h.id FROM bed_holds h WHERE h.status = :status AND h.expiresAt <= :now")
+    List<Long> findIdsDue(@Param("status") HoldStatus status, @Param("now") LocalDateTime now);
+
+    // Locks the due holds so a concurrent confirm/release can't slip in between read and update
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM bed_holds h WHERE h.id IN :ids AND h.status = :status AND h.expiresAt <= :now")
+    List<BedHold> lockDue(@Param("ids") Collection<Long> ids, @Param("status") HoldStatus status,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE bed_holds h SET h.status = :to, h.resolvedAt = :now WHERE h.id IN :ids AND h.status = :from")
+    int transitionAll(@Param("ids") Collection<Long> ids, @Param("from") HoldStatus from, @Param("to") HoldStatus to,
+                      @Param("now") LocalDateTime now);
+
+    // Guarded single-hold transition; confirm passes the current time so a lapsed hold can't be confirmed
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE bed_holds h SET h.status = :to, h.resolvedAt = :now " +
+            "WHERE h.id = :id AND h.status = :from AND h.expiresAt > :now")
+    int transitionIfLive(@Param("id") Long id, @Param("from") HoldStatus from, @Param("to") HoldStatus to,
+                         @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.cache.SecondLevelCache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Puts a ShelterRepository query in the shelter query cache region. Hibernate stops serving the
+// cached results after any write to shelters, the inventory write-behind included.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCache.SHELTER_QUERY_REGION)})
+@interface CachedShelterQuery {
+}
@@ -0,0 +1,17 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.ClientNote;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ClientNoteRepository extends JpaRepository<ClientNote, Long> {
+
+    // Newest first, keyset on id (idx_client_notes_client)
+    List<ClientNote> findByClientIdOrderByIdDesc(Long clientId, Pageable pageable);
+
+    List<ClientNote> findByClientIdAndIdLessThanOrderByIdDesc(Long clientId, Long beforeId, Pageable pageable);
+}
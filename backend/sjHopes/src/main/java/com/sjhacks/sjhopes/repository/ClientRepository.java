@@ -1,10 +1,82 @@
 package com.sjhacks.sjhopes.repository;
 
 import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
 
+    // Listing/lookup fetch plan: the shelter is joined in the same SELECT so
+    // ClientMapper reading currentShelter.name doesn't fire one query per client
+    @EntityGraph(attributePaths = "currentShelter")
+    @Query("SELECT c FROM clients c")
+    List<Client> findAllWithShelter();
+
+    @EntityGraph(attributePaths = "currentShelter")
+    @Query("SELECT c FROM clients c WHERE c.id = :id")
+    Optional<Client> findWithShelterById(@Param("id") Long id);
+
+    // id, hasPet, hasPartner, preferredShelterType, latitude, longitude - placement input, oldest registration first
+    @Query("SELECT c.id, c.hasPet, c.hasPartner, c.preferredShelterType, c.latitude, c.longitude FROM clients c " +
+            "WHERE c.status = :status ORDER BY c.registrationDate ASC, c.id ASC")
+    List<Object[]> findPlacementRows(@Param("status") ClientStatus status);
+
+    // Links a group of clients to one shelter in a single statement; only clients still in `from` move.
+    // `now` comes from SyncClock, the same clock as every other sync stamp
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE clients c SET c.currentShelter = :shelter, c.status = :to, c.lastActivityDate = :now " +
+            "WHERE c.id IN :ids AND c.status = :from")
+    int moveToShelter(@Param("ids") Collection<Long> ids, @Param("shelter") Shelter shelter,
+                      @Param("from") ClientStatus from, @Param("to") ClientStatus to, @Param("now") LocalDateTime now);
+
+    // Current shelter of a SHELTERED client, empty otherwise
+    @Query("SELECT c.currentShelter.id FROM clients c WHERE c.id = :id AND c.status = com.sjhacks.sjhopes.models.enums.ClientStatus.SHELTERED")
+    Optional<Long> findShelterIdOfSheltered(@Param("id") Long id);
+
+    // Guarded on the shelter the caller saw: check-out (shelter = null) or transfer (shelter = the new one)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE clients c SET c.currentShelter = :shelter, c.status = :to, c.lastActivityDate = :now " +
+            "WHERE c.id = :id AND c.status = com.sjhacks.sjhopes.models.enums.ClientStatus.SHELTERED AND c.currentShelter.id = :fromShelterId")
+    int moveFromShelter(@Param("id") Long id, @Param("fromShelterId") Long fromShelterId,
+                        @Param("shelter") Shelter shelter, @Param("to") ClientStatus to, @Param("now") LocalDateTime now);
+
+    @Query("SELECT c.id FROM clients c WHERE c.id IN :ids AND c.currentShelter.id = :shelterId AND c.status = :status")
+    List<Long> findIdsAtShelter(@Param("ids") Collection<Long> ids, @Param("shelterId") Long shelterId,
+                                @Param("status") ClientStatus status);
+
+    // id, name in id order - batches for building ClientNameIndex without loading whole entities
+    @Query("SELECT c.id, c.name FROM clients c WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<Object[]> findIdAndNamePage(@Param("afterId") long afterId, Pageable pageable);
+
+    // --- Keyset pagination (see KeysetCursor) ---
+    @EntityGraph(attributePaths = "currentShelter")
+    @Query("SELECT c FROM clients c WHERE c.id > :afterId ORDER BY c.id ASC")
+    List<Client> findPageById(@Param("afterId") long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "currentShelter")
+    @Query("SELECT c FROM clients c WHERE " +
+            "(c.lastActivityDate < :lastActivityDate OR (c.lastActivityDate = :lastActivityDate AND c.id < :id)) " +
+            "ORDER BY c.lastActivityDate DESC, c.id DESC")
+    List<Client> findPageByLastActivityDate(@Param("lastActivityDate") LocalDateTime lastActivityDate, @Param("id") long id, Pageable pageable);
+
+    // --- Delta sync (see SyncWatermark) ---
+    @EntityGraph(attributePaths = "currentShelter")
+    @Query("SELECT c FROM clients c WHERE " +
+            "(c.lastActivityDate > :after OR (c.lastActivityDate = :after AND c.id > :afterId)) AND c.lastActivityDate <= :upTo " +
+            "ORDER BY c.lastActivityDate ASC, c.id ASC")
+    List<Client> findChangedSince(@Param("after") LocalDateTime after, @Param("afterId") long afterId,
+                                  @Param("upTo") LocalDateTime upTo, Pageable pageable);
 }
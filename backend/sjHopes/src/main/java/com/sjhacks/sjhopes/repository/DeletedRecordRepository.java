@@ -0,0 +1,27 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.DeletedRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DeletedRecordRepository extends JpaRepository<DeletedRecord, Long> {
+
+    // Tombstones after the (deletedAt, id) position up to `upTo`, in feed order
+    @Query("SELECT d FROM deleted_records d WHERE " +
+            "(d.deletedAt > :after OR (d.deletedAt = :after AND d.id > :afterId)) AND d.deletedAt <= :upTo " +
+            "ORDER BY d.deletedAt ASC, d.id ASC")
+    List<DeletedRecord> findChangedSince(@Param("after") LocalDateTime after, @Param("afterId") long afterId,
+                                         @Param("upTo") LocalDateTime upTo, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM deleted_records d WHERE d.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,52 @@
+package com.sjhacks.sjhopes.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Tables that moved from IDENTITY to a pooled sequence keep their existing rows (and rows loaded
+// from sql/sample-data), but a freshly created sequence starts at 1. Before anything can insert,
+// push each sequence past MAX(id) so the first pooled block can't collide with existing ids.
+@Component
+@Slf4j
+public class IdSequenceAligner {
+
+    // table, sequence, allocationSize - must match the entity's @SequenceGenerator
+    private static final List<SequencedTable> TABLES = List.of(
+            new SequencedTable("tasks", "tasks_seq", 50),
+            new SequencedTable("shelters", "shelters_seq", 50),
+            new SequencedTable("outbox_events", "outbox_events_seq", 50)
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory; // Schema (and sequences) exist once this is built
+
+    @PostConstruct
+    public void align() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        for (SequencedTable table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table.table(), Long.class);
+            // A pooled block read as N covers ids N - allocationSize + 1 .. N
+            long floor = maxId + table.allocationSize() + 1;
+            if ("MySQL".equalsIgnoreCase(product)) {
+                // MySQL has no sequences; Hibernate emulates them with a one-row next_val table
+                jdbcTemplate.update("UPDATE " + table.sequence() + " SET next_val = GREATEST(next_val, ?)", floor);
+            } else if (maxId > 0) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + table.sequence() + " RESTART WITH " + floor);
+            }
+            log.info("Startup: {} id sequence aligned above max id {}", table.table(), maxId);
+        }
+    }
+
+    private record SequencedTable(String table, String sequence, int allocationSize) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.sjhacks.sjhopes.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+// Client notes used to be a single clients.caseworker_notes TEXT column. ddl-auto=update never
+// drops columns, so on databases that still have it, move each non-empty value into
+// client_notes as that client's first note and clear the column. Runs once per row.
+@Component
+@Slf4j
+public class LegacyNotesMigrator {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory; // client_notes exists once this is built
+
+    @PostConstruct
+    public void migrate() {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+        Integer moved = transactionTemplate.execute(status -> {
+            int inserted = jdbcTemplate.update(
+                    "INSERT INTO client_notes (client_id, created_at, author, compressed, body) " +
+                    "SELECT id, last_activity_date, NULL, FALSE, caseworker_notes FROM clients " +
+                    "WHERE caseworker_notes IS NOT NULL AND caseworker_notes <> ''");
+            jdbcTemplate.update("UPDATE clients SET caseworker_notes = NULL WHERE caseworker_notes IS NOT NULL");
+            return inserted;
+        });
+        if (moved != null && moved > 0) {
+            log.info("Startup: Moved {} legacy caseworker notes into client_notes", moved);
+        }
+    }
+
+    private boolean hasLegacyColumn() {
+        Boolean found = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData meta = connection.getMetaData();
+            for (String column : new String[]{"caseworker_notes", "CASEWORKER_NOTES"}) { // Identifier case differs by database
+                try (ResultSet rs = meta.getColumns(connection.getCatalog(), null, null, column)) {
+                    while (rs.next()) {
+                        if ("clients".equalsIgnoreCase(rs.getString("TABLE_NAME"))) return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+}
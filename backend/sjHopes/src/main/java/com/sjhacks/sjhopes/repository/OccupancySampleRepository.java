@@ -0,0 +1,40 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.OccupancySample;
+import com.sjhacks.sjhopes.models.enums.OccupancyScope;
+import com.sjhacks.sjhopes.models.enums.SampleResolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OccupancySampleRepository extends JpaRepository<OccupancySample, Long> {
+
+    List<OccupancySample> findByScopeAndSeriesKeyAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+            OccupancyScope scope, String seriesKey, SampleResolution resolution, LocalDateTime from, LocalDateTime to);
+
+    @Query("SELECT MAX(o.bucketStart) FROM occupancy_samples o WHERE o.resolution = :resolution")
+    LocalDateTime findLatestBucket(@Param("resolution") SampleResolution resolution);
+
+    @Query("SELECT MIN(o.bucketStart) FROM occupancy_samples o WHERE o.resolution = :resolution")
+    LocalDateTime findEarliestBucket(@Param("resolution") SampleResolution resolution);
+
+    // scope, seriesKey, weighted avg capacity, weighted avg availability, min availability, sample count
+    @Query("SELECT o.scope, o.seriesKey, " +
+            "SUM(o.capacity * o.sampleCount) / SUM(o.sampleCount), " +
+            "SUM(o.availability * o.sampleCount) / SUM(o.sampleCount), " +
+            "MIN(o.minAvailability), SUM(o.sampleCount) " +
+            "FROM occupancy_samples o WHERE o.resolution = :resolution " +
+            "AND o.bucketStart >= :from AND o.bucketStart < :to GROUP BY o.scope, o.seriesKey")
+    List<Object[]> aggregateWindow(@Param("resolution") SampleResolution resolution,
+                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM occupancy_samples o WHERE o.resolution = :resolution AND o.bucketStart < :before")
+    int deleteOlderThan(@Param("resolution") SampleResolution resolution, @Param("before") LocalDateTime before);
+}
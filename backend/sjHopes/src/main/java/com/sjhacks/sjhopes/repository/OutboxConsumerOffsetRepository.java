@@ -0,0 +1,9 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.OutboxConsumerOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxConsumerOffsetRepository extends JpaRepository<OutboxConsumerOffset, String> {
+}
@@ -0,0 +1,31 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // id only - the relay just numbers them
+    @Query("SELECT o.id FROM outbox_events o WHERE o.sequenceNumber IS NULL ORDER BY o.id ASC")
+    List<Long> findUnsequencedIds(Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(o.sequenceNumber), 0) FROM outbox_events o")
+    long findHeadSequence();
+
+    @Query("SELECT o FROM outbox_events o WHERE o.sequenceNumber > :after ORDER BY o.sequenceNumber ASC")
+    List<OutboxEvent> findAfter(@Param("after") long after, Pageable pageable);
+
+    // Only rows every consumer has processed, and only once they're old enough to stop being replayed
+    @Modifying
+    @Query("DELETE FROM outbox_events o WHERE o.sequenceNumber <= :upTo AND o.createdAt < :before")
+    int deleteConsumed(@Param("upTo") long upTo, @Param("before") LocalDateTime before);
+}
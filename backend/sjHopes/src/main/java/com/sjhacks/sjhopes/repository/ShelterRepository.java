@@ -3,19 +3,29 @@ package com.sjhacks.sjhopes.repository;
 import com.sjhacks.sjhopes.models.dto.ShelterTypeSummaryDto;
 import com.sjhacks.sjhopes.models.entity.Shelter;
 import com.sjhacks.sjhopes.models.enums.ShelterType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ShelterRepository extends JpaRepository<Shelter, Long> {
+public interface ShelterRepository extends JpaRepository<Shelter, Long>, ShelterRepositoryCustom {
+
+    // id, name, addressLine1 of every shelter: natural keys for bulk-import matching, which are
+    // normalized in Java (case, inner whitespace). Covered by idx_shelters_name_address.
+    @Query("SELECT s.id, s.name, s.addressLine1 FROM shelters s")
+    List<Object[]> findImportKeys();
 
     // Method for the simple GET /api/shelters endpoint - find active shelters
+    @CachedShelterQuery
     List<Shelter> findAllByIsActive(boolean isActive); // Simple derived query
 
+    @CachedShelterQuery
     @Query("SELECT s FROM shelters s WHERE " +
             "(:allowsPets IS NULL OR s.allowsPets = :allowsPets) AND " +
             "(:allowsPartner IS NULL OR s.allowsPartner = :allowsPartner) AND " +
@@ -28,22 +38,69 @@ public interface ShelterRepository extends JpaRepository<Shelter, Long> {
             @Param("isActive") Boolean isActive
     );
 
+    // --- Keyset pagination over active shelters (see KeysetCursor) ---
+    @Query("SELECT s FROM shelters s WHERE s.isActive = true AND s.id > :afterId ORDER BY s.id ASC")
+    List<Shelter> findActivePageById(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT s FROM shelters s WHERE s.isActive = true AND " +
+            "(s.lastUpdated < :lastUpdated OR (s.lastUpdated = :lastUpdated AND s.id < :id)) " +
+            "ORDER BY s.lastUpdated DESC, s.id DESC")
+    List<Shelter> findActivePageByLastUpdated(@Param("lastUpdated") LocalDateTime lastUpdated, @Param("id") long id, Pageable pageable);
+
+    // --- Delta sync (see SyncWatermark): every row touched after the position, ascending ---
+    @Query("SELECT s FROM shelters s WHERE " +
+            "(s.lastUpdated > :after OR (s.lastUpdated = :after AND s.id > :afterId)) AND s.lastUpdated <= :upTo " +
+            "ORDER BY s.lastUpdated ASC, s.id ASC")
+    List<Shelter> findChangedSince(@Param("after") LocalDateTime after, @Param("afterId") long afterId,
+                                   @Param("upTo") LocalDateTime upTo, Pageable pageable);
+
+    @Query("SELECT s.currentAvailability FROM shelters s WHERE s.id = :id")
+    Optional<Integer> findAvailabilityById(@Param("id") Long id);
+
+    // currentAvailability, totalCapacity - read from the table, never the second-level cache
+    @Query("SELECT s.currentAvailability, s.totalCapacity FROM shelters s WHERE s.id = :id")
+    List<Object[]> findBedCountsById(@Param("id") Long id);
+
+    // --- Occupancy reconciliation ---
+    // id, stored availability, availability implied by occupancy (capacity - SHELTERED clients - HELD holds).
+    // One grouped pass over clients and one over holds, joined to shelters; only drifted rows come back.
+    @Query(value = "SELECT s.id, s.current_availability, " +
+            "GREATEST(0, s.total_capacity - COALESCE(o.occupied, 0) - COALESCE(h.held, 0)) AS expected " +
+            "FROM shelters s " +
+            "LEFT JOIN (SELECT current_shelter_id AS shelter_id, COUNT(*) AS occupied FROM clients " +
+            "           WHERE status = 'SHELTERED' AND current_shelter_id IS NOT NULL GROUP BY current_shelter_id) o ON o.shelter_id = s.id " +
+            "LEFT JOIN (SELECT shelter_id, SUM(beds) AS held FROM bed_holds WHERE status = 'HELD' GROUP BY shelter_id) h ON h.shelter_id = s.id " +
+            "WHERE s.current_availability <> GREATEST(0, s.total_capacity - COALESCE(o.occupied, 0) - COALESCE(h.held, 0))",
+            nativeQuery = true)
+    List<Object[]> findAvailabilityDrift();
+
     // --- New Methods for Analytics ---
+    @CachedShelterQuery
     long countByIsActive(boolean isActive);
 
+    @CachedShelterQuery
     long countByAllowsPetsAndIsActive(boolean allowsPets, boolean isActive);
 
+    @CachedShelterQuery
     long countByAllowsPartnerAndIsActive(boolean allowsPartner, boolean isActive);
 
     // Use JPQL SUM aggregate function - Ensure return type matches (Long or handle null)
+    @CachedShelterQuery
     @Query("SELECT SUM(s.totalCapacity) FROM shelters s WHERE s.isActive = true")
     Long getTotalActiveCapacity(); // Can return null if no active shelters
 
+    @CachedShelterQuery
     @Query("SELECT SUM(s.currentAvailability) FROM shelters s WHERE s.isActive = true")
     Long getCurrentActiveAvailability(); // Can return null
 
+    // One row per shelter with only the columns the analytics counters need:
+    // id, isActive, totalCapacity, currentAvailability, allowsPets, allowsPartner, shelterType
+    @Query("SELECT s.id, s.isActive, s.totalCapacity, s.currentAvailability, s.allowsPets, s.allowsPartner, s.shelterType FROM shelters s")
+    List<Object[]> findAnalyticsRows();
+
     // Query to group by ShelterType and calculate aggregates
     // Using constructor expression to map results directly to DTO
+    @CachedShelterQuery
     @Query("SELECT new com.sjhacks.sjhopes.models.dto.ShelterTypeSummaryDto(" +
             "s.shelterType, COUNT(s), SUM(s.totalCapacity), SUM(s.currentAvailability), 0.0) " + // Placeholder for rate
             "FROM shelters s WHERE s.isActive = true GROUP BY s.shelterType")
@@ -0,0 +1,24 @@
+package com.sjhacks.sjhopes.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Availability UPDATEs, run as plain SQL so that only the rows they touch leave the second-level
+// cache (see ShelterRepositoryCustomImpl). Like every bulk UPDATE here, stamped with `now` from
+// SyncClock rather than the database clock. All of them need a transaction.
+public interface ShelterRepositoryCustom {
+
+    // Claims beds in one guarded statement - returns 1 if they were taken, 0 if the shelter
+    // is missing or doesn't have enough availability. No read, no lost update.
+    int claimBeds(Long id, int beds, LocalDateTime now);
+
+    // Gives beds back, never going above total capacity
+    int releaseBeds(Long id, int beds, LocalDateTime now);
+
+    // CONDITIONAL_UPDATE only: guarded on the value the drift query saw, so a claim committed in between
+    // isn't overwritten. IN_MEMORY corrects the live counters instead (BedInventoryService.reconcile).
+    int correctAvailability(Long id, int seen, int expected, LocalDateTime now);
+
+    // IN_MEMORY write-behind: shelter id -> count, one CASE statement per chunk
+    void writeAvailability(Map<Long, Integer> counts, LocalDateTime now);
+}
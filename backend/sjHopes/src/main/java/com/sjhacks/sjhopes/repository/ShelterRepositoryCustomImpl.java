@@ -0,0 +1,78 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.cache.SecondLevelCache;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Run through Hibernate, as JPQL or native bulk updates, these statements would evict the whole
+// Shelter region on every claim and every write-behind flush. Through JdbcTemplate (same connection
+// and transaction) Hibernate doesn't see them, and SecondLevelCache evicts just the ids involved.
+@Transactional(propagation = Propagation.MANDATORY)
+class ShelterRepositoryCustomImpl implements ShelterRepositoryCustom {
+
+    // Shelters written back per UPDATE statement
+    private static final int WRITE_CHUNK = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Override
+    public int claimBeds(Long id, int beds, LocalDateTime now) {
+        return updated(List.of(id), jdbcTemplate.update(
+                "UPDATE shelters SET current_availability = current_availability - ?, last_updated = ? " +
+                        "WHERE id = ? AND current_availability >= ?", beds, now, id, beds));
+    }
+
+    @Override
+    public int releaseBeds(Long id, int beds, LocalDateTime now) {
+        return updated(List.of(id), jdbcTemplate.update(
+                "UPDATE shelters SET current_availability = CASE WHEN current_availability + ? > total_capacity " +
+                        "THEN total_capacity ELSE current_availability + ? END, last_updated = ? WHERE id = ?",
+                beds, beds, now, id));
+    }
+
+    @Override
+    public int correctAvailability(Long id, int seen, int expected, LocalDateTime now) {
+        return updated(List.of(id), jdbcTemplate.update(
+                "UPDATE shelters SET current_availability = ?, last_updated = ? WHERE id = ? AND current_availability = ?",
+                expected, now, id, seen));
+    }
+
+    @Override
+    public void writeAvailability(Map<Long, Integer> counts, LocalDateTime now) {
+        List<Long> ids = new ArrayList<>(counts.keySet());
+        for (int from = 0; from < ids.size(); from += WRITE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + WRITE_CHUNK, ids.size()));
+            // Ids and numbers straight from the counters, written inline so the CASE has a type to go by
+            StringBuilder sql = new StringBuilder("UPDATE shelters SET current_availability = CASE id");
+            for (Long id : chunk) {
+                sql.append(" WHEN ").append(id).append(" THEN ").append(counts.get(id));
+            }
+            sql.append(" END, last_updated = ? WHERE id IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(chunk.get(i));
+            }
+            sql.append(')');
+            updated(chunk, jdbcTemplate.update(sql.toString(), now));
+        }
+    }
+
+    private int updated(Collection<Long> ids, int rows) {
+        if (rows > 0) {
+            SecondLevelCache.shelterRowsUpdated(entityManager, ids);
+        }
+        return rows;
+    }
+}
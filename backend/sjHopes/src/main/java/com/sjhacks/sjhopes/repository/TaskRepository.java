@@ -2,11 +2,55 @@ package com.sjhacks.sjhopes.repository;
 
 import com.sjhacks.sjhopes.models.entity.Task;
 import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     long countByStatus(TaskStatus status);
+
+    // Seeds UpcomingTaskIndex (idx_tasks_status_time)
+    List<Task> findByStatusAndTaskDateTimeGreaterThanEqual(TaskStatus status, LocalDateTime from);
+
+    // id, status of every task - an index-only scan of idx_tasks_status_time
+    @Query("SELECT t.id, t.status FROM tasks t")
+    List<Object[]> findAllStatuses();
+
+    // --- Guarded state transitions: 1 if this caller moved the task, 0 if it was missing or already moved on ---
+    // `now` comes from SyncClock, the same clock as every other sync stamp
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE tasks t SET t.status = :to, t.clientId = :clientId, t.lastUpdated = :now " +
+            "WHERE t.id = :id AND t.status = :from")
+    int transition(@Param("id") Long id, @Param("from") TaskStatus from, @Param("to") TaskStatus to,
+                   @Param("clientId") Long clientId, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE tasks t SET t.status = :to, t.lastUpdated = :now WHERE t.id = :id AND t.status = :from")
+    int transition(@Param("id") Long id, @Param("from") TaskStatus from, @Param("to") TaskStatus to,
+                   @Param("now") LocalDateTime now);
+
+    // --- Keyset pagination (see KeysetCursor) ---
+    @Query("SELECT t FROM tasks t WHERE t.id > :afterId ORDER BY t.id ASC")
+    List<Task> findPageById(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT t FROM tasks t WHERE " +
+            "(t.lastUpdated < :lastUpdated OR (t.lastUpdated = :lastUpdated AND t.id < :id)) " +
+            "ORDER BY t.lastUpdated DESC, t.id DESC")
+    List<Task> findPageByLastUpdated(@Param("lastUpdated") LocalDateTime lastUpdated, @Param("id") long id, Pageable pageable);
+
+    // --- Delta sync (see SyncWatermark) ---
+    @Query("SELECT t FROM tasks t WHERE " +
+            "(t.lastUpdated > :after OR (t.lastUpdated = :after AND t.id > :afterId)) AND t.lastUpdated <= :upTo " +
+            "ORDER BY t.lastUpdated ASC, t.id ASC")
+    List<Task> findChangedSince(@Param("after") LocalDateTime after, @Param("afterId") long afterId,
+                                @Param("upTo") LocalDateTime upTo, Pageable pageable);
 }
@@ -0,0 +1,43 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// Building blocks for TaskRepository.findAll(Specification, ...). Only the filters that were
+// actually supplied end up in the WHERE clause, so MySQL can use the matching composite index
+// instead of the "(:param IS NULL OR col = :param)" pattern that forces a full scan.
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(TaskStatus status, Long clientId, LocalDateTime from, LocalDateTime to) {
+        Specification<Task> spec = Specification.where(null);
+        if (status != null) spec = spec.and(hasStatus(status));
+        if (clientId != null) spec = spec.and(assignedTo(clientId));
+        if (from != null) spec = spec.and(scheduledFrom(from));
+        if (to != null) spec = spec.and(scheduledBefore(to));
+        return spec;
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> assignedTo(Long clientId) {
+        return (root, query, cb) -> cb.equal(root.get("clientId"), clientId);
+    }
+
+    // Inclusive lower bound
+    public static Specification<Task> scheduledFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("taskDateTime"), from);
+    }
+
+    // Exclusive upper bound
+    public static Specification<Task> scheduledBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("taskDateTime"), to);
+    }
+}
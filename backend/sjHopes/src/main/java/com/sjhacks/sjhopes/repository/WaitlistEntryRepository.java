@@ -0,0 +1,30 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.WaitlistEntry;
+import com.sjhacks.sjhopes.models.enums.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    boolean existsByClientIdAndStatus(Long clientId, WaitlistStatus status);
+
+    // id, clientId, shelterId, shelterType, priority, hasPet, hasPartner - rebuilds the in-memory queues
+    @Query("SELECT w.id, w.clientId, w.shelterId, w.shelterType, w.priority, c.hasPet, c.hasPartner " +
+            "FROM waitlist_entries w, clients c WHERE c.id = w.clientId AND w.status = :status")
+    List<Object[]> findQueueRows(@Param("status") WaitlistStatus status);
+
+    // Guarded: only a WAITING entry can be placed or cancelled, and only once
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE waitlist_entries w SET w.status = :to, w.placedShelterId = :placedShelterId, w.resolvedAt = :now " +
+            "WHERE w.id = :id AND w.status = :from")
+    int resolve(@Param("id") Long id, @Param("from") WaitlistStatus from, @Param("to") WaitlistStatus to,
+                @Param("placedShelterId") Long placedShelterId, @Param("now") LocalDateTime now);
+}
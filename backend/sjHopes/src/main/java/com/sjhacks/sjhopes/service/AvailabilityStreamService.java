@@ -0,0 +1,10 @@
+package com.sjhacks.sjhopes.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface AvailabilityStreamService {
+
+    SseEmitter subscribe();
+
+    int getSubscriberCount();
+}
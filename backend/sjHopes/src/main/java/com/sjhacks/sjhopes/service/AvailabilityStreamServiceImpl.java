@@ -0,0 +1,167 @@
+package com.sjhacks.sjhopes.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sjhacks.sjhopes.models.dto.ShelterAvailabilityDeltaDto;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Pushes shelter availability deltas to connected screens over Server-Sent Events.
+// Changes are coalesced per shelter and flushed on a short interval, so a burst of
+// reservations at one shelter becomes a single delta, and idle periods cost nothing.
+@Service
+@Slf4j
+public class AvailabilityStreamServiceImpl implements AvailabilityStreamService {
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${sjhopes.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // Shelters changed since the last flush. Only the id is kept: events from concurrent commits
+    // arrive in any order, so the count is read when the delta is built, not taken from the event.
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    // Reservation events don't carry the active flag, so remember which shelters are inactive
+    private final Set<Long> inactiveShelters = ConcurrentHashMap.newKeySet();
+
+    // emitter.send blocks on slow clients; it must not hold up the shared scheduler thread.
+    // One thread, so frames reach each subscriber in the order they were built.
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "availability-stream-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInactiveShelters() {
+        shelterRepository.findAllByIsActive(false).forEach(shelter -> inactiveShelters.add(shelter.getId()));
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        log.debug("Stream: Subscriber added, {} connected", emitters.size());
+        return emitter;
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShelterChanged(ShelterChangedEvent event) {
+        Long id = event.getShelterId();
+        switch (event.getChangeType()) {
+            case SAVED -> {
+                if (event.getShelter().isActive()) {
+                    inactiveShelters.remove(id);
+                } else {
+                    inactiveShelters.add(id);
+                }
+            }
+            case DELETED -> inactiveShelters.remove(id);
+            default -> {
+            }
+        }
+        pending.add(id);
+    }
+
+    @Scheduled(fixedDelayString = "${sjhopes.stream.coalesce-interval-ms:500}")
+    public void publishPending() {
+        if (pending.isEmpty()) return;
+
+        List<ShelterAvailabilityDeltaDto> batch = new ArrayList<>(pending.size());
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            Long id = it.next();
+            it.remove(); // Before the read, so a change landing after it is flushed next time
+            batch.add(currentDelta(id));
+        }
+        if (batch.isEmpty() || emitters.isEmpty()) return;
+
+        // Serialize once, not once per subscriber
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(batch);
+        } catch (JsonProcessingException e) {
+            log.error("Stream: Failed to serialize availability deltas", e);
+            return;
+        }
+        send(SseEmitter.event().name("availability").data(payload, MediaType.APPLICATION_JSON));
+    }
+
+    // Comment frame so proxies don't cut idle connections
+    @Scheduled(fixedDelayString = "${sjhopes.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        if (!emitters.isEmpty()) {
+            send(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    // Live counter first; a shelter without one is read from its row, and no row means it was deleted
+    private ShelterAvailabilityDeltaDto currentDelta(Long id) {
+        OptionalInt live = bedInventory.getAvailability(id);
+        if (live.isPresent()) {
+            return new ShelterAvailabilityDeltaDto(id, live.getAsInt(), !inactiveShelters.contains(id));
+        }
+        return shelterRepository.findAvailabilityById(id)
+                .map(available -> new ShelterAvailabilityDeltaDto(id, available, !inactiveShelters.contains(id)))
+                .orElseGet(() -> new ShelterAvailabilityDeltaDto(id, 0, false));
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) {
+        // Build the frame once; the builder appends to itself on every build()
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = event.build();
+        sender.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    emitters.remove(emitter); // Client went away
+                }
+            }
+        });
+    }
+}
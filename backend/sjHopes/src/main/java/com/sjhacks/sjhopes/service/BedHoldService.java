@@ -0,0 +1,19 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.entity.BedHold;
+
+import java.util.Optional;
+
+public interface BedHoldService {
+
+    // Empty when the shelter doesn't exist or has no free bed
+    Optional<BedHold> holdBed(Long shelterId, Long clientId, Integer ttlMinutes);
+
+    Optional<BedHold> getHold(Long holdId);
+
+    boolean confirmHold(Long holdId);
+
+    boolean releaseHold(Long holdId);
+
+    int expireDueHolds();
+}
@@ -0,0 +1,175 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.hold.TimerWheel;
+import com.sjhacks.sjhopes.models.entity.BedHold;
+import com.sjhacks.sjhopes.models.enums.HoldStatus;
+import com.sjhacks.sjhopes.repository.BedHoldRepository;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Time-bounded bed holds. A hold claims its bed up front (same path as reserveShelterBed) and is
+// persisted; its deadline goes into an in-memory timer wheel that one scheduled tick drains, so
+// expired holds are returned in bulk without a thread or timer per hold. The wheel is rebuilt
+// from the HELD rows on startup, and a slow sweep catches anything it missed.
+@Service
+@Slf4j
+public class BedHoldServiceImpl implements BedHoldService {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SLOTS = 4096; // ~68 minutes per turn at 1s ticks
+    private static final int EXPIRY_CHUNK = 500;
+
+    @Autowired
+    private BedHoldRepository holdRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${sjhopes.holds.default-ttl-minutes:30}")
+    private int defaultTtlMinutes;
+
+    @Value("${sjhopes.holds.max-ttl-minutes:240}")
+    private int maxTtlMinutes;
+
+    private final TimerWheel<Long> wheel = new TimerWheel<>(TICK_MILLIS, WHEEL_SLOTS, System.currentTimeMillis());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadHolds() {
+        List<Object[]> live = holdRepository.findDeadlinesByStatus(HoldStatus.HELD);
+        for (Object[] row : live) {
+            wheel.schedule((Long) row[0], toMillis((LocalDateTime) row[1]));
+        }
+        log.info("Holds: Reloaded {} live bed holds into the timer wheel", live.size());
+    }
+
+    @Transactional
+    @Override
+    public Optional<BedHold> holdBed(Long shelterId, Long clientId, Integer ttlMinutes) {
+        int ttl = ttlMinutes != null ? ttlMinutes : defaultTtlMinutes;
+        if (ttl < 1 || ttl > maxTtlMinutes) {
+            throw new IllegalArgumentException("Hold TTL must be between 1 and " + maxTtlMinutes + " minutes");
+        }
+        if (!clientRepository.existsById(clientId)) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+        log.info("Service: Holding a bed at shelter id: {} for client id: {} ({} min)", shelterId, clientId, ttl);
+        if (!resourceService.claimBeds(shelterId, 1)) {
+            log.warn("Service: Hold failed for shelter id: {}. Shelter not found or no availability.", shelterId);
+            return Optional.empty();
+        }
+
+        BedHold hold = new BedHold();
+        hold.setShelterId(shelterId);
+        hold.setClientId(clientId);
+        hold.setExpiresAt(LocalDateTime.now().plusMinutes(ttl));
+        hold = holdRepository.save(hold); // On rollback the inventory gives the claimed bed back itself
+        // If this transaction rolls back, the timer finds no HELD row and does nothing
+        wheel.schedule(hold.getId(), toMillis(hold.getExpiresAt()));
+        return Optional.of(hold);
+    }
+
+    @Override
+    public Optional<BedHold> getHold(Long holdId) {
+        return holdRepository.findById(holdId);
+    }
+
+    // The bed is already claimed, confirming only links the client (assignShelterToClient)
+    @Transactional
+    @Override
+    public boolean confirmHold(Long holdId) {
+        BedHold hold = holdRepository.findById(holdId)
+                .orElseThrow(() -> new EntityNotFoundException("Hold not found with id: " + holdId));
+        if (holdRepository.transitionIfLive(holdId, HoldStatus.HELD, HoldStatus.CONFIRMED, LocalDateTime.now()) != 1) {
+            log.warn("Service: Hold {} can't be confirmed, it is {} or has lapsed", holdId, hold.getStatus());
+            return false;
+        }
+        clientService.assignShelterToClient(hold.getClientId(), hold.getShelterId());
+        wheel.cancel(holdId);
+        log.info("Service: Hold {} confirmed, client {} placed at shelter {}", holdId, hold.getClientId(), hold.getShelterId());
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public boolean releaseHold(Long holdId) {
+        BedHold hold = holdRepository.findById(holdId)
+                .orElseThrow(() -> new EntityNotFoundException("Hold not found with id: " + holdId));
+        if (holdRepository.transitionAll(List.of(holdId), HoldStatus.HELD, HoldStatus.RELEASED, LocalDateTime.now()) != 1) {
+            log.warn("Service: Hold {} can't be released, it is already {}", holdId, hold.getStatus());
+            return false;
+        }
+        resourceService.releaseBeds(hold.getShelterId(), hold.getBeds());
+        wheel.cancel(holdId);
+        log.info("Service: Hold {} released, bed returned to shelter {}", holdId, hold.getShelterId());
+        return true;
+    }
+
+    // One wheel tick: whatever came due is expired in bulk
+    @Scheduled(fixedRate = TICK_MILLIS)
+    @Override
+    public int expireDueHolds() {
+        return expire(wheel.advance(System.currentTimeMillis()));
+    }
+
+    // Backstop for holds the wheel never saw (e.g. written by another instance)
+    @Scheduled(fixedDelayString = "${sjhopes.holds.sweep-interval-ms:300000}", initialDelayString = "${sjhopes.holds.sweep-interval-ms:300000}")
+    public void sweepOverdueHolds() {
+        int expired = expire(holdRepository.findIdsDue(HoldStatus.HELD, LocalDateTime.now()));
+        if (expired > 0) {
+            log.warn("Holds: Sweep expired {} overdue holds the timer wheel missed", expired);
+        }
+    }
+
+    private int expire(List<Long> holdIds) {
+        int expired = 0;
+        for (int from = 0; from < holdIds.size(); from += EXPIRY_CHUNK) {
+            List<Long> chunk = holdIds.subList(from, Math.min(from + EXPIRY_CHUNK, holdIds.size()));
+            Integer count = transactionTemplate.execute(status -> expireChunk(chunk));
+            expired += count != null ? count : 0;
+        }
+        return expired;
+    }
+
+    // Lock the due rows, flip them to EXPIRED and return their beds with one release per shelter
+    private int expireChunk(List<Long> holdIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BedHold> due = holdRepository.lockDue(holdIds, HoldStatus.HELD, now);
+        if (due.isEmpty()) return 0;
+
+        holdRepository.transitionAll(due.stream().map(BedHold::getId).toList(), HoldStatus.HELD, HoldStatus.EXPIRED, now);
+        Map<Long, Integer> bedsByShelter = new HashMap<>();
+        due.forEach(hold -> bedsByShelter.merge(hold.getShelterId(), hold.getBeds(), Integer::sum));
+        bedsByShelter.forEach(resourceService::releaseBeds);
+        log.info("Holds: Expired {} holds across {} shelters", due.size(), bedsByShelter.size());
+        return due.size();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.entity.Shelter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+
+public interface BedInventoryService {
+
+    boolean tryReserve(Long shelterId, int beds);
+
+    void release(Long shelterId, int beds);
+
+    OptionalInt getAvailability(Long shelterId);
+
+    // Detaches the shelter from any persistence context, then sets its live count
+    void overlay(Shelter shelter);
+
+    void reset(Shelter shelter);
+
+    void evict(Long shelterId);
+
+    void flush();
+
+    // Corrects the live counters from a drift query (shelter id, stored, expected); returns id -> new count
+    Map<Long, Integer> reconcile(Supplier<List<Object[]>> driftQuery);
+}
@@ -0,0 +1,290 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// In-memory bed counters, one per shelter. Reservations are a compare-and-set on the
+// shelter's slot; the database copy is brought up to date by a periodic write-behind batch.
+// NOTE: the counters are per JVM, so this assumes a single backend instance.
+@Service
+@Slf4j
+public class BedInventoryServiceImpl implements BedInventoryService {
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SyncClock syncClock;
+
+    private final ConcurrentHashMap<Long, BedSlot> slots = new ConcurrentHashMap<>();
+
+    // Shelters whose in-memory count has not been written back yet
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    // Keeps a write-behind batch from landing on top of an admin reset or a reconciliation pass
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Override
+    public boolean tryReserve(Long shelterId, int beds) {
+        BedSlot slot = slotFor(shelterId);
+        if (slot == null || !slot.take(beds)) {
+            return false;
+        }
+        changed(shelterId, slot, () -> slot.give(beds));
+        return true;
+    }
+
+    @Override
+    public void release(Long shelterId, int beds) {
+        BedSlot slot = slotFor(shelterId);
+        if (slot == null) {
+            log.warn("Inventory: Cannot release {} bed(s), shelter {} not found", beds, shelterId);
+            return;
+        }
+        slot.give(beds);
+        changed(shelterId, slot, () -> {
+            if (!slot.take(beds)) {
+                log.warn("Inventory: Rolled-back release of {} bed(s) at shelter {} could not be taken back", beds, shelterId);
+            }
+        });
+    }
+
+    @Override
+    public OptionalInt getAvailability(Long shelterId) {
+        BedSlot slot = slots.get(shelterId);
+        return slot != null ? OptionalInt.of(slot.available.get()) : OptionalInt.empty();
+    }
+
+    // Reads from the database can lag the counters by one flush interval. The shelter is detached
+    // first: left managed, dirty checking would write the live count back at commit, out of order
+    // with the write-behind.
+    @Override
+    public void overlay(Shelter shelter) {
+        if (shelter == null || shelter.getId() == null) return;
+        if (entityManager.contains(shelter)) {
+            entityManager.detach(shelter);
+        }
+        BedSlot slot = slots.get(shelter.getId());
+        if (slot != null) {
+            shelter.setCurrentAvailability(slot.available.get());
+        }
+    }
+
+    // Called when an admin writes the shelter row directly; the saved values win
+    @Override
+    public void reset(Shelter shelter) {
+        flushLock.lock();
+        try {
+            BedSlot slot = slots.get(shelter.getId());
+            if (slot != null) {
+                slot.capacity = shelter.getTotalCapacity();
+                slot.available.set(shelter.getCurrentAvailability());
+            }
+            dirty.remove(shelter.getId());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(Long shelterId) {
+        flushLock.lock();
+        try {
+            slots.remove(shelterId);
+            dirty.remove(shelterId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Flushes, runs the drift query against the freshly written rows and moves each drifted counter
+    // by (expected - seen) instead of setting it, so a claim made after the flush is kept. The
+    // write-back stays paused throughout. A shelter with a change in flight, or one made during the
+    // pass, is skipped: its client links and count may disagree until that transaction ends, so it
+    // waits for the next pass. Runs outside the caller's transaction so the flushes commit on their own.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, Integer> reconcile(Supplier<List<Object[]>> driftQuery) {
+        flushLock.lock();
+        try {
+            Map<Long, Long> versions = new HashMap<>();
+            slots.forEach((id, slot) -> versions.put(id, slot.inFlight.get() > 0 ? -1L : slot.version.get()));
+            flush();
+            Map<Long, Integer> corrected = new LinkedHashMap<>();
+            for (Object[] row : driftQuery.get()) {
+                Long shelterId = ((Number) row[0]).longValue();
+                int seen = ((Number) row[1]).intValue();
+                int expected = ((Number) row[2]).intValue();
+                BedSlot slot = slotFor(shelterId); // A new slot loads `seen`, nothing else writes the row now
+                if (slot == null) continue;
+                if (slot.inFlight.get() > 0 || slot.version.get() != versions.getOrDefault(shelterId, 0L)) {
+                    log.info("Inventory: Shelter {} changed during reconciliation, left for the next pass", shelterId);
+                    continue;
+                }
+                corrected.put(shelterId, slot.adjust(expected - seen));
+                dirty.add(shelterId);
+            }
+            flush();
+            return corrected;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${sjhopes.inventory.flush-interval-ms:200}")
+    public void flush() {
+        if (dirty.isEmpty()) return;
+        flushLock.lock();
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        try {
+            // Clear the flag before reading the counter so a concurrent reservation re-marks it
+            for (Iterator<Long> it = dirty.iterator(); it.hasNext(); ) {
+                Long id = it.next();
+                it.remove();
+                BedSlot slot = slots.get(id);
+                if (slot != null) {
+                    counts.put(id, slot.available.get());
+                }
+            }
+            if (!counts.isEmpty()) {
+                writeBack(counts);
+                log.debug("Inventory: Wrote back availability for {} shelter(s)", counts.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Inventory: Write-behind failed for shelters {}, will retry: {}", counts.keySet(), e.getMessage());
+            dirty.addAll(counts.keySet());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // In a transaction of its own. Only the written shelters are evicted from the second-level
+    // cache, and cached shelter queries stop validating (see ShelterRepositoryCustomImpl).
+    private void writeBack(Map<Long, Integer> counts) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.executeWithoutResult(status -> shelterRepository.writeAvailability(counts, syncClock.stamp()));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // The counters aren't part of any transaction. Inside one, the change counts as in flight until
+    // it ends (see reconcile) and a rollback undoes it; only events from committed transactions
+    // reach listeners, so the undo doesn't publish one.
+    private void changed(Long shelterId, BedSlot slot, Runnable undo) {
+        slot.version.incrementAndGet();
+        dirty.add(shelterId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        slot.inFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    undo.run();
+                    slot.version.incrementAndGet();
+                    dirty.add(shelterId);
+                }
+                slot.inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private BedSlot slotFor(Long shelterId) {
+        BedSlot slot = slots.get(shelterId);
+        if (slot != null) {
+            return slot;
+        }
+        // Load outside of the map so a slow query doesn't block other shelters' bins. Straight from
+        // the table: a cached entity can predate the last write-back.
+        List<Object[]> counts = shelterRepository.findBedCountsById(shelterId);
+        if (counts.isEmpty()) {
+            return null;
+        }
+        int available = ((Number) counts.get(0)[0]).intValue();
+        int capacity = ((Number) counts.get(0)[1]).intValue();
+        return slots.computeIfAbsent(shelterId, id -> new BedSlot(available, capacity));
+    }
+
+    static final class BedSlot {
+        private final AtomicInteger available;
+        private volatile int capacity;
+        // Bumped by every claim and release; reconcile skips a slot that moved under it
+        private final AtomicLong version = new AtomicLong();
+        // Claims and releases whose transaction hasn't ended yet
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        BedSlot(int available, int capacity) {
+            this.available = new AtomicInteger(available);
+            this.capacity = capacity;
+        }
+
+        boolean take(int beds) {
+            while (true) {
+                int current = available.get();
+                if (current < beds) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - beds)) {
+                    return true;
+                }
+            }
+        }
+
+        int adjust(int delta) {
+            while (true) {
+                int current = available.get();
+                int next = Math.max(0, Math.min(current + delta, capacity));
+                if (available.compareAndSet(current, next)) {
+                    return next;
+                }
+            }
+        }
+
+        int give(int beds) {
+            while (true) {
+                int current = available.get();
+                int next = Math.min(current + beds, capacity);
+                if (available.compareAndSet(current, next)) {
+                    return next;
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.sjhacks.sjhopes.service;
 
+import com.sjhacks.sjhopes.models.dto.ClientMatchDto;
 import com.sjhacks.sjhopes.models.dto.ClientRequestDto;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
 import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.ClientNote;
 import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +20,19 @@ public interface ClientService {
 
     List<Client> getAllClients();
 
+    PageResponseDto<Client> getClientPage(String cursor, Integer size, ListingSort sort);
+
     Client updateClientStatus(Long clientId, ClientStatus newStatus);
 
     Client assignShelterToClient(Long clientId, Long shelterId);
 
-    Client updateClientNotes(Long clientId, String notes);
+    int assignShelterToClients(Collection<Long> clientIds, Long shelterId);
+
+    ClientNote appendClientNote(Long clientId, String text, String author);
+
+    List<ClientNote> getClientNotes(Long clientId, Long beforeId, int limit);
+
+    List<ClientMatchDto> lookupClients(String query, int limit, boolean typeahead);
+
+    List<ClientMatchDto> findPossibleDuplicates(Client client);
 }
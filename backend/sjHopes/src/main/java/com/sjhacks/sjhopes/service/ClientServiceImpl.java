@@ -1,19 +1,34 @@
 package com.sjhacks.sjhopes.service;
 
+import com.sjhacks.sjhopes.index.ClientNameIndex;
 import com.sjhacks.sjhopes.mapper.ClientMapper;
+import com.sjhacks.sjhopes.models.dto.ClientMatchDto;
 import com.sjhacks.sjhopes.models.dto.ClientRequestDto;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
 import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.ClientNote;
 import com.sjhacks.sjhopes.models.entity.Shelter;
 import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
+import com.sjhacks.sjhopes.models.event.ClientChangedEvent;
+import com.sjhacks.sjhopes.repository.ClientNoteRepository;
 import com.sjhacks.sjhopes.repository.ClientRepository;
 import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import com.sjhacks.sjhopes.util.KeysetCursor;
+import com.sjhacks.sjhopes.util.NoteCodec;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,25 +37,64 @@ import java.util.Optional;
 @Slf4j
 public class ClientServiceImpl implements ClientService {
 
+    private static final int MAX_DUPLICATE_CANDIDATES = 5;
+
     @Autowired
     private ClientRepository clientRepository;
     @Autowired
     private ShelterRepository shelterRepository;
+    @Autowired
+    @Lazy // ResourceServiceImpl depends on this service for reservations
+    private ResourceService resourceService;
+    @Autowired
+    private ClientNoteRepository clientNoteRepository;
+    @Autowired
+    private ClientNameIndex nameIndex;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SyncClock syncClock;
+
+    @Value("${sjhopes.clients.lookup-min-similarity:0.3}")
+    private double lookupMinSimilarity;
+
+    @Value("${sjhopes.clients.duplicate-min-similarity:0.5}")
+    private double duplicateMinSimilarity;
+
+    @Value("${sjhopes.notes.compress-threshold-bytes:1024}")
+    private int noteCompressThresholdBytes;
 
     @Transactional
     public Client registerClient(ClientRequestDto clientRequest) {
         Client newClient = ClientMapper.mapToEntity(clientRequest, null);
-        return clientRepository.save(newClient);
+        Client saved = clientRepository.save(newClient);
+        if (clientRequest.getCaseworkerNotes() != null && !clientRequest.getCaseworkerNotes().isBlank()) {
+            appendClientNote(saved.getId(), clientRequest.getCaseworkerNotes(), null);
+        }
+        eventPublisher.publishEvent(ClientChangedEvent.registered(saved));
+        return saved;
     }
 
     @Override
     public Optional<Client> getClientById(Long id) {
-        return clientRepository.findById(id);
+        return clientRepository.findWithShelterById(id);
     }
 
     @Override
     public List<Client> getAllClients() {
-        return clientRepository.findAll();
+        return clientRepository.findAllWithShelter();
+    }
+
+    @Override
+    public PageResponseDto<Client> getClientPage(String cursor, Integer size, ListingSort sort) {
+        int pageSize = KeysetCursor.clampPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, sort);
+        List<Client> rows = sort == ListingSort.ID
+                ? clientRepository.findPageById(after.getId(), KeysetCursor.fetchLimit(pageSize))
+                : clientRepository.findPageByLastActivityDate(after.getTimestamp(), after.getId(), KeysetCursor.fetchLimit(pageSize));
+        return KeysetCursor.toPage(rows, pageSize,
+                last -> KeysetCursor.encode(sort, last.getLastActivityDate(), last.getId()));
     }
 
     @Override
@@ -49,13 +103,22 @@ public class ClientServiceImpl implements ClientService {
         log.info("Service: Updating status for client id: {} to {}", clientId, newStatus);
         Client client = clientRepository.findById(clientId)
                 .orElseThrow(() -> new EntityNotFoundException("Client not found with id: " + clientId));
+        if (client.getStatus() == ClientStatus.SHELTERED && newStatus != ClientStatus.SHELTERED
+                && client.getCurrentShelter() != null) {
+            // Leaving a shelter has to give the bed back, not just drop the link
+            resourceService.checkOutClient(clientId, newStatus);
+            return clientRepository.findById(clientId)
+                    .orElseThrow(() -> new EntityNotFoundException("Client not found with id: " + clientId));
+        }
         client.setStatus(newStatus);
-        // If moving out of shelter, maybe clear shelter link?
         if (newStatus != ClientStatus.SHELTERED && client.getCurrentShelter() != null) {
             log.info("Service: Client {} status changed from SHELTERED, clearing shelter link.", clientId);
             client.setCurrentShelter(null);
         }
-        return clientRepository.save(client);
+        Client saved = clientRepository.save(client);
+        eventPublisher.publishEvent(ClientChangedEvent.statusChanged(clientId, newStatus,
+                saved.getCurrentShelter() != null ? saved.getCurrentShelter().getId() : null));
+        return saved;
     }
 
     @Override
@@ -69,16 +132,71 @@ public class ClientServiceImpl implements ClientService {
 
         client.setCurrentShelter(shelter);
         client.setStatus(ClientStatus.SHELTERED); // Update status
-        return clientRepository.save(client);
+        Client saved = clientRepository.save(client);
+        eventPublisher.publishEvent(ClientChangedEvent.statusChanged(clientId, ClientStatus.SHELTERED, shelterId));
+        return saved;
     }
 
+    // Group variant for reserveGroup: one UPDATE for every client, only those still SEEKING_PLACEMENT move
     @Override
     @Transactional
-    public Client updateClientNotes(Long clientId, String notes) {
-        log.info("Service: Updating notes for client id: {}", clientId);
-        Client client = clientRepository.findById(clientId)
-                .orElseThrow(() -> new EntityNotFoundException("Client not found with id: " + clientId));
-        client.setCaseworkerNotes(notes);
-        return clientRepository.save(client);
+    public int assignShelterToClients(Collection<Long> clientIds, Long shelterId) {
+        log.info("Service: Assigning shelter id: {} to {} clients", shelterId, clientIds.size());
+        Shelter shelter = shelterRepository.findById(shelterId)
+                .orElseThrow(() -> new EntityNotFoundException("Shelter not found with id: " + shelterId));
+        int moved = clientRepository.moveToShelter(clientIds, shelter, ClientStatus.SEEKING_PLACEMENT, ClientStatus.SHELTERED,
+                syncClock.stamp());
+        if (moved == clientIds.size()) {
+            // A partial move is rolled back by reserveGroup, so only a complete one is announced
+            clientIds.forEach(id -> eventPublisher.publishEvent(ClientChangedEvent.statusChanged(id, ClientStatus.SHELTERED, shelterId)));
+        }
+        return moved;
+    }
+
+    @Override
+    public List<ClientMatchDto> lookupClients(String query, int limit, boolean typeahead) {
+        return nameIndex.search(query, limit, lookupMinSimilarity, typeahead).stream()
+                .map(match -> new ClientMatchDto(match.clientId(), match.name(), match.similarity()))
+                .toList();
+    }
+
+    // Other clients whose names are close enough to be the same person mistyped
+    @Override
+    public List<ClientMatchDto> findPossibleDuplicates(Client client) {
+        return nameIndex.search(client.getName(), MAX_DUPLICATE_CANDIDATES + 1, duplicateMinSimilarity, false).stream()
+                .filter(match -> match.clientId() != client.getId())
+                .limit(MAX_DUPLICATE_CANDIDATES)
+                .map(match -> new ClientMatchDto(match.clientId(), match.name(), match.similarity()))
+                .toList();
+    }
+
+    // Notes are appended, never rewritten; large ones are stored compressed
+    @Override
+    @Transactional
+    public ClientNote appendClientNote(Long clientId, String text, String author) {
+        log.info("Service: Appending note for client id: {}", clientId);
+        if (!clientRepository.existsById(clientId)) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+        NoteCodec.Encoded encoded = NoteCodec.encode(text, noteCompressThresholdBytes);
+        ClientNote note = new ClientNote();
+        note.setClientId(clientId);
+        note.setAuthor(author);
+        note.setBody(encoded.body());
+        note.setCompressed(encoded.compressed());
+        ClientNote saved = clientNoteRepository.save(note);
+        eventPublisher.publishEvent(ClientChangedEvent.noteAdded(clientId, saved.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<ClientNote> getClientNotes(Long clientId, Long beforeId, int limit) {
+        if (!clientRepository.existsById(clientId)) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+        PageRequest page = PageRequest.of(0, limit);
+        return beforeId == null
+                ? clientNoteRepository.findByClientIdOrderByIdDesc(clientId, page)
+                : clientNoteRepository.findByClientIdAndIdLessThanOrderByIdDesc(clientId, beforeId, page);
     }
 }
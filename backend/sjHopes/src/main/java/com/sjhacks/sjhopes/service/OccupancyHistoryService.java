@@ -0,0 +1,18 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.OccupancyPointDto;
+import com.sjhacks.sjhopes.models.enums.OccupancyScope;
+import com.sjhacks.sjhopes.models.enums.SampleResolution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OccupancyHistoryService {
+
+    void captureSnapshot();
+
+    void rollUp();
+
+    List<OccupancyPointDto> getHistory(OccupancyScope scope, String seriesKey, LocalDateTime from, LocalDateTime to,
+                                       SampleResolution resolution);
+}
@@ -0,0 +1,154 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.analytics.AnalyticsAggregator;
+import com.sjhacks.sjhopes.models.dto.OccupancyPointDto;
+import com.sjhacks.sjhopes.models.dto.ShelterSummaryDto;
+import com.sjhacks.sjhopes.models.entity.OccupancySample;
+import com.sjhacks.sjhopes.models.enums.OccupancyScope;
+import com.sjhacks.sjhopes.models.enums.SampleResolution;
+import com.sjhacks.sjhopes.repository.OccupancySampleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Occupancy history: a snapshot of every series each minute, rolled up minute -> hour -> day.
+// Old fine-grained points are deleted once rolled up, so a months-long chart reads a few
+// hundred DAY rows instead of raw snapshots.
+@Service
+@Slf4j
+public class OccupancyHistoryServiceImpl implements OccupancyHistoryService {
+
+    private static final String INSERT_SQL = "INSERT INTO occupancy_samples " +
+            "(resolution, scope, series_key, bucket_start, capacity, availability, min_availability, sample_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String TOTAL_KEY = "ALL";
+
+    @Autowired
+    private AnalyticsAggregator analyticsAggregator;
+
+    @Autowired
+    private OccupancySampleRepository sampleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${sjhopes.history.minute-retention-hours:48}")
+    private long minuteRetentionHours;
+
+    @Value("${sjhopes.history.hour-retention-days:90}")
+    private long hourRetentionDays;
+
+    @Override
+    @Scheduled(fixedRateString = "${sjhopes.history.sample-interval-ms:60000}", initialDelay = 60000)
+    public void captureSnapshot() {
+        Timestamp bucket = Timestamp.valueOf(SampleResolution.MINUTE.truncate(LocalDateTime.now()));
+        List<Object[]> rows = new ArrayList<>();
+
+        ShelterSummaryDto totals = analyticsAggregator.getShelterTotals();
+        rows.add(snapshotRow(bucket, OccupancyScope.TOTAL, TOTAL_KEY, totals.getTotalCapacity(), totals.getCurrentAvailability()));
+        analyticsAggregator.getShelterTypeTotals().forEach(type -> rows.add(snapshotRow(bucket, OccupancyScope.SHELTER_TYPE,
+                type.getShelterType().name(), type.getTotalCapacity(), type.getCurrentAvailability())));
+        analyticsAggregator.getActiveShelterLevels().forEach((id, levels) -> rows.add(snapshotRow(bucket, OccupancyScope.SHELTER,
+                id.toString(), levels[0], levels[1])));
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        log.debug("History: Captured {} occupancy samples", rows.size());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${sjhopes.history.rollup-cron:0 5 * * * *}")
+    public void rollUp() {
+        LocalDateTime now = LocalDateTime.now();
+        rollUp(SampleResolution.MINUTE, SampleResolution.HOUR, now);
+        rollUp(SampleResolution.HOUR, SampleResolution.DAY, now);
+
+        int minutes = sampleRepository.deleteOlderThan(SampleResolution.MINUTE, now.minusHours(minuteRetentionHours));
+        int hours = sampleRepository.deleteOlderThan(SampleResolution.HOUR, now.minusDays(hourRetentionDays));
+        log.info("History: Roll-up done, pruned {} minute and {} hour samples", minutes, hours);
+    }
+
+    @Override
+    public List<OccupancyPointDto> getHistory(OccupancyScope scope, String seriesKey, LocalDateTime from, LocalDateTime to,
+                                              SampleResolution resolution) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        String key = scope == OccupancyScope.TOTAL ? TOTAL_KEY : seriesKey;
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("A series key is required for scope " + scope);
+        }
+        SampleResolution effective = resolution != null ? resolution : pickResolution(from, to);
+        log.info("Service: Occupancy history for {}/{} from {} to {} at {} resolution", scope, key, from, to, effective);
+
+        return sampleRepository.findByScopeAndSeriesKeyAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+                        scope, key, effective, from, to).stream()
+                .map(OccupancyHistoryServiceImpl::toPoint)
+                .toList();
+    }
+
+    // Coarsest resolution that still gives a useful number of points, and is still retained
+    private SampleResolution pickResolution(LocalDateTime from, LocalDateTime to) {
+        Duration span = Duration.between(from, to);
+        if (span.compareTo(Duration.ofHours(6)) <= 0 && from.isAfter(LocalDateTime.now().minusHours(minuteRetentionHours))) {
+            return SampleResolution.MINUTE;
+        }
+        if (span.compareTo(Duration.ofDays(14)) <= 0 && from.isAfter(LocalDateTime.now().minusDays(hourRetentionDays))) {
+            return SampleResolution.HOUR;
+        }
+        return SampleResolution.DAY;
+    }
+
+    // Folds every fully elapsed target bucket that hasn't been rolled up yet
+    private void rollUp(SampleResolution source, SampleResolution target, LocalDateTime now) {
+        LocalDateTime end = target.truncate(now);
+        LocalDateTime latest = sampleRepository.findLatestBucket(target);
+        LocalDateTime start;
+        if (latest != null) {
+            start = latest.plus(target.step());
+        } else {
+            LocalDateTime earliest = sampleRepository.findEarliestBucket(source);
+            if (earliest == null) return;
+            start = target.truncate(earliest);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = bucket.plus(target.step())) {
+            Timestamp bucketStart = Timestamp.valueOf(bucket);
+            for (Object[] agg : sampleRepository.aggregateWindow(source, bucket, bucket.plus(target.step()))) {
+                rows.add(new Object[]{target.name(), ((OccupancyScope) agg[0]).name(), agg[1], bucketStart,
+                        ((Number) agg[2]).doubleValue(), ((Number) agg[3]).doubleValue(),
+                        ((Number) agg[4]).intValue(), ((Number) agg[5]).intValue()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            log.debug("History: Rolled {} {} points into {}", rows.size(), source, target);
+        }
+    }
+
+    private static Object[] snapshotRow(Timestamp bucket, OccupancyScope scope, String key, long capacity, long availability) {
+        return new Object[]{SampleResolution.MINUTE.name(), scope.name(), key, bucket,
+                (double) capacity, (double) availability, (int) availability, 1};
+    }
+
+    private static OccupancyPointDto toPoint(OccupancySample sample) {
+        double occupancyRate = 0.0;
+        if (sample.getCapacity() > 0) {
+            occupancyRate = ((sample.getCapacity() - sample.getAvailability()) / sample.getCapacity()) * 100.0;
+            occupancyRate = Math.round(occupancyRate * 10.0) / 10.0;
+        }
+        return new OccupancyPointDto(sample.getBucketStart(), sample.getCapacity(), sample.getAvailability(),
+                occupancyRate, sample.getMinAvailability());
+    }
+}
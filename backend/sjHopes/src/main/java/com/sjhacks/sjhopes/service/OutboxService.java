@@ -0,0 +1,16 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.OutboxConsumerDto;
+import com.sjhacks.sjhopes.models.dto.OutboxEventDto;
+
+import java.util.List;
+
+public interface OutboxService {
+
+    // The sequenced stream after `afterSequence`, for replay and inspection
+    List<OutboxEventDto> getEvents(long afterSequence, int limit);
+
+    List<OutboxConsumerDto> getConsumers();
+
+    void resetConsumer(String consumerName, long sequence);
+}
@@ -0,0 +1,62 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.mapper.OutboxMapper;
+import com.sjhacks.sjhopes.models.dto.OutboxConsumerDto;
+import com.sjhacks.sjhopes.models.dto.OutboxEventDto;
+import com.sjhacks.sjhopes.models.entity.OutboxConsumerOffset;
+import com.sjhacks.sjhopes.outbox.OutboxRelay;
+import com.sjhacks.sjhopes.repository.OutboxConsumerOffsetRepository;
+import com.sjhacks.sjhopes.repository.OutboxEventRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Autowired
+    private OutboxConsumerOffsetRepository offsetRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Override
+    public List<OutboxEventDto> getEvents(long afterSequence, int limit) {
+        return outboxRepository.findAfter(afterSequence, PageRequest.of(0, limit)).stream()
+                .map(OutboxMapper::mapToResponseDTO)
+                .toList();
+    }
+
+    @Override
+    public List<OutboxConsumerDto> getConsumers() {
+        long head = outboxRepository.findHeadSequence();
+        return outboxRelay.getConsumerNames().stream()
+                .map(name -> {
+                    OutboxConsumerOffset offset = offsetRepository.findById(name).orElse(null);
+                    long last = offset != null ? offset.getLastSequence() : 0L;
+                    return new OutboxConsumerDto(name, last, Math.max(0, head - last),
+                            offset != null ? offset.getUpdatedAt() : null);
+                })
+                .toList();
+    }
+
+    @Override
+    public void resetConsumer(String consumerName, long sequence) {
+        if (!outboxRelay.getConsumerNames().contains(consumerName)) {
+            throw new EntityNotFoundException("No outbox consumer named: " + consumerName);
+        }
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence can't be negative");
+        }
+        log.info("Service: Resetting outbox consumer {} to sequence {}", consumerName, sequence);
+        outboxRelay.resetOffset(consumerName, sequence);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.PlacementResultDto;
+
+public interface PlacementService {
+
+    PlacementResultDto placeSeekingClients(boolean dryRun);
+}
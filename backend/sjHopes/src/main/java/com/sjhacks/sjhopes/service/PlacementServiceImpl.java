@@ -0,0 +1,153 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.PlacementDto;
+import com.sjhacks.sjhopes.models.dto.PlacementResultDto;
+import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.event.ClientChangedEvent;
+import com.sjhacks.sjhopes.placement.PlacementPlanner;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Places every SEEKING_PLACEMENT client in one go. Planning is in memory (PlacementPlanner);
+// committing costs one bed claim plus one client UPDATE per shelter used, all in one
+// transaction, with the same end state as assignShelterToClient (SHELTERED + shelter link).
+@Service
+@Slf4j
+public class PlacementServiceImpl implements PlacementService {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SyncClock syncClock;
+
+    @Value("${sjhopes.placement.max-distance-km:80}")
+    private double maxDistanceKm;
+
+    @Value("${sjhopes.placement.type-mismatch-penalty-km:15}")
+    private double typeMismatchPenaltyKm;
+
+    @Transactional
+    @Override
+    public PlacementResultDto placeSeekingClients(boolean dryRun) {
+        long started = System.nanoTime();
+        List<PlacementPlanner.Seeker> seekers = new ArrayList<>();
+        for (Object[] row : clientRepository.findPlacementRows(ClientStatus.SEEKING_PLACEMENT)) {
+            seekers.add(new PlacementPlanner.Seeker((Long) row[0], (Boolean) row[1], (Boolean) row[2],
+                    (ShelterType) row[3], (Double) row[4], (Double) row[5]));
+        }
+        // DTOs with live counts from the filter index; no entities get loaded into this transaction
+        Map<Long, ShelterResponseDto> sheltersById = new HashMap<>();
+        List<PlacementPlanner.Site> sites = new ArrayList<>();
+        for (ShelterResponseDto shelter : resourceService.searchShelterDtos(null, null, null, true, 1)) {
+            sheltersById.put(shelter.getId(), shelter);
+            sites.add(new PlacementPlanner.Site(shelter.getId(), shelter.getShelterType(), shelter.isAllowsPets(),
+                    shelter.isAllowsPartner(), shelter.getLatitude(), shelter.getLongitude(), shelter.getCurrentAvailability()));
+        }
+
+        PlacementPlanner.Plan plan = new PlacementPlanner(maxDistanceKm, typeMismatchPenaltyKm).plan(seekers, sites);
+        long planningMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Service: Placement plan for {} seeking clients over {} shelters: {} placed, {} unplaced ({} ms)",
+                seekers.size(), sites.size(), plan.assignments().size(), plan.unplacedClientIds().size(), planningMs);
+
+        PlacementResultDto result = new PlacementResultDto();
+        result.setDryRun(dryRun);
+        result.setSeekingClients(seekers.size());
+        result.setSheltersWithBeds(sites.size());
+        result.setPlanningMs(planningMs);
+        result.getUnplacedClientIds().addAll(plan.unplacedClientIds());
+
+        List<PlacementPlanner.Assignment> committed = dryRun ? plan.assignments() : commit(plan, result);
+        for (PlacementPlanner.Assignment assignment : committed) {
+            result.getPlacements().add(new PlacementDto(assignment.clientId(), assignment.shelterId(),
+                    sheltersById.get(assignment.shelterId()).getName(), assignment.distanceKm(),
+                    assignment.preferredTypeMatched()));
+        }
+        result.setPlaced(result.getPlacements().size());
+        result.setUnplaced(result.getUnplacedClientIds().size());
+        return result;
+    }
+
+    // Applies the plan shelter by shelter. Anything that changed since planning (beds taken,
+    // clients placed elsewhere) drops out of the result instead of failing the batch.
+    private List<PlacementPlanner.Assignment> commit(PlacementPlanner.Plan plan, PlacementResultDto result) {
+        Map<Long, List<PlacementPlanner.Assignment>> byShelter = new LinkedHashMap<>();
+        for (PlacementPlanner.Assignment assignment : plan.assignments()) {
+            byShelter.computeIfAbsent(assignment.shelterId(), id -> new ArrayList<>()).add(assignment);
+        }
+
+        // A failure rolls the whole batch back; the bed inventory returns its claims on rollback
+        List<PlacementPlanner.Assignment> committed = new ArrayList<>();
+        for (Map.Entry<Long, List<PlacementPlanner.Assignment>> entry : byShelter.entrySet()) {
+            Long shelterId = entry.getKey();
+            List<PlacementPlanner.Assignment> group = entry.getValue();
+
+            int beds = claim(shelterId, group.size());
+            List<PlacementPlanner.Assignment> placing = group.subList(0, beds);
+            group.subList(beds, group.size()).forEach(a -> result.getUnplacedClientIds().add(a.clientId()));
+            if (placing.isEmpty()) continue;
+
+            List<Long> ids = placing.stream().map(PlacementPlanner.Assignment::clientId).toList();
+            int moved = clientRepository.moveToShelter(ids, shelterRepository.getReferenceById(shelterId),
+                    ClientStatus.SEEKING_PLACEMENT, ClientStatus.SHELTERED, syncClock.stamp());
+            if (moved == ids.size()) {
+                committed.addAll(placing);
+                publishPlaced(ids, shelterId);
+                continue;
+            }
+            // Some clients changed status since planning: keep the ones that moved, return the rest of the beds
+            Set<Long> placed = new HashSet<>(clientRepository.findIdsAtShelter(ids, shelterId, ClientStatus.SHELTERED));
+            placing.stream().filter(a -> placed.contains(a.clientId())).forEach(committed::add);
+            publishPlaced(placed, shelterId);
+            resourceService.releaseBeds(shelterId, beds - moved);
+        }
+        log.info("Service: Batch placement committed {} placements across {} shelters", committed.size(), byShelter.size());
+        return committed;
+    }
+
+    // The bulk UPDATE bypasses ClientServiceImpl, so the outbox and derived views hear about it here
+    private void publishPlaced(Collection<Long> clientIds, Long shelterId) {
+        clientIds.forEach(clientId -> eventPublisher.publishEvent(
+                ClientChangedEvent.statusChanged(clientId, ClientStatus.SHELTERED, shelterId)));
+    }
+
+    // Claims as many of `wanted` beds as are still free: all at once normally, bed by bed under contention
+    private int claim(Long shelterId, int wanted) {
+        if (resourceService.claimBeds(shelterId, wanted)) {
+            return wanted;
+        }
+        int beds = 0;
+        while (beds < wanted && resourceService.claimBeds(shelterId, 1)) {
+            beds++;
+        }
+        log.warn("Service: Shelter {} had {} of {} planned beds left at commit time", shelterId, beds, wanted);
+        return beds;
+    }
+}
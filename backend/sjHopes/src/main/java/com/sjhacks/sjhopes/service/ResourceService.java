@@ -1,6 +1,12 @@
 package com.sjhacks.sjhopes.service;
 
+import com.sjhacks.sjhopes.models.dto.CacheStatsDto;
+import com.sjhacks.sjhopes.models.dto.NearbyShelterDto;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
+import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
 import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
 import com.sjhacks.sjhopes.models.enums.ShelterType;
 
 import java.util.List;
@@ -12,12 +18,42 @@ public interface ResourceService {
 
     List<Shelter> findSheltersByCriteria(Boolean allowsPets, Boolean allowsPartner, ShelterType shelterType, Boolean isActive);
 
+    // Cached, pre-mapped variants for the public read endpoints
+    List<ShelterResponseDto> getAllActiveShelterDtos();
+
+    List<ShelterResponseDto> searchShelterDtos(Boolean allowsPets, Boolean allowsPartner, ShelterType shelterType, Boolean isActive,
+                                               int minAvailability);
+
+    Optional<ShelterResponseDto> getShelterDtoById(Long id);
+
+    List<CacheStatsDto> getCacheStats();
+
+    PageResponseDto<ShelterResponseDto> getActiveShelterPage(String cursor, Integer size, ListingSort sort);
+
+    List<NearbyShelterDto> findNearbyShelters(double latitude, double longitude, double radiusKm, int limit,
+                                              int minAvailability, Boolean allowsPets, Boolean allowsPartner,
+                                              ShelterType shelterType);
+
     Optional<Shelter> getShelterById(Long id);
 
     Shelter saveShelter(Shelter shelter);
 
+    List<Shelter> saveShelters(List<Shelter> shelters);
+
     boolean reserveShelterBed(Long shelterId, Long clientId);
 
+    boolean reserveGroup(Long shelterId, List<Long> clientIds);
+
+    boolean checkOutClient(Long clientId, ClientStatus nextStatus);
+
+    boolean transferClient(Long clientId, Long toShelterId);
+
+    int reconcileAvailability();
+
+    boolean claimBeds(Long shelterId, int beds);
+
+    void releaseBeds(Long shelterId, int beds);
+
     boolean deleteShelter(Long id);
 
 }
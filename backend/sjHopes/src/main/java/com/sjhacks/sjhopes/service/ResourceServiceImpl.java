@@ -1,16 +1,39 @@
 package com.sjhacks.sjhopes.service;
 
+import com.sjhacks.sjhopes.cache.SecondLevelCache;
+import com.sjhacks.sjhopes.cache.ShelterQueryCache;
+import com.sjhacks.sjhopes.index.ShelterFilterIndex;
+import com.sjhacks.sjhopes.index.ShelterSpatialIndex;
+import com.sjhacks.sjhopes.models.dto.CacheStatsDto;
+import com.sjhacks.sjhopes.mapper.ShelterMapper;
+import com.sjhacks.sjhopes.models.dto.NearbyShelterDto;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
+import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
 import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
+import com.sjhacks.sjhopes.models.enums.ReservationMode;
 import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.event.ClientChangedEvent;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ClientRepository;
 import com.sjhacks.sjhopes.repository.ShelterRepository;
-import jakarta.persistence.EntityNotFoundException;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import com.sjhacks.sjhopes.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -24,21 +47,107 @@ public class ResourceServiceImpl implements ResourceService {
     @Autowired
     private ClientService clientService;
 
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    @Autowired
+    private ShelterSpatialIndex spatialIndex;
+
+    @Autowired
+    private ShelterFilterIndex filterIndex;
+
+    @Autowired
+    private ShelterQueryCache shelterCache;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private SyncClock syncClock;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${sjhopes.reservation.mode:IN_MEMORY}")
+    private ReservationMode reservationMode;
+
     // --- Method for the simple GET /api/shelters ---
     public List<Shelter> getAllActiveShelters() {
-        return shelterRepository.findAllByIsActive(true);
+        List<Shelter> shelters = shelterRepository.findAllByIsActive(true);
+        shelters.forEach(bedInventory::overlay);
+        return shelters;
     }
 
     @Override
     public List<Shelter> findSheltersByCriteria(Boolean allowsPets, Boolean allowsPartner, ShelterType shelterType, Boolean isActive) {
         log.info("Service: Finding shelters with criteria - allowsPets: {}, allowsPartner: {}, shelterType: {}, isActive: {}",
                 allowsPets, allowsPartner, shelterType, isActive);
-        return shelterRepository.findSheltersByCriteria(allowsPets, allowsPartner, shelterType, isActive);
+        List<Shelter> shelters = shelterRepository.findSheltersByCriteria(allowsPets, allowsPartner, shelterType, isActive);
+        shelters.forEach(bedInventory::overlay);
+        return shelters;
+    }
+
+    @Override
+    public List<ShelterResponseDto> getAllActiveShelterDtos() {
+        return searchShelterDtos(null, null, null, true, 0);
+    }
+
+    @Override
+    public List<ShelterResponseDto> searchShelterDtos(Boolean allowsPets, Boolean allowsPartner, ShelterType shelterType, Boolean isActive,
+                                                      int minAvailability) {
+        if (filterIndex.isReady()) {
+            return filterIndex.search(allowsPets, allowsPartner, shelterType, isActive, minAvailability);
+        }
+        // Only before the index is built at startup
+        return findSheltersByCriteria(allowsPets, allowsPartner, shelterType, isActive).stream()
+                .filter(shelter -> shelter.getCurrentAvailability() >= minAvailability)
+                .map(ShelterMapper::mapToResponseDTO)
+                .toList();
+    }
+
+    @Override
+    public Optional<ShelterResponseDto> getShelterDtoById(Long id) {
+        return shelterCache.getById(id, this::getShelterById);
+    }
+
+    @Override
+    public List<CacheStatsDto> getCacheStats() {
+        List<CacheStatsDto> stats = new ArrayList<>(shelterCache.getStats());
+        stats.addAll(secondLevelCache.getStats());
+        return stats;
+    }
+
+    @Override
+    public PageResponseDto<ShelterResponseDto> getActiveShelterPage(String cursor, Integer size, ListingSort sort) {
+        int pageSize = KeysetCursor.clampPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, sort);
+        List<Shelter> rows = sort == ListingSort.ID
+                ? shelterRepository.findActivePageById(after.getId(), KeysetCursor.fetchLimit(pageSize))
+                : shelterRepository.findActivePageByLastUpdated(after.getTimestamp(), after.getId(), KeysetCursor.fetchLimit(pageSize));
+        rows.forEach(bedInventory::overlay);
+        return KeysetCursor.toPage(rows, pageSize,
+                        last -> KeysetCursor.encode(sort, last.getLastUpdated(), last.getId()))
+                .map(ShelterMapper::mapToResponseDTO);
+    }
+
+    // Served from the in-memory grid index, no database round trip
+    @Override
+    public List<NearbyShelterDto> findNearbyShelters(double latitude, double longitude, double radiusKm, int limit,
+                                                     int minAvailability, Boolean allowsPets, Boolean allowsPartner,
+                                                     ShelterType shelterType) {
+        log.debug("Service: Finding up to {} shelters within {} km of ({}, {})", limit, radiusKm, latitude, longitude);
+        return spatialIndex.findNearest(latitude, longitude, radiusKm, limit, minAvailability,
+                allowsPets, allowsPartner, shelterType);
     }
 
     // Method to get a single shelter by its ID
     public Optional<Shelter> getShelterById(Long id) {
-        return shelterRepository.findById(id);
+        Optional<Shelter> shelter = shelterRepository.findById(id);
+        shelter.ifPresent(bedInventory::overlay);
+        return shelter;
     }
 
     // Method to save/update a shelter (used by Admin)
@@ -46,6 +155,29 @@ public class ResourceServiceImpl implements ResourceService {
     @Transactional
     public Shelter saveShelter(Shelter shelter) {
         log.info("Service: Saving shelter id: {} name: {}", shelter.getId(), shelter.getName());
+        applyCapacityRules(shelter);
+        Shelter saved = shelterRepository.save(shelter);
+        afterCommit(() -> bedInventory.reset(saved)); // Admin edits overwrite the in-memory count, once they stick
+        eventPublisher.publishEvent(ShelterChangedEvent.saved(saved));
+        return saved;
+    }
+
+    // Batch variant of saveShelter (bulk imports): same rules and side effects, one saveAll
+    @Transactional
+    @Override
+    public List<Shelter> saveShelters(List<Shelter> shelters) {
+        log.info("Service: Saving batch of {} shelters", shelters.size());
+        shelters.forEach(this::applyCapacityRules);
+        List<Shelter> saved = shelterRepository.saveAll(shelters);
+        afterCommit(() -> saved.forEach(bedInventory::reset)); // A failed chunk leaves the live counters alone
+        for (Shelter shelter : saved) {
+            eventPublisher.publishEvent(ShelterChangedEvent.saved(shelter));
+        }
+        return saved;
+    }
+
+    // Capacity can't be negative and availability can't exceed it
+    private void applyCapacityRules(Shelter shelter) {
         if (shelter.getCurrentAvailability() < 0) {
             shelter.setCurrentAvailability(0);
         }
@@ -56,39 +188,124 @@ public class ResourceServiceImpl implements ResourceService {
             shelter.setCurrentAvailability(shelter.getTotalCapacity());
             log.warn("Corrected availability for shelter {} - cannot exceed total capacity.", shelter.getName());
         }
-        return shelterRepository.save(shelter);
     }
 
     // Method to handle the reservation logic
-    // Transactional is crucial here to ensure the check and update happen together
+    // The bed is claimed atomically (see claimBeds), so concurrent requests can never both take the last bed
     @Transactional
     public boolean reserveShelterBed(Long shelterId, Long clientId) {
         log.info("Service: Attempting reservation for shelter id: {} for client id: {}", shelterId, clientId);
-        Optional<Shelter> shelterOpt = shelterRepository.findById(shelterId);
-
-        if (shelterOpt.isPresent()) {
-            Shelter shelter = shelterOpt.get();
-            if (shelter.getCurrentAvailability() > 0) {
-                shelter.setCurrentAvailability(shelter.getCurrentAvailability() - 1);
-                shelterRepository.save(shelter);
-
-                // *** Link client to shelter after successful reservation ***
-                try {
-                    clientService.assignShelterToClient(clientId, shelterId);
-                    log.info("Service: Reservation successful for shelter id: {} / client id: {}.", shelterId, clientId);
-                    return true; // Success
-                } catch (EntityNotFoundException e) {
-                    log.error("Service: Reservation succeeded but failed to link client {} to shelter {}: {}", clientId, shelterId, e.getMessage());
-                    throw new RuntimeException("Failed to link client after reservation", e);
-                }
-            } else {
-                log.warn("Service: Reservation failed for shelter id: {}. No availability.", shelterId);
-                return false; // Indicate failure: No availability
-            }
+        if (!claimBeds(shelterId, 1)) {
+            log.warn("Service: Reservation failed for shelter id: {}. Shelter not found or no availability.", shelterId);
+            return false; // Indicate failure: Not found or no availability
         }
 
-        log.warn("Service: Reservation failed. Shelter not found for id: {}", shelterId);
-        return false; // Indicate failure: Shelter not found
+        // *** Link client to shelter after successful reservation ***
+        // If linking fails the transaction rolls back, and with it the claim (see claimBeds)
+        clientService.assignShelterToClient(clientId, shelterId);
+        log.info("Service: Reservation successful for shelter id: {} / client id: {}.", shelterId, clientId);
+        return true; // Success
+    }
+
+    // Family/group reservation: claims all the beds at once, then links every client in one UPDATE.
+    // Either everyone is placed or nothing changes.
+    @Transactional
+    @Override
+    public boolean reserveGroup(Long shelterId, List<Long> clientIds) {
+        log.info("Service: Attempting group reservation of {} beds at shelter id: {}", clientIds.size(), shelterId);
+        if (!claimBeds(shelterId, clientIds.size())) {
+            log.warn("Service: Group reservation failed for shelter id: {}. Shelter not found or fewer than {} beds.", shelterId, clientIds.size());
+            return false;
+        }
+
+        int linked = clientService.assignShelterToClients(clientIds, shelterId);
+        if (linked != clientIds.size()) {
+            // Some client is missing or not seeking placement; throwing rolls back the links and the claim
+            log.warn("Service: Group reservation at shelter id: {} rolled back, only {} of {} clients could be placed",
+                    shelterId, linked, clientIds.size());
+            throw new IllegalStateException("Every client must exist and be seeking placement (" + linked + " of "
+                    + clientIds.size() + " were)");
+        }
+        log.info("Service: Group reservation successful for shelter id: {} / clients: {}", shelterId, clientIds);
+        return true;
+    }
+
+    // Client leaves their shelter: unlink and return the bed in the same transaction
+    @Transactional
+    @Override
+    public boolean checkOutClient(Long clientId, ClientStatus nextStatus) {
+        if (nextStatus == ClientStatus.SHELTERED) {
+            throw new IllegalArgumentException("Check-out status can't be SHELTERED");
+        }
+        Long shelterId = clientRepository.findShelterIdOfSheltered(clientId).orElse(null);
+        if (shelterId == null) {
+            log.warn("Service: Check-out failed, client id: {} is not sheltered", clientId);
+            return false;
+        }
+        log.info("Service: Checking out client id: {} from shelter id: {} as {}", clientId, shelterId, nextStatus);
+        if (clientRepository.moveFromShelter(clientId, shelterId, null, nextStatus, syncClock.stamp()) != 1) {
+            log.warn("Service: Check-out for client id: {} lost a race, client already moved", clientId);
+            return false; // Whoever moved them released the bed
+        }
+        releaseBeds(shelterId, 1);
+        eventPublisher.publishEvent(ClientChangedEvent.statusChanged(clientId, nextStatus, null));
+        return true;
+    }
+
+    // Shelter-to-shelter move: the new bed is claimed before the old one is given back, so a
+    // failed transfer leaves the client where they were
+    @Transactional
+    @Override
+    public boolean transferClient(Long clientId, Long toShelterId) {
+        Long fromShelterId = clientRepository.findShelterIdOfSheltered(clientId)
+                .orElseThrow(() -> new IllegalStateException("Client " + clientId + " is not sheltered"));
+        if (fromShelterId.equals(toShelterId)) {
+            throw new IllegalArgumentException("Client " + clientId + " is already at shelter " + toShelterId);
+        }
+        log.info("Service: Transferring client id: {} from shelter id: {} to shelter id: {}", clientId, fromShelterId, toShelterId);
+        if (!claimBeds(toShelterId, 1)) {
+            log.warn("Service: Transfer failed for client id: {}. Shelter {} not found or no availability.", clientId, toShelterId);
+            return false;
+        }
+        if (clientRepository.moveFromShelter(clientId, fromShelterId, shelterRepository.getReferenceById(toShelterId),
+                ClientStatus.SHELTERED, syncClock.stamp()) != 1) {
+            throw new IllegalStateException("Client " + clientId + " moved while being transferred");
+        }
+        releaseBeds(fromShelterId, 1);
+        eventPublisher.publishEvent(ClientChangedEvent.statusChanged(clientId, ClientStatus.SHELTERED, toShelterId));
+        return true;
+    }
+
+    // Recomputes availability as capacity - SHELTERED clients - HELD holds in one aggregate query and
+    // corrects only the shelters that drifted. Anything racing it is caught by the next run.
+    @Scheduled(fixedDelayString = "${sjhopes.reconcile.interval-ms:3600000}", initialDelayString = "${sjhopes.reconcile.interval-ms:3600000}")
+    @Transactional
+    @Override
+    public int reconcileAvailability() {
+        if (reservationMode == ReservationMode.IN_MEMORY) {
+            // The live counters are what reservations see, so they are corrected (and written back) in place
+            Map<Long, Integer> corrected = bedInventory.reconcile(shelterRepository::findAvailabilityDrift);
+            corrected.forEach((shelterId, count) -> {
+                log.warn("Service: Availability drift at shelter id: {}, corrected to {}", shelterId, count);
+                eventPublisher.publishEvent(ShelterChangedEvent.availabilityChanged(shelterId, count));
+            });
+            log.info("Service: Availability reconciliation corrected {} shelters", corrected.size());
+            return corrected.size();
+        }
+        List<Object[]> drift = shelterRepository.findAvailabilityDrift();
+        int corrected = 0;
+        for (Object[] row : drift) {
+            Long shelterId = ((Number) row[0]).longValue();
+            int seen = ((Number) row[1]).intValue();
+            int expected = ((Number) row[2]).intValue();
+            if (shelterRepository.correctAvailability(shelterId, seen, expected, syncClock.stamp()) == 1) {
+                log.warn("Service: Availability drift at shelter id: {}, {} corrected to {}", shelterId, seen, expected);
+                eventPublisher.publishEvent(ShelterChangedEvent.availabilityChanged(shelterId, expected));
+                corrected++;
+            }
+        }
+        log.info("Service: Availability reconciliation corrected {} of {} drifted shelters", corrected, drift.size());
+        return corrected;
     }
 
     // Method to delete a shelter (used by Admin)
@@ -99,10 +316,63 @@ public class ResourceServiceImpl implements ResourceService {
         // Check if the shelter exists before trying to delete
         if (shelterRepository.existsById(id)) {
             shelterRepository.deleteById(id);
+            bedInventory.evict(id);
+            eventPublisher.publishEvent(ShelterChangedEvent.deleted(id));
             log.info("Service: Shelter deleted successfully: {}", id);
             return true; // Indicate success
         }
         log.warn("Service: Deletion failed. Shelter not found for id: {}", id);
         return false; // Indicate failure: Not found
     }
+
+    // IN_MEMORY: compare-and-set on the inventory slot, row written back in batches.
+    // CONDITIONAL_UPDATE: one guarded UPDATE, joins the caller's transaction.
+    // All-or-nothing claim of `beds` beds; publishes the new availability on success
+    @Transactional
+    @Override
+    public boolean claimBeds(Long shelterId, int beds) {
+        boolean claimed;
+        if (reservationMode == ReservationMode.CONDITIONAL_UPDATE) {
+            claimed = shelterRepository.claimBeds(shelterId, beds, syncClock.stamp()) == 1;
+        } else {
+            claimed = bedInventory.tryReserve(shelterId, beds); // Given back by the inventory if we roll back
+        }
+        if (claimed) {
+            publishAvailability(shelterId);
+        }
+        return claimed;
+    }
+
+    @Transactional
+    @Override
+    public void releaseBeds(Long shelterId, int beds) {
+        if (reservationMode == ReservationMode.CONDITIONAL_UPDATE) {
+            shelterRepository.releaseBeds(shelterId, beds, syncClock.stamp());
+        } else {
+            bedInventory.release(shelterId, beds);
+        }
+        publishAvailability(shelterId);
+    }
+
+    // Runs once the surrounding transaction commits, or right away without one
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void publishAvailability(Long shelterId) {
+        Optional<Integer> availability = reservationMode == ReservationMode.CONDITIONAL_UPDATE
+                ? shelterRepository.findAvailabilityById(shelterId)
+                : bedInventory.getAvailability(shelterId).stream().boxed().findFirst();
+        availability.ifPresent(count ->
+                eventPublisher.publishEvent(ShelterChangedEvent.availabilityChanged(shelterId, count)));
+    }
 }
@@ -0,0 +1,11 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.SearchHitDto;
+import com.sjhacks.sjhopes.models.enums.SearchDocType;
+
+import java.util.List;
+
+public interface SearchService {
+
+    List<SearchHitDto> search(String query, SearchDocType type, int limit);
+}
@@ -0,0 +1,42 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.index.InvertedIndex;
+import com.sjhacks.sjhopes.index.TextSearchIndex;
+import com.sjhacks.sjhopes.models.dto.SearchHitDto;
+import com.sjhacks.sjhopes.models.enums.SearchDocType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    @Autowired
+    private TextSearchIndex textIndex;
+
+    // type == null searches both indexes and merges by score
+    @Override
+    public List<SearchHitDto> search(String query, SearchDocType type, int limit) {
+        log.debug("Service: Text search for '{}' in {} (limit {})", query, type == null ? "all" : type, limit);
+        List<SearchHitDto> hits = new ArrayList<>();
+        if (type == null || type == SearchDocType.SHELTER) {
+            for (InvertedIndex.Hit hit : textIndex.shelters().search(query, limit)) {
+                hits.add(new SearchHitDto(SearchDocType.SHELTER, hit.id(), textIndex.shelterName(hit.id()), hit.score(),
+                        textIndex.shelters().snippet(hit.id(), query)));
+            }
+        }
+        if (type == null || type == SearchDocType.TASK) {
+            for (InvertedIndex.Hit hit : textIndex.tasks().search(query, limit)) {
+                hits.add(new SearchHitDto(SearchDocType.TASK, hit.id(), textIndex.taskTitle(hit.id()), hit.score(),
+                        textIndex.tasks().snippet(hit.id(), query)));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(SearchHitDto::getScore).reversed());
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+}
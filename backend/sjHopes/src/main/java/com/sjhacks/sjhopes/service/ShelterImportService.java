@@ -0,0 +1,13 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.BulkImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ShelterImportService {
+
+    BulkImportResultDto importCsv(InputStream csv) throws IOException;
+
+    BulkImportResultDto importGeoJson(InputStream geoJson) throws IOException;
+}
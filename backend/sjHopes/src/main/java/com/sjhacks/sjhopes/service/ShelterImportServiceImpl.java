@@ -0,0 +1,305 @@
+package com.sjhacks.sjhopes.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sjhacks.sjhopes.mapper.ShelterMapper;
+import com.sjhacks.sjhopes.models.dto.BulkImportResultDto;
+import com.sjhacks.sjhopes.models.dto.ShelterRequestDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk shelter upsert from partner rosters. Rows are streamed, validated like
+// POST /api/admin/shelters and matched to existing shelters by name + addressLine1
+// (case/whitespace-insensitive). The existing natural keys are read once per import; each chunk
+// is then one findAllById plus one ResourceService.saveShelters call, so clamping, inventory and
+// events match saveShelter.
+@Service
+@Slf4j
+public class ShelterImportServiceImpl implements ShelterImportService {
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${sjhopes.import.chunk-size:500}")
+    private int chunkSize;
+
+    // Header row required; columns are matched by ShelterRequestDto field name, case-insensitively
+    @Override
+    public BulkImportResultDto importCsv(InputStream csv) throws IOException {
+        BulkImportResultDto result = new BulkImportResultDto();
+        Chunk chunk = new Chunk(result);
+        try (CsvReader reader = new CsvReader(csv)) {
+            for (String required : new String[]{"name", "addressLine1"}) {
+                if (!reader.hasColumn(required)) {
+                    throw new IllegalArgumentException("CSV header must include a '" + required + "' column");
+                }
+            }
+            CsvReader.Row row;
+            try {
+                while ((row = reader.next()) != null) {
+                    result.setTotalRows(reader.getRecordNumber());
+                    try {
+                        chunk.add(reader.getRecordNumber(), toRequest(row));
+                    } catch (IllegalArgumentException e) {
+                        result.addError(reader.getRecordNumber(), e.getMessage());
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                result.addError(reader.getRecordNumber() + 1, "Malformed CSV, import stopped here: " + e.getMessage());
+            }
+        }
+        chunk.flush();
+        return finish(result, "CSV");
+    }
+
+    // FeatureCollection of Point features; properties use ShelterRequestDto field names and
+    // the geometry supplies latitude/longitude
+    @Override
+    public BulkImportResultDto importGeoJson(InputStream geoJson) throws IOException {
+        BulkImportResultDto result = new BulkImportResultDto();
+        Chunk chunk = new Chunk(result);
+        try (JsonParser parser = objectMapper.getFactory().createParser(geoJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Expected a GeoJSON FeatureCollection object");
+            }
+            long row = 0;
+            boolean sawFeatures = false;
+            try {
+                // Walk the top-level object, skipping everything but the features array
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (!"features".equals(field) || value != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    sawFeatures = true;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        result.setTotalRows(++row);
+                        JsonNode feature = objectMapper.readTree(parser); // One feature in memory at a time
+                        try {
+                            chunk.add(row, toRequest(feature));
+                        } catch (JsonProcessingException e) {
+                            result.addError(row, "Unreadable feature properties: " + e.getOriginalMessage());
+                        } catch (IllegalArgumentException e) {
+                            result.addError(row, e.getMessage());
+                        }
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                result.addError(row, "Malformed GeoJSON, import stopped here: " + e.getOriginalMessage());
+            }
+            if (!sawFeatures && result.getTotalRows() == 0 && result.getErrors().isEmpty()) {
+                throw new IllegalArgumentException("GeoJSON has no 'features' array");
+            }
+        }
+        chunk.flush();
+        return finish(result, "GeoJSON");
+    }
+
+    private ShelterRequestDto toRequest(JsonNode feature) throws JsonProcessingException {
+        JsonNode properties = feature.path("properties");
+        if (!properties.isObject()) {
+            throw new IllegalArgumentException("Feature has no properties object");
+        }
+        ShelterRequestDto dto = objectMapper.treeToValue(properties, ShelterRequestDto.class);
+        JsonNode geometry = feature.path("geometry");
+        if ("Point".equals(geometry.path("type").asText())) {
+            JsonNode coordinates = geometry.path("coordinates"); // GeoJSON order is [longitude, latitude]
+            if (coordinates.size() >= 2 && coordinates.get(0).isNumber() && coordinates.get(1).isNumber()) {
+                dto.setLongitude(coordinates.get(0).asDouble());
+                dto.setLatitude(coordinates.get(1).asDouble());
+            }
+        } else if (!geometry.isMissingNode() && !geometry.isNull()) {
+            throw new IllegalArgumentException("Only Point geometries are supported, got " + geometry.path("type").asText());
+        }
+        return dto;
+    }
+
+    private ShelterRequestDto toRequest(CsvReader.Row row) {
+        ShelterRequestDto dto = new ShelterRequestDto();
+        dto.setName(row.get("name"));
+        dto.setAddressLine1(row.get("addressLine1"));
+        dto.setAddressLine2(row.get("addressLine2"));
+        dto.setCity(row.get("city"));
+        dto.setState(row.get("state"));
+        dto.setZipCode(row.get("zipCode"));
+        dto.setLatitude(parseDouble(row, "latitude"));
+        dto.setLongitude(parseDouble(row, "longitude"));
+        dto.setTotalCapacity(parseInt(row, "totalCapacity"));
+        dto.setCurrentAvailability(parseInt(row, "currentAvailability"));
+        String type = row.get("shelterType");
+        if (type != null) {
+            try {
+                dto.setShelterType(ShelterType.valueOf(type.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown shelterType '" + type + "'");
+            }
+        }
+        dto.setPhone(row.get("phone"));
+        dto.setEmail(row.get("email"));
+        dto.setOperatingOrganization(row.get("operatingOrganization"));
+        dto.setDescription(row.get("description"));
+        dto.setAllowsPets(parseBoolean(row, "allowsPets"));
+        dto.setAllowsPartner(parseBoolean(row, "allowsPartner"));
+        dto.setIsActive(parseBoolean(row, "isActive"));
+        return dto;
+    }
+
+    private static Double parseDouble(CsvReader.Row row, String column) {
+        String value = row.get(column);
+        try {
+            return value == null ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number, got '" + value + "'");
+        }
+    }
+
+    private static Integer parseInt(CsvReader.Row row, String column) {
+        String value = row.get(column);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a whole number, got '" + value + "'");
+        }
+    }
+
+    private static Boolean parseBoolean(CsvReader.Row row, String column) {
+        String value = row.get(column);
+        if (value == null) return null;
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> true;
+            case "false", "no", "n", "0" -> false;
+            default -> throw new IllegalArgumentException(column + " must be true/false, got '" + value + "'");
+        };
+    }
+
+    private static String naturalKey(String name, String addressLine1) {
+        return normalize(name) + "|" + normalize(addressLine1);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private BulkImportResultDto finish(BulkImportResultDto result, String format) {
+        log.info("Service: Bulk shelter import ({}) done - rows: {}, created: {}, updated: {}, failed: {}",
+                format, result.getTotalRows(), result.getCreated(), result.getUpdated(), result.getFailed());
+        return result;
+    }
+
+    // Valid rows keyed by natural key; a repeated key later in the same chunk wins and the rows
+    // it replaces count as updates, so created + updated + failed always adds up to totalRows
+    private final class Chunk {
+        private final BulkImportResultDto result;
+        private final Map<String, ShelterRequestDto> rows = new LinkedHashMap<>();
+        private final Map<String, List<Long>> rowNumbers = new HashMap<>();
+        private Map<String, Long> knownKeys; // Natural key -> shelter id, loaded on the first flush
+
+        private Chunk(BulkImportResultDto result) {
+            this.result = result;
+        }
+
+        void add(long row, ShelterRequestDto dto) {
+            Set<ConstraintViolation<ShelterRequestDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                result.addError(row, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (dto.getShelterType() == null) {
+                result.addError(row, "shelterType: is required");
+                return;
+            }
+            String key = naturalKey(dto.getName(), dto.getAddressLine1());
+            rows.put(key, dto);
+            rowNumbers.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            if (rows.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) return;
+            try {
+                List<Shelter> saved = transactionTemplate.execute(status -> {
+                    if (knownKeys == null) {
+                        knownKeys = new HashMap<>();
+                        for (Object[] key : shelterRepository.findImportKeys()) {
+                            knownKeys.putIfAbsent(naturalKey((String) key[1], (String) key[2]), (Long) key[0]);
+                        }
+                    }
+                    Map<Long, Shelter> existing = new HashMap<>();
+                    List<Long> ids = rows.keySet().stream().map(knownKeys::get).filter(Objects::nonNull).toList();
+                    shelterRepository.findAllById(ids).forEach(shelter -> existing.put(shelter.getId(), shelter));
+                    List<Shelter> batch = new ArrayList<>(rows.size());
+                    for (Map.Entry<String, ShelterRequestDto> entry : rows.entrySet()) {
+                        Long id = knownKeys.get(entry.getKey());
+                        batch.add(ShelterMapper.mapToEntity(entry.getValue(), id != null ? existing.get(id) : null));
+                    }
+                    return resourceService.saveShelters(batch);
+                });
+                long superseded = rowNumbers.values().stream().mapToLong(numbers -> numbers.size() - 1).sum();
+                long matched = 0;
+                int i = 0;
+                for (String key : rows.keySet()) { // saveShelters keeps the batch order
+                    Long id = saved.get(i++).getId();
+                    if (id.equals(knownKeys.put(key, id))) matched++; // Later chunks match what this one created
+                }
+                result.setCreated(result.getCreated() + rows.size() - matched);
+                result.setUpdated(result.getUpdated() + matched + superseded);
+            } catch (RuntimeException e) {
+                log.error("Service: Bulk shelter import chunk of {} rows failed", rows.size(), e);
+                String message = "Not saved, batch failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                rowNumbers.values().forEach(numbers -> numbers.forEach(row -> result.addError(row, message)));
+            } finally {
+                entityManager.clear();
+                rows.clear();
+                rowNumbers.clear();
+            }
+        }
+    }
+}
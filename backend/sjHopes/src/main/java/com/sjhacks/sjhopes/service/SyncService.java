@@ -0,0 +1,11 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.SyncChangesDto;
+
+public interface SyncService {
+
+    // Rows created, updated or deleted since the watermark (null = full download), up to `limit` per feed
+    SyncChangesDto getChanges(String since, int limit);
+
+    int purgeTombstones();
+}
@@ -0,0 +1,164 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.mapper.ClientMapper;
+import com.sjhacks.sjhopes.mapper.ShelterMapper;
+import com.sjhacks.sjhopes.mapper.TaskMapper;
+import com.sjhacks.sjhopes.models.dto.SyncChangesDto;
+import com.sjhacks.sjhopes.models.dto.TombstoneDto;
+import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.DeletedRecord;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.ShelterChangeType;
+import com.sjhacks.sjhopes.models.enums.SyncEntityType;
+import com.sjhacks.sjhopes.models.enums.TaskChangeType;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.models.event.TaskChangedEvent;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import com.sjhacks.sjhopes.repository.DeletedRecordRepository;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import com.sjhacks.sjhopes.util.KeysetCursor;
+import com.sjhacks.sjhopes.util.SyncWatermark;
+import com.sjhacks.sjhopes.util.SyncWatermark.Position;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+// Delta sync for intermittently connected devices. Shelters, tasks and clients already stamp every
+// write (lastUpdated / lastActivityDate), so each feed is an index range scan after the device's
+// last position; deletes are recorded as tombstones in the deleting transaction.
+@Service
+@Slf4j
+public class SyncServiceImpl implements SyncService {
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private DeletedRecordRepository deletedRecordRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    @Autowired
+    private SyncClock syncClock;
+
+    // Hibernate stamps entities at flush, just before commit. Each sync stops this far short of now
+    // so those rows are picked up next time instead of skipped; bulk UPDATEs in still-open
+    // transactions are held back by SyncClock however long they run.
+    @Value("${sjhopes.sync.safety-lag-ms:2000}")
+    private long safetyLagMillis;
+
+    @Value("${sjhopes.sync.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays;
+
+    // BEFORE_COMMIT: the tombstone commits or rolls back together with the delete, and its stamp
+    // stays open until then
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onShelterChanged(ShelterChangedEvent event) {
+        if (event.getChangeType() == ShelterChangeType.DELETED) {
+            deletedRecordRepository.save(new DeletedRecord(SyncEntityType.SHELTER, event.getShelterId(), syncClock.stamp()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getChangeType() == TaskChangeType.DELETED) {
+            deletedRecordRepository.save(new DeletedRecord(SyncEntityType.TASK, event.getTaskId(), syncClock.stamp()));
+        }
+    }
+
+    // Read-only: one consistent snapshot across the four feeds, and overlaid availability is never flushed
+    @Override
+    @Transactional(readOnly = true)
+    public SyncChangesDto getChanges(String since, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime upTo = syncClock.safeUpTo(safetyLagMillis);
+        SyncChangesDto changes = new SyncChangesDto();
+
+        SyncWatermark from;
+        if (since == null || since.isBlank()) {
+            from = SyncWatermark.initial(upTo);
+        } else {
+            from = SyncWatermark.decode(since);
+            if (from.getDeletions().timestamp().isBefore(now.minusDays(tombstoneRetentionDays))) {
+                // Tombstones the device never saw may already be purged
+                log.warn("Service: Sync watermark from {} is past tombstone retention, full resync required",
+                        from.getDeletions().timestamp());
+                changes.setFullResyncRequired(true);
+                return changes;
+            }
+        }
+        Pageable fetch = KeysetCursor.fetchLimit(limit);
+
+        List<Shelter> shelters = shelterRepository.findChangedSince(
+                from.getShelters().timestamp(), from.getShelters().id(), upTo, fetch);
+        Position shelterPosition = nextPosition(shelters, limit, from.getShelters(), upTo, Shelter::getLastUpdated, Shelter::getId);
+        shelters.stream().limit(limit).forEach(shelter -> {
+            bedInventory.overlay(shelter);
+            changes.getShelters().add(ShelterMapper.mapToResponseDTO(shelter));
+        });
+
+        List<Task> tasks = taskRepository.findChangedSince(
+                from.getTasks().timestamp(), from.getTasks().id(), upTo, fetch);
+        Position taskPosition = nextPosition(tasks, limit, from.getTasks(), upTo, Task::getLastUpdated, Task::getId);
+        tasks.stream().limit(limit).map(TaskMapper::mapToResponseDTO).forEach(changes.getTasks()::add);
+
+        List<Client> clients = clientRepository.findChangedSince(
+                from.getClients().timestamp(), from.getClients().id(), upTo, fetch);
+        Position clientPosition = nextPosition(clients, limit, from.getClients(), upTo, Client::getLastActivityDate, Client::getId);
+        clients.stream().limit(limit).map(ClientMapper::mapToResponseDTO).forEach(changes.getClients()::add);
+
+        List<DeletedRecord> deleted = deletedRecordRepository.findChangedSince(
+                from.getDeletions().timestamp(), from.getDeletions().id(), upTo, fetch);
+        Position deletionPosition = nextPosition(deleted, limit, from.getDeletions(), upTo, DeletedRecord::getDeletedAt, DeletedRecord::getId);
+        deleted.stream().limit(limit)
+                .map(record -> new TombstoneDto(record.getEntityType(), record.getEntityId(), record.getDeletedAt()))
+                .forEach(changes.getDeleted()::add);
+
+        changes.setHasMore(shelters.size() > limit || tasks.size() > limit || clients.size() > limit || deleted.size() > limit);
+        changes.setWatermark(new SyncWatermark(shelterPosition, taskPosition, clientPosition, deletionPosition).encode());
+        log.info("Service: Sync returned {} shelters, {} tasks, {} clients, {} deletes (hasMore: {})",
+                changes.getShelters().size(), changes.getTasks().size(), changes.getClients().size(),
+                changes.getDeleted().size(), changes.isHasMore());
+        return changes;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${sjhopes.sync.tombstone-purge-cron:0 30 3 * * *}")
+    public int purgeTombstones() {
+        int purged = deletedRecordRepository.deleteOlderThan(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        log.info("Service: Purged {} sync tombstones", purged);
+        return purged;
+    }
+
+    // A feed cut short by the limit resumes after its last returned row; a complete one has seen
+    // everything through upTo (rows are fetched one past the limit, see KeysetCursor.fetchLimit)
+    private static <T> Position nextPosition(List<T> rows, int limit, Position from, LocalDateTime upTo,
+                                             Function<T, LocalDateTime> timestampOf, Function<T, Long> idOf) {
+        if (rows.size() > limit) {
+            T last = rows.get(limit - 1);
+            return new Position(timestampOf.apply(last), idOf.apply(last));
+        }
+        return from.timestamp().isAfter(upTo) ? from : Position.through(upTo);
+    }
+}
@@ -0,0 +1,196 @@
+package com.sjhacks.sjhopes.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sjhacks.sjhopes.mapper.TaskMapper;
+import com.sjhacks.sjhopes.models.dto.BulkImportResultDto;
+import com.sjhacks.sjhopes.models.dto.TaskRequestDto;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import com.sjhacks.sjhopes.models.event.TaskChangedEvent;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import com.sjhacks.sjhopes.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk task creation. Input is parsed one row at a time, validated with the same constraints
+// as POST /api/admin/tasks, and written in chunks: each chunk is one transaction whose inserts
+// go out as JDBC batches (pooled sequence ids + hibernate.jdbc.batch_size), so memory stays
+// flat and a bad chunk doesn't undo the ones before it.
+@Service
+@Slf4j
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final String[] CSV_COLUMNS = {"title", "description", "location", "taskDateTime",
+            "estimatedDuration", "compensationDetails", "taskContactName", "taskContactPhone"};
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${sjhopes.import.chunk-size:500}")
+    private int chunkSize;
+
+    // Expects a top-level JSON array of TaskRequestDto objects
+    @Override
+    public BulkImportResultDto importJson(InputStream json) throws IOException {
+        BulkImportResultDto result = new BulkImportResultDto();
+        Chunk chunk = new Chunk(result);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of tasks");
+            }
+            long row = 0;
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    result.setTotalRows(++row);
+                    // One element as a tree, so a bad field only fails its own row
+                    JsonNode node = objectMapper.readTree(parser);
+                    try {
+                        chunk.add(row, objectMapper.treeToValue(node, TaskRequestDto.class));
+                    } catch (JsonProcessingException e) {
+                        result.addError(row, "Unreadable task: " + e.getOriginalMessage());
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // Broken syntax can't be skipped; keep what was read so far and report where it stopped
+                result.addError(row, "Malformed JSON, import stopped here: " + e.getOriginalMessage());
+            }
+        }
+        chunk.flush();
+        return finish(result, "JSON");
+    }
+
+    // Header row required; columns are matched by TaskRequestDto field name, case-insensitively
+    @Override
+    public BulkImportResultDto importCsv(InputStream csv) throws IOException {
+        BulkImportResultDto result = new BulkImportResultDto();
+        Chunk chunk = new Chunk(result);
+        try (CsvReader reader = new CsvReader(csv)) {
+            if (!reader.hasColumn("title")) {
+                throw new IllegalArgumentException("CSV header must include a 'title' column, expected: "
+                        + String.join(",", CSV_COLUMNS));
+            }
+            CsvReader.Row row;
+            try {
+                while ((row = reader.next()) != null) {
+                    result.setTotalRows(reader.getRecordNumber());
+                    try {
+                        chunk.add(reader.getRecordNumber(), toRequest(row));
+                    } catch (DateTimeParseException e) {
+                        result.addError(reader.getRecordNumber(), "taskDateTime must be an ISO date-time, e.g. 2025-06-01T09:00:00");
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                result.addError(reader.getRecordNumber() + 1, "Malformed CSV, import stopped here: " + e.getMessage());
+            }
+        }
+        chunk.flush();
+        return finish(result, "CSV");
+    }
+
+    private TaskRequestDto toRequest(CsvReader.Row row) {
+        TaskRequestDto dto = new TaskRequestDto();
+        dto.setTitle(row.get("title"));
+        dto.setDescription(row.get("description"));
+        dto.setLocation(row.get("location"));
+        String taskDateTime = row.get("taskDateTime");
+        dto.setTaskDateTime(taskDateTime == null ? null : LocalDateTime.parse(taskDateTime));
+        dto.setEstimatedDuration(row.get("estimatedDuration"));
+        dto.setCompensationDetails(row.get("compensationDetails"));
+        dto.setTaskContactName(row.get("taskContactName"));
+        dto.setTaskContactPhone(row.get("taskContactPhone"));
+        return dto;
+    }
+
+    private BulkImportResultDto finish(BulkImportResultDto result, String format) {
+        log.info("Service: Bulk task import ({}) done - rows: {}, created: {}, failed: {}",
+                format, result.getTotalRows(), result.getCreated(), result.getFailed());
+        return result;
+    }
+
+    // Valid rows waiting to be written, with their input row numbers for error reporting
+    private final class Chunk {
+        private final BulkImportResultDto result;
+        private final List<Task> tasks = new ArrayList<>(chunkSize);
+        private final List<Long> rows = new ArrayList<>(chunkSize);
+
+        private Chunk(BulkImportResultDto result) {
+            this.result = result;
+        }
+
+        void add(long row, TaskRequestDto dto) {
+            Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                result.addError(row, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            Task task = TaskMapper.mapToEntity(dto, null);
+            task.setStatus(TaskStatus.OPEN); // Same defaults as createTask
+            task.setClientId(null);
+            tasks.add(task);
+            rows.add(row);
+            if (tasks.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (tasks.isEmpty()) return;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    taskRepository.saveAll(tasks);
+                    // Delivered to listeners when this chunk commits
+                    tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+                });
+                result.setCreated(result.getCreated() + tasks.size());
+            } catch (RuntimeException e) {
+                log.error("Service: Bulk task import chunk of {} rows failed", tasks.size(), e);
+                String message = "Not saved, batch failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                rows.forEach(row -> result.addError(row, message));
+            } finally {
+                // The request-scoped persistence context would otherwise hold every imported task
+                entityManager.clear();
+                tasks.clear();
+                rows.clear();
+            }
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.sjhacks.sjhopes.service;
 
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
+import com.sjhacks.sjhopes.models.dto.TaskResponseDto;
 import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +14,12 @@ public interface TaskService {
 
     List<Task> getAllTasks();
 
+    PageResponseDto<Task> getTaskPage(String cursor, Integer size, ListingSort sort);
+
+    List<Task> searchTasks(TaskStatus status, Long clientId, LocalDateTime from, LocalDateTime to, Integer limit);
+
+    List<TaskResponseDto> getUpcomingOpenTasks(LocalDateTime from, LocalDateTime to, Integer limit);
+
     Optional<Task> getTaskById(Long id);
 
     Task createTask(Task task);
@@ -1,17 +1,29 @@
 package com.sjhacks.sjhopes.service;
 
+import com.sjhacks.sjhopes.index.UpcomingTaskIndex;
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
+import com.sjhacks.sjhopes.models.dto.TaskResponseDto;
 import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
 import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import com.sjhacks.sjhopes.models.event.TaskChangedEvent;
 import com.sjhacks.sjhopes.repository.ClientRepository;
 import com.sjhacks.sjhopes.repository.TaskRepository;
+import com.sjhacks.sjhopes.repository.TaskSpecifications;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import com.sjhacks.sjhopes.util.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,16 +38,65 @@ public class TaskServiceImpl implements TaskService {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UpcomingTaskIndex upcomingTaskIndex;
+
+    @Autowired
+    private SyncClock syncClock;
+
+    // Plain ascending, which idx_tasks_status_time / idx_tasks_client_time return as-is: unscheduled tasks
+    // (null taskDateTime, which MySQL sorts low) come first by id. NULLS LAST would force a filesort.
+    private static final Sort SCHEDULE_ORDER = Sort.by(Sort.Order.asc("taskDateTime"), Sort.Order.asc("id"));
+
     @Override
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
+    @Override
+    public PageResponseDto<Task> getTaskPage(String cursor, Integer size, ListingSort sort) {
+        int pageSize = KeysetCursor.clampPageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, sort);
+        List<Task> rows = sort == ListingSort.ID
+                ? taskRepository.findPageById(after.getId(), KeysetCursor.fetchLimit(pageSize))
+                : taskRepository.findPageByLastUpdated(after.getTimestamp(), after.getId(), KeysetCursor.fetchLimit(pageSize));
+        return KeysetCursor.toPage(rows, pageSize,
+                last -> KeysetCursor.encode(sort, last.getLastUpdated(), last.getId()));
+    }
+
+    // Filtered query; cost follows the matching rows thanks to the status/client + time indexes
+    @Override
+    public List<Task> searchTasks(TaskStatus status, Long clientId, LocalDateTime from, LocalDateTime to, Integer limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        int pageSize = KeysetCursor.clampPageSize(limit);
+        log.info("Service: Searching tasks - status: {}, clientId: {}, from: {}, to: {}, limit: {}",
+                status, clientId, from, to, pageSize);
+        return taskRepository.findAll(TaskSpecifications.matching(status, clientId, from, to),
+                PageRequest.of(0, pageSize, SCHEDULE_ORDER)).getContent();
+    }
+
+    @Override
+    public List<TaskResponseDto> getUpcomingOpenTasks(LocalDateTime from, LocalDateTime to, Integer limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+        LocalDateTime end = to == null ? start.plusDays(7) : to;
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        return upcomingTaskIndex.findOpen(start, end, KeysetCursor.clampPageSize(limit));
+    }
+
     @Override
     public Optional<Task> getTaskById(Long id) {
         return taskRepository.findById(id);
     }
 
+    @Transactional // The outbox row commits with the task
     @Override
     public Task createTask(Task task) {
         log.info("Service: Creating new task: {}", task.getTitle());
@@ -47,10 +108,13 @@ public class TaskServiceImpl implements TaskService {
         }
         task.setStatus(TaskStatus.OPEN); // Ensure status is OPEN on creation
         task.setClientId(null); // Ensure not assigned on creation
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(saved));
+        return saved;
     }
 
     // Method to assign a task to a client (used by Caseworker)
+    // OPEN -> ASSIGNED is one guarded UPDATE; the affected-row count decides who won
     @Transactional
     @Override
     public boolean assignTask(Long taskId, Long clientId) {
@@ -62,47 +126,30 @@ public class TaskServiceImpl implements TaskService {
             throw new EntityNotFoundException("Client not found with id: " + clientId);
         }
 
-        Optional<Task> taskOpt = taskRepository.findById(taskId);
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
-            if (task.getStatus() == TaskStatus.OPEN || task.getStatus() == TaskStatus.ASSIGNED) {
-                task.setStatus(TaskStatus.ASSIGNED);
-                task.setClientId(clientId); // Save Long ID
-                taskRepository.save(task);
-                log.info("Service: Task id: {} assigned successfully to client id: {}", taskId, clientId);
-                return true;
-            } else {
-                log.warn("Service: Task assignment failed for task id: {}. Task status is not OPEN (current: {})", taskId, task.getStatus());
-                return false; // Task not open
-            }
+        if (taskRepository.transition(taskId, TaskStatus.OPEN, TaskStatus.ASSIGNED, clientId, syncClock.stamp()) == 1) {
+            eventPublisher.publishEvent(TaskChangedEvent.statusChanged(taskId, TaskStatus.OPEN, TaskStatus.ASSIGNED));
+            log.info("Service: Task id: {} assigned successfully to client id: {}", taskId, clientId);
+            return true;
         }
 
-        log.warn("Service: Task assignment failed. Task not found for id: {}", taskId);
-        return false; // Task not found
+        log.warn("Service: Task assignment failed for task id: {}. Task not found or not OPEN.", taskId);
+        return false; // Task not found or already taken
     }
 
     // Optional: Method to mark a task as complete
+    // Business logic: Only ASSIGNED tasks can be marked as complete - enforced by the UPDATE's WHERE clause
     @Transactional
     @Override
     public boolean completeTask(Long taskId) {
         log.info("Service: Attempting completion of task id: {}", taskId);
-        Optional<Task> taskOpt = taskRepository.findById(taskId);
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
-            // Business logic: Only ASSIGNED tasks can be marked as complete
-            if (task.getStatus() == TaskStatus.ASSIGNED) {
-                task.setStatus(TaskStatus.COMPLETED);
-                // task.setClientId(null); // Optional: Clear client ID on completion? Decide based on requirements.
-                taskRepository.save(task);
-                log.info("Service: Task id: {} marked as COMPLETED", taskId);
-                return true; // Success
-            } else {
-                log.warn("Service: Task completion failed for task id: {}. Task status is not ASSIGNED (current: {})", taskId, task.getStatus());
-                return false; // Task not assigned
-            }
+        // The assigned client is kept on completion
+        if (taskRepository.transition(taskId, TaskStatus.ASSIGNED, TaskStatus.COMPLETED, syncClock.stamp()) == 1) {
+            eventPublisher.publishEvent(TaskChangedEvent.statusChanged(taskId, TaskStatus.ASSIGNED, TaskStatus.COMPLETED));
+            log.info("Service: Task id: {} marked as COMPLETED", taskId);
+            return true; // Success
         }
-        log.warn("Service: Task completion failed. Task not found for id: {}", taskId);
-        return false; // Task not found
+        log.warn("Service: Task completion failed for task id: {}. Task not found or not ASSIGNED.", taskId);
+        return false; // Task not found or not assigned
     }
 
     // Method to update an existing task (used by Admin)
@@ -130,7 +177,9 @@ public class TaskServiceImpl implements TaskService {
                     // Generally, don't allow status/assignment changes via this generic update method
                     // Use specific methods like assignTask/completeTask for status changes.
                     log.info("Service: Updating task id: {}", id);
-                    return taskRepository.save(existingTask); // Save the updated task
+                    Task saved = taskRepository.save(existingTask); // Save the updated task
+                    eventPublisher.publishEvent(TaskChangedEvent.updated(saved));
+                    return saved;
                 })
                 // If task is not found, throw an exception
                 .orElseThrow(() -> {
@@ -146,8 +195,10 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public boolean deleteTask(Long id) {
         log.info("Service: Attempting to delete task id: {}", id);
-        if (taskRepository.existsById(id)) {
-            taskRepository.deleteById(id);
+        Optional<Task> existing = taskRepository.findById(id);
+        if (existing.isPresent()) {
+            taskRepository.delete(existing.get());
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(id, existing.get().getStatus()));
             log.info("Service: Task deleted successfully: {}", id);
             return true;
         }
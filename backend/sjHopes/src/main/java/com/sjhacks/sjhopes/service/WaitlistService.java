@@ -0,0 +1,19 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.WaitlistEntryDto;
+import com.sjhacks.sjhopes.models.dto.WaitlistRequestDto;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Optional;
+
+public interface WaitlistService {
+
+    WaitlistEntryDto join(WaitlistRequestDto request);
+
+    Optional<WaitlistEntryDto> getEntry(Long entryId);
+
+    // Completes as soon as the entry leaves WAITING, or with its current state after timeoutMillis
+    DeferredResult<WaitlistEntryDto> awaitResolution(Long entryId, long timeoutMillis);
+
+    boolean cancel(Long entryId);
+}
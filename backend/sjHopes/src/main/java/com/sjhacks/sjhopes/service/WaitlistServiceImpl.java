@@ -0,0 +1,253 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.mapper.WaitlistMapper;
+import com.sjhacks.sjhopes.models.dto.WaitlistEntryDto;
+import com.sjhacks.sjhopes.models.dto.WaitlistRequestDto;
+import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.entity.WaitlistEntry;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.models.enums.ShelterChangeType;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.models.enums.WaitlistStatus;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import com.sjhacks.sjhopes.repository.WaitlistEntryRepository;
+import com.sjhacks.sjhopes.waitlist.WaitlistQueues;
+import com.sjhacks.sjhopes.waitlist.WaitlistQueues.Ticket;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Waitlists for full shelters. Entries are persisted, and mirrored into in-memory priority queues
+// per shelter and per ShelterType. Whenever a shelter's availability goes up (saveShelter, a
+// release, an expired hold) one dispatcher thread hands the freed beds to the best compatible
+// waiters, and callers parked on /await are completed instead of polling reserveShelterBed.
+@Service
+@Slf4j
+public class WaitlistServiceImpl implements WaitlistService {
+
+    @Autowired
+    private WaitlistEntryRepository waitlistRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final WaitlistQueues queues = new WaitlistQueues();
+
+    // One thread, so two dispatches never race for the same bed
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "waitlist-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Shelters with a dispatch already queued - a burst of releases becomes one pass
+    private final Set<Long> pendingShelters = ConcurrentHashMap.newKeySet();
+
+    private final Map<Long, List<DeferredResult<WaitlistEntryDto>>> waiters = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadQueues() {
+        List<Object[]> rows = waitlistRepository.findQueueRows(WaitlistStatus.WAITING);
+        for (Object[] row : rows) {
+            queues.add(new Ticket((Long) row[0], (Long) row[1], (Long) row[2], (ShelterType) row[3],
+                    (Integer) row[4], (Boolean) row[5], (Boolean) row[6]));
+        }
+        log.info("Waitlist: Reloaded {} waiting entries", rows.size());
+        if (!queues.isEmpty()) {
+            // Beds may have freed up while we were down
+            resourceService.findSheltersByCriteria(null, null, null, true)
+                    .forEach(shelter -> scheduleDispatch(shelter.getId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShelterChanged(ShelterChangedEvent event) {
+        if (event.getChangeType() == ShelterChangeType.DELETED || event.getCurrentAvailability() <= 0 || queues.isEmpty()) {
+            return;
+        }
+        scheduleDispatch(event.getShelterId());
+    }
+
+    @Override
+    public WaitlistEntryDto join(WaitlistRequestDto request) {
+        if ((request.getShelterId() == null) == (request.getShelterType() == null)) {
+            throw new IllegalArgumentException("Exactly one of shelterId or shelterType is required");
+        }
+        log.info("Service: Client id: {} joining waitlist for shelter {} / type {}",
+                request.getClientId(), request.getShelterId(), request.getShelterType());
+
+        // Commit before queueing, the dispatcher thread must be able to see the row
+        Ticket[] ticket = new Ticket[1];
+        WaitlistEntry saved = transactionTemplate.execute(status -> {
+            Client client = clientRepository.findById(request.getClientId())
+                    .orElseThrow(() -> new EntityNotFoundException("Client not found with id: " + request.getClientId()));
+            if (client.getStatus() != ClientStatus.SEEKING_PLACEMENT) {
+                throw new IllegalStateException("Client " + client.getId() + " is " + client.getStatus() + ", not seeking placement");
+            }
+            if (request.getShelterId() != null && resourceService.getShelterById(request.getShelterId()).isEmpty()) {
+                throw new EntityNotFoundException("Shelter not found with id: " + request.getShelterId());
+            }
+            if (waitlistRepository.existsByClientIdAndStatus(client.getId(), WaitlistStatus.WAITING)) {
+                throw new IllegalStateException("Client " + client.getId() + " is already on a waitlist");
+            }
+            WaitlistEntry entry = new WaitlistEntry();
+            entry.setClientId(client.getId());
+            entry.setShelterId(request.getShelterId());
+            entry.setShelterType(request.getShelterType());
+            entry.setPriority(request.getPriority() != null ? request.getPriority() : 0);
+            entry = waitlistRepository.save(entry);
+            ticket[0] = new Ticket(entry.getId(), client.getId(), entry.getShelterId(), entry.getShelterType(),
+                    entry.getPriority(), client.isHasPet(), client.isHasPartner());
+            return entry;
+        });
+        queues.add(ticket[0]);
+
+        // The shelter may have room right now (e.g. the caller raced a release)
+        if (saved.getShelterId() != null) {
+            scheduleDispatch(saved.getShelterId());
+        } else {
+            resourceService.findSheltersByCriteria(null, null, saved.getShelterType(), true).stream()
+                    .filter(shelter -> shelter.getCurrentAvailability() > 0)
+                    .forEach(shelter -> scheduleDispatch(shelter.getId()));
+        }
+        return WaitlistMapper.mapToResponseDTO(saved, queues.position(saved.getId()));
+    }
+
+    @Override
+    public Optional<WaitlistEntryDto> getEntry(Long entryId) {
+        return waitlistRepository.findById(entryId)
+                .map(entry -> WaitlistMapper.mapToResponseDTO(entry, queues.position(entryId)));
+    }
+
+    @Override
+    public DeferredResult<WaitlistEntryDto> awaitResolution(Long entryId, long timeoutMillis) {
+        WaitlistEntryDto current = getEntry(entryId)
+                .orElseThrow(() -> new EntityNotFoundException("Waitlist entry not found with id: " + entryId));
+        DeferredResult<WaitlistEntryDto> result = new DeferredResult<>(timeoutMillis);
+        if (current.getStatus() != WaitlistStatus.WAITING) {
+            result.setResult(current);
+            return result;
+        }
+        List<DeferredResult<WaitlistEntryDto>> parked = waiters.computeIfAbsent(entryId, id -> new CopyOnWriteArrayList<>());
+        parked.add(result);
+        result.onTimeout(() -> getEntry(entryId).ifPresent(result::setResult)); // Still waiting, report position
+        result.onCompletion(() -> parked.remove(result));
+        // The entry may have been resolved between the read above and parking
+        getEntry(entryId).filter(entry -> entry.getStatus() != WaitlistStatus.WAITING).ifPresent(result::setResult);
+        return result;
+    }
+
+    @Override
+    public boolean cancel(Long entryId) {
+        log.info("Service: Cancelling waitlist entry id: {}", entryId);
+        if (!waitlistRepository.existsById(entryId)) {
+            throw new EntityNotFoundException("Waitlist entry not found with id: " + entryId);
+        }
+        Integer updated = transactionTemplate.execute(status -> waitlistRepository.resolve(
+                entryId, WaitlistStatus.WAITING, WaitlistStatus.CANCELLED, null, LocalDateTime.now()));
+        if (updated == null || updated != 1) {
+            log.warn("Service: Waitlist entry {} is no longer waiting", entryId);
+            return false;
+        }
+        queues.remove(entryId);
+        notifyWaiters(entryId);
+        return true;
+    }
+
+    private void scheduleDispatch(Long shelterId) {
+        if (shelterId != null && pendingShelters.add(shelterId)) {
+            dispatcher.execute(() -> {
+                pendingShelters.remove(shelterId); // Changes from here on get their own pass
+                try {
+                    dispatch(shelterId);
+                } catch (RuntimeException e) {
+                    log.error("Waitlist: Dispatch for shelter {} failed: {}", shelterId, e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    // Hands free beds at one shelter to waiters until either runs out
+    private void dispatch(Long shelterId) {
+        while (true) {
+            Shelter shelter = resourceService.getShelterById(shelterId).orElse(null);
+            if (shelter == null || !shelter.isActive() || shelter.getCurrentAvailability() <= 0) {
+                return;
+            }
+            Ticket ticket = queues.next(shelterId, shelter.getShelterType(), shelter.isAllowsPets(), shelter.isAllowsPartner());
+            if (ticket == null) {
+                return;
+            }
+            Boolean placed;
+            try {
+                placed = transactionTemplate.execute(status -> {
+                    Client client = clientRepository.findById(ticket.clientId()).orElse(null);
+                    if (client == null || client.getStatus() != ClientStatus.SEEKING_PLACEMENT) {
+                        // Placed some other way or gone - the entry no longer needs a bed
+                        waitlistRepository.resolve(ticket.entryId(), WaitlistStatus.WAITING, WaitlistStatus.CANCELLED,
+                                null, LocalDateTime.now());
+                        return false;
+                    }
+                    if (waitlistRepository.resolve(ticket.entryId(), WaitlistStatus.WAITING, WaitlistStatus.PLACED,
+                            shelterId, LocalDateTime.now()) != 1) {
+                        return false; // Cancelled concurrently
+                    }
+                    if (!resourceService.reserveShelterBed(shelterId, ticket.clientId())) {
+                        status.setRollbackOnly();
+                        return null; // Someone else took the bed
+                    }
+                    return true;
+                });
+            } catch (RuntimeException e) {
+                queues.add(ticket); // The entry is still WAITING in the database, keep it in line too
+                throw e;
+            }
+            if (placed == null) {
+                queues.add(ticket); // Keeps its place, the entry id still orders it
+                return;
+            }
+            if (placed) {
+                log.info("Waitlist: Placed client {} at shelter {} from entry {}", ticket.clientId(), shelterId, ticket.entryId());
+            }
+            notifyWaiters(ticket.entryId());
+        }
+    }
+
+    private void notifyWaiters(Long entryId) {
+        List<DeferredResult<WaitlistEntryDto>> parked = waiters.remove(entryId);
+        if (parked == null || parked.isEmpty()) {
+            return;
+        }
+        getEntry(entryId).ifPresent(entry -> parked.forEach(result -> result.setResult(entry)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+}
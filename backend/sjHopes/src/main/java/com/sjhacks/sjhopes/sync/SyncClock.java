@@ -0,0 +1,48 @@
+package com.sjhacks.sjhopes.sync;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// The one clock behind every delta sync stamp. Entities are stamped by Hibernate from the JVM clock,
+// so bulk UPDATEs take their timestamp from here rather than the database's CURRENT_TIMESTAMP. A
+// stamp taken inside a transaction stays open until that transaction ends, and sync never reads
+// past the oldest open stamp - a long transaction's rows can't commit behind a device's watermark.
+// Like the bed inventory, this assumes a single application instance.
+@Component
+public class SyncClock {
+
+    // Open stamp -> number of transactions holding it
+    private final ConcurrentSkipListMap<LocalDateTime, Integer> open = new ConcurrentSkipListMap<>();
+
+    // Lock-free: the safety lag in safeUpTo covers the moment between reading the clock and registering
+    public LocalDateTime stamp() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS); // Column precision
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            open.merge(now, 1, Integer::sum);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    open.computeIfPresent(now, (stamp, holders) -> holders == 1 ? null : holders - 1);
+                }
+            });
+        }
+        return now;
+    }
+
+    // Latest time a sync can read through: `lagMillis` behind now for writes stamped at flush
+    // (Hibernate), and never at or after a stamp whose transaction is still open
+    public LocalDateTime safeUpTo(long lagMillis) {
+        LocalDateTime upTo = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).minus(lagMillis, ChronoUnit.MILLIS);
+        Map.Entry<LocalDateTime, Integer> oldest = open.firstEntry();
+        if (oldest != null && !oldest.getKey().isAfter(upTo)) {
+            upTo = oldest.getKey().minus(1, ChronoUnit.MICROS);
+        }
+        return upTo;
+    }
+}
@@ -0,0 +1,116 @@
+package com.sjhacks.sjhopes.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Minimal streaming RFC 4180 reader: one record in memory at a time, quoted fields may
+// contain commas, doubled quotes and line breaks. The first record is the header.
+public final class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int recordNumber; // 1-based data row number of the last record returned
+
+    public CsvReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty, a header row is required");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            // Strip a UTF-8 BOM left by spreadsheet exports
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(name, i);
+        }
+    }
+
+    public boolean hasColumn(String name) {
+        return columns.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    public int getRecordNumber() {
+        return recordNumber;
+    }
+
+    // Next data row, or null at end of input. Blank lines are skipped.
+    public Row next() throws IOException {
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) return null;
+        } while (values.size() == 1 && values.get(0).isBlank());
+        recordNumber++;
+        return new Row(values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) return null;
+
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field after row " + recordNumber);
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        values.add(field.toString());
+        return values;
+    }
+
+    public final class Row {
+        private final List<String> values;
+
+        private Row(List<String> values) {
+            this.values = values;
+        }
+
+        // Trimmed value of the named column, null when the column is missing or the cell is blank
+        public String get(String name) {
+            Integer index = columns.get(name.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) return null;
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
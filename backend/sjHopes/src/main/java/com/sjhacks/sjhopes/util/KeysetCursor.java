@@ -0,0 +1,88 @@
+package com.sjhacks.sjhopes.util;
+
+import com.sjhacks.sjhopes.models.dto.PageResponseDto;
+import com.sjhacks.sjhopes.models.enums.ListingSort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Opaque next-page token for keyset pagination: the sort key of the last row returned.
+// Queries continue strictly after it, so page 1000 costs the same index range scan as page 1.
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Starting point for LAST_UPDATED (descending) listings
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final ListingSort sort;
+    private final LocalDateTime timestamp;
+    private final long id;
+
+    private KeysetCursor(ListingSort sort, LocalDateTime timestamp, long id) {
+        this.sort = sort;
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    // A missing cursor means "first page"
+    public static KeysetCursor decode(String token, ListingSort sort) {
+        if (token == null || token.isBlank()) {
+            return sort == ListingSort.ID
+                    ? new KeysetCursor(sort, null, 0L)
+                    : new KeysetCursor(sort, MAX_TIMESTAMP, Long.MAX_VALUE);
+        }
+        KeysetCursor cursor;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            ListingSort tokenSort = ListingSort.valueOf(parts[0]);
+            cursor = tokenSort == ListingSort.ID
+                    ? new KeysetCursor(tokenSort, null, Long.parseLong(parts[1]))
+                    : new KeysetCursor(tokenSort, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (cursor.sort != sort) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + cursor.sort + ", not " + sort);
+        }
+        return cursor;
+    }
+
+    public static String encode(ListingSort sort, LocalDateTime timestamp, Long id) {
+        String raw = sort == ListingSort.ID ? sort + "|" + id : sort + "|" + timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int clampPageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        if (size < 1) throw new IllegalArgumentException("Page size must be at least 1");
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // Queries fetch one extra row so we know whether another page exists
+    public static Pageable fetchLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <T> PageResponseDto<T> toPage(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new PageResponseDto<>(rows, rows.size(), null);
+        }
+        List<T> page = rows.subList(0, size);
+        return new PageResponseDto<>(page, size, cursorOf.apply(page.get(size - 1)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.sjhacks.sjhopes.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// UTF-8 note text <-> stored bytes. Text at or over the threshold is DEFLATE-compressed,
+// but only kept that way when it actually came out smaller.
+public final class NoteCodec {
+
+    public record Encoded(byte[] body, boolean compressed) {
+    }
+
+    private NoteCodec() {
+    }
+
+    public static Encoded encode(String text, int compressThresholdBytes) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < compressThresholdBytes) {
+            return new Encoded(raw, false);
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            byte[] packed = out.toByteArray();
+            return packed.length < raw.length ? new Encoded(packed, true) : new Encoded(raw, false);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decode(byte[] body, boolean compressed) {
+        if (!compressed) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed note");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed note", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.sjhacks.sjhopes.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Opaque delta sync token: one (timestamp, id) position per feed - shelters, tasks, clients and
+// tombstones. Each feed continues strictly after its own position, so a feed cut short by the
+// page limit resumes mid-timestamp without skipping or repeating rows.
+public final class SyncWatermark {
+
+    public record Position(LocalDateTime timestamp, long id) {
+
+        // Everything up to and including `timestamp` has been seen
+        public static Position through(LocalDateTime timestamp) {
+            return new Position(timestamp, Long.MAX_VALUE);
+        }
+    }
+
+    private static final String VERSION = "v1";
+    private static final Position START = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final Position shelters;
+    private final Position tasks;
+    private final Position clients;
+    private final Position deletions;
+
+    public SyncWatermark(Position shelters, Position tasks, Position clients, Position deletions) {
+        this.shelters = shelters;
+        this.tasks = tasks;
+        this.clients = clients;
+        this.deletions = deletions;
+    }
+
+    public Position getShelters() {
+        return shelters;
+    }
+
+    public Position getTasks() {
+        return tasks;
+    }
+
+    public Position getClients() {
+        return clients;
+    }
+
+    public Position getDeletions() {
+        return deletions;
+    }
+
+    // Before the first sync the device holds nothing, so there are no deletes to replay
+    public static SyncWatermark initial(LocalDateTime now) {
+        return new SyncWatermark(START, START, START, Position.through(now));
+    }
+
+    public static SyncWatermark decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 9 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unknown watermark format");
+            }
+            return new SyncWatermark(position(parts, 1), position(parts, 3), position(parts, 5), position(parts, 7));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid watermark", e);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, format(shelters), format(tasks), format(clients), format(deletions));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position position(String[] parts, int at) {
+        return new Position(LocalDateTime.parse(parts[at]), Long.parseLong(parts[at + 1]));
+    }
+
+    private static String format(Position position) {
+        return position.timestamp() + "|" + position.id();
+    }
+}
@@ -0,0 +1,88 @@
+package com.sjhacks.sjhopes.waitlist;
+
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+// Ordered waitlists, one per shelter and one per ShelterType. Order is priority (high first),
+// then join order. When a bed frees up at a shelter, the best compatible ticket across that
+// shelter's queue and its type's queue gets it.
+public final class WaitlistQueues {
+
+    public record Ticket(long entryId, long clientId, Long shelterId, ShelterType shelterType, int priority,
+                         boolean hasPet, boolean hasPartner) {
+    }
+
+    private static final Comparator<Ticket> ORDER = Comparator.comparingInt(Ticket::priority).reversed()
+            .thenComparingLong(Ticket::entryId);
+
+    private final Map<Long, NavigableSet<Ticket>> byShelter = new HashMap<>();
+    private final Map<ShelterType, NavigableSet<Ticket>> byType = new EnumMap<>(ShelterType.class);
+    private final Map<Long, Ticket> byEntry = new HashMap<>();
+
+    public synchronized void add(Ticket ticket) {
+        remove(ticket.entryId());
+        queueOf(ticket, true).add(ticket);
+        byEntry.put(ticket.entryId(), ticket);
+    }
+
+    public synchronized Ticket remove(long entryId) {
+        Ticket ticket = byEntry.remove(entryId);
+        if (ticket != null) {
+            NavigableSet<Ticket> queue = queueOf(ticket, false);
+            queue.remove(ticket);
+            if (queue.isEmpty()) { // Don't keep empty queues for every shelter ever waited on
+                if (ticket.shelterId() != null) byShelter.remove(ticket.shelterId());
+                else byType.remove(ticket.shelterType());
+            }
+        }
+        return ticket;
+    }
+
+    // Removes and returns the best ticket this shelter can take, or null
+    public synchronized Ticket next(long shelterId, ShelterType type, boolean allowsPets, boolean allowsPartner) {
+        Ticket fromShelter = firstCompatible(byShelter.get(shelterId), allowsPets, allowsPartner);
+        Ticket fromType = type == null ? null : firstCompatible(byType.get(type), allowsPets, allowsPartner);
+        Ticket best = fromShelter == null ? fromType
+                : fromType == null ? fromShelter
+                : ORDER.compare(fromShelter, fromType) <= 0 ? fromShelter : fromType;
+        if (best != null) remove(best.entryId());
+        return best;
+    }
+
+    public synchronized boolean hasWaiters(long shelterId, ShelterType type) {
+        NavigableSet<Ticket> shelterQueue = byShelter.get(shelterId);
+        NavigableSet<Ticket> typeQueue = type == null ? null : byType.get(type);
+        return (shelterQueue != null && !shelterQueue.isEmpty()) || (typeQueue != null && !typeQueue.isEmpty());
+    }
+
+    public synchronized boolean isEmpty() {
+        return byEntry.isEmpty();
+    }
+
+    // 1-based place in its own queue, null when the entry isn't queued
+    public synchronized Integer position(long entryId) {
+        Ticket ticket = byEntry.get(entryId);
+        return ticket == null ? null : queueOf(ticket, false).headSet(ticket, false).size() + 1;
+    }
+
+    private NavigableSet<Ticket> queueOf(Ticket ticket, boolean create) {
+        if (ticket.shelterId() != null) {
+            return create ? byShelter.computeIfAbsent(ticket.shelterId(), id -> new TreeSet<>(ORDER)) : byShelter.get(ticket.shelterId());
+        }
+        return create ? byType.computeIfAbsent(ticket.shelterType(), t -> new TreeSet<>(ORDER)) : byType.get(ticket.shelterType());
+    }
+
+    private static Ticket firstCompatible(NavigableSet<Ticket> queue, boolean allowsPets, boolean allowsPartner) {
+        if (queue == null) return null;
+        for (Ticket ticket : queue) {
+            if ((!ticket.hasPet() || allowsPets) && (!ticket.hasPartner() || allowsPartner)) return ticket;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sjhacks.sjhopes;
+
+import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+
+// Minimal valid entities shared by the repository and service tests
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static Shelter newShelter(String name, int beds) {
+        Shelter shelter = new Shelter();
+        shelter.setName(name);
+        shelter.setAddressLine1("1 Test St");
+        shelter.setCity("San Jose");
+        shelter.setState("CA");
+        shelter.setZipCode("95112");
+        shelter.setLatitude(37.3382);
+        shelter.setLongitude(-121.8863);
+        shelter.setTotalCapacity(beds);
+        shelter.setCurrentAvailability(beds);
+        shelter.setShelterType(ShelterType.CONGREGATE);
+        return shelter;
+    }
+
+    public static Client newClient(String name) {
+        Client client = new Client();
+        client.setName(name);
+        return client;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sjhacks.sjhopes.cache;
+
+import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShelterQueryCacheTest {
+
+    private static final Long SHELTER_ID = 1L;
+
+    private final ShelterQueryCache cache = new ShelterQueryCache(100, 60);
+
+    @Test
+    void loadRacingAnInvalidationIsNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+
+        // The row changes and its invalidation lands after the loader has read the old copy
+        Optional<ShelterResponseDto> stale = cache.getById(SHELTER_ID, id -> {
+            Optional<Shelter> read = Optional.of(shelter(5));
+            loads.incrementAndGet();
+            cache.onShelterChanged(ShelterChangedEvent.availabilityChanged(id, 4));
+            return read;
+        });
+        assertEquals(5, stale.orElseThrow().getCurrentAvailability()); // The caller still gets what it read
+
+        Optional<ShelterResponseDto> fresh = cache.getById(SHELTER_ID, id -> {
+            loads.incrementAndGet();
+            return Optional.of(shelter(4));
+        });
+        assertEquals(4, fresh.orElseThrow().getCurrentAvailability());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void quietLoadIsServedFromTheCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.getById(SHELTER_ID, id -> {
+                loads.incrementAndGet();
+                return Optional.of(shelter(5));
+            });
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    private static Shelter shelter(int availability) {
+        Shelter shelter = newShelter("Cached", 10);
+        shelter.setId(SHELTER_ID);
+        shelter.setCurrentAvailability(availability);
+        return shelter;
+    }
+}
@@ -0,0 +1,77 @@
+package com.sjhacks.sjhopes.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 1s ticks over 8 slots: one turn of the wheel is 8s
+class TimerWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void deadlinePastTheEndOfTheRingWrapsAround() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule("wrapped", 9_500); // Tick 10, slot 2
+
+        assertTrue(wheel.advance(9_000).isEmpty()); // Slot 2 seen at tick 2, deadline not reached
+        assertEquals(List.of("wrapped"), wheel.advance(10_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deadlineSeveralTurnsAwayFiresOnlyOnItsOwnTurn() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule("far", 20_000); // Slot 4, passed over at ticks 4 and 12
+
+        for (long now = TICK; now < 20_000; now += TICK) {
+            assertTrue(wheel.advance(now).isEmpty(), "Fired early at " + now);
+        }
+        assertEquals(List.of("far"), wheel.advance(20_000));
+    }
+
+    @Test
+    void advanceOverManyTurnsCollectsEveryDueKey() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule("soon", 1_000);
+        wheel.schedule("later", 15_000);
+        wheel.schedule("much later", 31_000);
+        wheel.schedule("not yet", 120_000);
+
+        assertEquals(Set.of("soon", "later", "much later"), new HashSet<>(wheel.advance(100_000)));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("not yet"), wheel.advance(120_000));
+    }
+
+    @Test
+    void cancelledAndRescheduledKeysDoNotFireAtTheOldDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule("cancelled", 3_000);
+        wheel.schedule("kept", 3_000);
+        wheel.schedule("moved", 3_000);
+
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        wheel.schedule("moved", 6_000);
+        assertEquals(2, wheel.size());
+
+        assertEquals(List.of("kept"), wheel.advance(3_000));
+        assertEquals(List.of("moved"), wheel.advance(6_000));
+        assertFalse(wheel.cancel("kept")); // Already fired
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deadlineAlreadyPassedFiresOnTheNextAdvance() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 50_000);
+        wheel.schedule("overdue", 10_000);
+
+        assertEquals(List.of("overdue"), wheel.advance(51_000));
+    }
+}
@@ -0,0 +1,99 @@
+package com.sjhacks.sjhopes.index;
+
+import com.sjhacks.sjhopes.models.dto.ShelterResponseDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.service.BedInventoryService;
+import com.sjhacks.sjhopes.service.BedInventoryServiceImpl;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ShelterFilterIndex.class, BedInventoryServiceImpl.class, SyncClock.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Rows commit, as they would before their events
+class ShelterFilterIndexTest {
+
+    @Autowired
+    private ShelterFilterIndex index;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    @Test
+    void lateAvailabilityEventDoesNotOverwriteNewerCount() {
+        Shelter shelter = shelterRepository.save(newShelter("Busy", 10));
+        index.onShelterChanged(ShelterChangedEvent.saved(shelter));
+        assertTrue(bedInventory.tryReserve(shelter.getId(), 1));
+        assertTrue(bedInventory.tryReserve(shelter.getId(), 1));
+
+        index.onShelterChanged(ShelterChangedEvent.availabilityChanged(shelter.getId(), 8));
+        index.onShelterChanged(ShelterChangedEvent.availabilityChanged(shelter.getId(), 9)); // First claim's, delivered last
+
+        assertEquals(8, find(shelter.getId()).getCurrentAvailability());
+    }
+
+    @Test
+    void changesDuringRebuildAreKept() {
+        Shelter kept = shelterRepository.save(newShelter("Kept", 5));
+        Shelter deleted = shelterRepository.save(newShelter("Deleted", 5));
+        Shelter[] added = new Shelter[1];
+
+        index.rebuild(() -> {
+            List<Shelter> snapshot = List.of(kept, deleted);
+            // Committed after the snapshot was read, delivered before the rebuild finishes
+            added[0] = shelterRepository.save(newShelter("Added", 5));
+            index.onShelterChanged(ShelterChangedEvent.saved(added[0]));
+            shelterRepository.deleteById(deleted.getId());
+            index.onShelterChanged(ShelterChangedEvent.deleted(deleted.getId()));
+            return snapshot;
+        });
+
+        assertEquals(List.of(kept.getId(), added[0].getId()), ids(index.search(null, null, null, null, 0)));
+    }
+
+    @Test
+    void searchReturnsIdOrderAfterOutOfOrderInsertsAndDeletes() {
+        index.rebuild(() -> List.of(detached(1050L, true), detached(1010L, false), detached(1030L, true)));
+        index.onShelterChanged(ShelterChangedEvent.saved(detached(1020L, true)));
+        index.onShelterChanged(ShelterChangedEvent.deleted(1030L));
+        index.onShelterChanged(ShelterChangedEvent.saved(detached(1040L, false)));
+
+        assertEquals(List.of(1010L, 1020L, 1040L, 1050L), ids(index.search(null, null, null, null, 0)));
+        assertEquals(List.of(1020L, 1050L), ids(index.search(true, null, null, null, 0)));
+    }
+
+    private ShelterResponseDto find(Long shelterId) {
+        return index.search(null, null, null, null, 0).stream()
+                .filter(dto -> dto.getId().equals(shelterId))
+                .findFirst().orElseThrow();
+    }
+
+    private static List<Long> ids(List<ShelterResponseDto> dtos) {
+        return dtos.stream().map(ShelterResponseDto::getId).toList();
+    }
+
+    // Never stored: ids well clear of the generated ones, so nothing live overrides their counts
+    private static Shelter detached(Long id, boolean allowsPets) {
+        Shelter shelter = newShelter("Shelter " + id, 5);
+        shelter.setId(id);
+        shelter.setAllowsPets(allowsPets);
+        return shelter;
+    }
+}
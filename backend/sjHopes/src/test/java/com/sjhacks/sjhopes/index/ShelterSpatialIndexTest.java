@@ -0,0 +1,139 @@
+package com.sjhacks.sjhopes.index;
+
+import com.sjhacks.sjhopes.models.dto.NearbyShelterDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.service.BedInventoryService;
+import com.sjhacks.sjhopes.service.BedInventoryServiceImpl;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ShelterSpatialIndex.class, BedInventoryServiceImpl.class, SyncClock.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Rows commit, as they would before their events
+class ShelterSpatialIndexTest {
+
+    private static final double SAN_JOSE_LAT = 37.34;
+    private static final double SAN_JOSE_LON = -121.89;
+
+    @Autowired
+    private ShelterSpatialIndex index;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    // Small radii walk the grid ring by ring, large ones fall back to a scan; both must agree with brute force
+    @Test
+    void findNearestMatchesAFullScan() {
+        Random random = new Random(7);
+        List<Shelter> shelters = new ArrayList<>();
+        for (long id = 2000; id < 2400; id++) {
+            Shelter shelter = detached(id, SAN_JOSE_LAT + (random.nextDouble() - 0.5) * 0.6,
+                    SAN_JOSE_LON + (random.nextDouble() - 0.5) * 0.8);
+            shelter.setAllowsPets(random.nextBoolean());
+            shelter.setCurrentAvailability(random.nextInt(6));
+            shelters.add(shelter);
+        }
+        index.rebuild(() -> shelters);
+
+        for (int i = 0; i < 50; i++) {
+            double latitude = SAN_JOSE_LAT + (random.nextDouble() - 0.5) * 0.6;
+            double longitude = SAN_JOSE_LON + (random.nextDouble() - 0.5) * 0.8;
+            double radiusKm = random.nextBoolean() ? 2 + random.nextDouble() * 8 : 40;
+            int limit = 1 + random.nextInt(10);
+            int minAvailability = random.nextInt(3);
+            Boolean pets = random.nextBoolean() ? null : random.nextBoolean();
+
+            List<Long> expected = shelters.stream()
+                    .filter(shelter -> shelter.getCurrentAvailability() >= minAvailability)
+                    .filter(shelter -> pets == null || shelter.isAllowsPets() == pets)
+                    .filter(shelter -> distance(shelter, latitude, longitude) <= radiusKm)
+                    .sorted(Comparator.comparingDouble(shelter -> distance(shelter, latitude, longitude)))
+                    .limit(limit)
+                    .map(Shelter::getId)
+                    .toList();
+            List<Long> found = index.findNearest(latitude, longitude, radiusKm, limit, minAvailability, pets, null, null)
+                    .stream().map(NearbyShelterDto::getId).toList();
+
+            assertEquals(expected, found, "Query " + i + " at " + latitude + "," + longitude + " within " + radiusKm + " km");
+        }
+    }
+
+    @Test
+    void lateAvailabilityEventDoesNotOverwriteNewerCount() {
+        Shelter shelter = shelterRepository.save(newShelter("Busy", 10));
+        index.onShelterChanged(ShelterChangedEvent.saved(shelter));
+        assertTrue(bedInventory.tryReserve(shelter.getId(), 1));
+        assertTrue(bedInventory.tryReserve(shelter.getId(), 1));
+
+        index.onShelterChanged(ShelterChangedEvent.availabilityChanged(shelter.getId(), 8));
+        index.onShelterChanged(ShelterChangedEvent.availabilityChanged(shelter.getId(), 9)); // First claim's, delivered last
+
+        assertEquals(8, find(shelter.getId()).getCurrentAvailability());
+    }
+
+    @Test
+    void lookupsDuringRebuildSeeTheOldGridAndChangesAreKept() {
+        Shelter kept = shelterRepository.save(newShelter("Kept", 5));
+        Shelter deleted = shelterRepository.save(newShelter("Deleted", 5));
+        index.rebuild(() -> List.of(kept, deleted));
+        Shelter[] added = new Shelter[1];
+
+        index.rebuild(() -> {
+            assertEquals(List.of(kept.getId(), deleted.getId()), nearbyIds());
+            // Committed after the snapshot was read, delivered before the rebuild finishes
+            added[0] = shelterRepository.save(newShelter("Added", 5));
+            index.onShelterChanged(ShelterChangedEvent.saved(added[0]));
+            shelterRepository.deleteById(deleted.getId());
+            index.onShelterChanged(ShelterChangedEvent.deleted(deleted.getId()));
+            return List.of(kept, deleted);
+        });
+
+        assertEquals(List.of(kept.getId(), added[0].getId()), nearbyIds());
+    }
+
+    private NearbyShelterDto find(Long shelterId) {
+        return index.findNearest(SAN_JOSE_LAT, SAN_JOSE_LON, 50, 100, 0, null, null, null).stream()
+                .filter(dto -> dto.getId().equals(shelterId))
+                .findFirst().orElseThrow();
+    }
+
+    // The fixtures all sit on one point, so ties come back in no particular order
+    private List<Long> nearbyIds() {
+        return index.findNearest(SAN_JOSE_LAT, SAN_JOSE_LON, 50, 100, 0, null, null, null).stream()
+                .map(NearbyShelterDto::getId).sorted().toList();
+    }
+
+    private static double distance(Shelter shelter, double latitude, double longitude) {
+        return ShelterSpatialIndex.distanceKm(latitude, longitude, shelter.getLatitude(), shelter.getLongitude());
+    }
+
+    // Never stored: ids well clear of the generated ones, so nothing live overrides their counts
+    private static Shelter detached(Long id, double latitude, double longitude) {
+        Shelter shelter = newShelter("Shelter " + id, 5);
+        shelter.setId(id);
+        shelter.setLatitude(latitude);
+        shelter.setLongitude(longitude);
+        return shelter;
+    }
+}
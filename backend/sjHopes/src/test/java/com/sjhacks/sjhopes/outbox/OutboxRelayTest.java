@@ -0,0 +1,112 @@
+package com.sjhacks.sjhopes.outbox;
+
+import com.sjhacks.sjhopes.index.UpcomingTaskIndex;
+import com.sjhacks.sjhopes.models.dto.OutboxEventDto;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.OutboxAggregateType;
+import com.sjhacks.sjhopes.service.TaskService;
+import com.sjhacks.sjhopes.service.TaskServiceImpl;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The scheduled pass is pushed out of the way so the test drives relay() itself
+@DataJpaTest(properties = "sjhopes.outbox.relay-interval-ms=3600000")
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({OutboxRelay.class, OutboxWriter.class, TaskServiceImpl.class, UpcomingTaskIndex.class,
+        SyncClock.class, OutboxRelayTest.RecordingConsumer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Each mutation commits its outbox row
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private RecordingConsumer consumer;
+
+    @Test
+    void deliversInSequenceRedeliversAfterFailureAndReplaysAfterReset() {
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            taskIds.add(taskService.createTask(newTask("Task " + i)).getId());
+        }
+
+        consumer.failNext = true;
+        relay.relay();
+        assertTrue(consumer.received.isEmpty()); // Offset stays put, nothing is skipped
+
+        relay.relay();
+        assertEquals(taskIds, aggregateIds(consumer.received));
+        assertInSequence(consumer.received, 1);
+        assertEquals(2, consumer.calls); // The failed batch came round again
+
+        relay.relay();
+        assertEquals(3, consumer.received.size()); // Nothing new to deliver
+
+        relay.resetOffset(RecordingConsumer.NAME, 1);
+        consumer.received.clear();
+        relay.relay();
+        assertEquals(taskIds.subList(1, 3), aggregateIds(consumer.received));
+        assertInSequence(consumer.received, 2);
+    }
+
+    private static void assertInSequence(List<OutboxEventDto> events, long first) {
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(first + i, events.get(i).getSequence());
+            assertEquals(OutboxAggregateType.TASK, events.get(i).getAggregateType());
+            assertEquals("CREATED", events.get(i).getEventType());
+        }
+    }
+
+    private static List<Long> aggregateIds(List<OutboxEventDto> events) {
+        return events.stream().map(OutboxEventDto::getAggregateId).toList();
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setLocation("St James Park");
+        return task;
+    }
+
+    static class RecordingConsumer implements OutboxConsumer {
+
+        static final String NAME = "recording";
+
+        final List<OutboxEventDto> received = new ArrayList<>();
+        boolean failNext;
+        int calls;
+
+        @Override
+        public String consumerName() {
+            return NAME;
+        }
+
+        @Override
+        public void accept(List<OutboxEventDto> events) {
+            calls++;
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("Consumer unavailable");
+            }
+            received.addAll(events);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sjhacks.sjhopes.placement;
+
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Assignment;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Plan;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Seeker;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Site;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Plans a county-sized batch (10k seeking clients over 1k shelters) and holds it to the 1 s
+// budget the admin endpoint runs under. Run with: ./gradlew benchmark
+// Sizes can be changed with -Dbenchmark.clients / -Dbenchmark.shelters
+@Tag("benchmark")
+class PlacementPlannerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PlacementPlannerBenchmarkTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 10_000);
+    private static final int SHELTERS = Integer.getInteger("benchmark.shelters", 1_000);
+    private static final long BUDGET_MS = 1000;
+
+    @Test
+    void plansAFullCountyWithinBudget() {
+        Random random = new Random(42);
+        List<Site> sites = sites(random);
+        List<Seeker> seekers = seekers(random);
+        PlacementPlanner planner = new PlacementPlanner(80, 15);
+
+        planner.plan(seekers, sites); // Warm-up, so the timed run isn't measuring the JIT
+
+        long started = System.nanoTime();
+        Plan plan = planner.plan(seekers, sites);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        log.info("PLACEMENT {} clients x {} shelters: {} placed, {} unplaced in {} ms",
+                CLIENTS, SHELTERS, plan.assignments().size(), plan.unplacedClientIds().size(), elapsedMs);
+        assertValid(plan, seekers, sites);
+        assertTrue(elapsedMs < BUDGET_MS, "Planning took " + elapsedMs + " ms");
+    }
+
+    // Every client exactly once, no shelter over its beds, no house rule broken
+    private static void assertValid(Plan plan, List<Seeker> seekers, List<Site> sites) {
+        Map<Long, Seeker> seekersById = new HashMap<>();
+        seekers.forEach(seeker -> seekersById.put(seeker.clientId(), seeker));
+        Map<Long, Site> sitesById = new HashMap<>();
+        sites.forEach(site -> sitesById.put(site.shelterId(), site));
+
+        Set<Long> seen = new HashSet<>(plan.unplacedClientIds());
+        Map<Long, Integer> used = new HashMap<>();
+        for (Assignment assignment : plan.assignments()) {
+            assertTrue(seen.add(assignment.clientId()), "Client placed twice: " + assignment.clientId());
+            Seeker seeker = seekersById.get(assignment.clientId());
+            Site site = sitesById.get(assignment.shelterId());
+            assertTrue(!seeker.hasPet() || site.allowsPets());
+            assertTrue(!seeker.hasPartner() || site.allowsPartner());
+            assertTrue(assignment.distanceKm() == null || assignment.distanceKm() <= 81); // Ranking uses a flat-earth estimate
+            used.merge(site.shelterId(), 1, Integer::sum);
+        }
+        assertEquals(seekers.size(), seen.size());
+        used.forEach((shelterId, beds) -> assertTrue(beds <= sitesById.get(shelterId).beds(), "Overfilled " + shelterId));
+    }
+
+    // Spread over roughly 100 x 100 km around San Jose, a few hundred beds short of one per client
+    private static List<Site> sites(Random random) {
+        ShelterType[] types = ShelterType.values();
+        List<Site> sites = new ArrayList<>(SHELTERS);
+        for (int i = 0; i < SHELTERS; i++) {
+            sites.add(new Site(i + 1, types[random.nextInt(types.length)], random.nextInt(3) == 0,
+                    random.nextInt(4) == 0, 37.34 + (random.nextDouble() - 0.5) * 0.9,
+                    -121.89 + (random.nextDouble() - 0.5) * 1.1, random.nextInt(2 * CLIENTS / SHELTERS)));
+        }
+        return sites;
+    }
+
+    // A third without a known location, one in five with a pet, one in ten with a partner
+    private static List<Seeker> seekers(Random random) {
+        ShelterType[] types = ShelterType.values();
+        List<Seeker> seekers = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            boolean located = random.nextInt(3) != 0;
+            seekers.add(new Seeker(i + 1, random.nextInt(5) == 0, random.nextInt(10) == 0,
+                    random.nextBoolean() ? types[random.nextInt(types.length)] : null,
+                    located ? 37.34 + (random.nextDouble() - 0.5) * 0.9 : null,
+                    located ? -121.89 + (random.nextDouble() - 0.5) * 1.1 : null));
+        }
+        return seekers;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sjhacks.sjhopes.placement;
+
+import com.sjhacks.sjhopes.models.enums.ShelterType;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Assignment;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Plan;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Seeker;
+import com.sjhacks.sjhopes.placement.PlacementPlanner.Site;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Shelters and clients sit on one line of longitude; 0.01 degrees of latitude is about 1.1 km
+class PlacementPlannerTest {
+
+    private static final double LONGITUDE = -121.89;
+
+    private final PlacementPlanner planner = new PlacementPlanner(10, 15);
+
+    @Test
+    void respectsCapacityAndHouseRules() {
+        List<Site> sites = List.of(
+                new Site(100, ShelterType.CONGREGATE, true, false, 37.0, LONGITUDE, 1),
+                new Site(200, ShelterType.CONGREGATE, false, false, 37.0, LONGITUDE, 2));
+        List<Seeker> seekers = List.of(
+                seeker(1, true, false, null),
+                seeker(2, false, true, null), // Neither shelter takes partners
+                seeker(3, false, false, null),
+                seeker(4, false, false, null),
+                seeker(5, false, false, null)); // One more than there are beds
+
+        Plan plan = planner.plan(seekers, sites);
+
+        Map<Long, Long> placed = shelterByClient(plan);
+        assertEquals(100L, placed.get(1L));
+        assertEquals(200L, placed.get(3L));
+        assertEquals(200L, placed.get(4L));
+        assertEquals(List.of(2L, 5L), plan.unplacedClientIds());
+    }
+
+    @Test
+    void mostConstrainedClientGetsTheOnlyBedItCanUse() {
+        List<Site> sites = List.of(
+                new Site(100, ShelterType.CONGREGATE, true, false, 37.0, LONGITUDE, 1),
+                new Site(200, ShelterType.CONGREGATE, false, false, 37.05, LONGITUDE, 1));
+        // Client 1 registered first and is right next to the pet-friendly shelter
+        List<Seeker> seekers = List.of(
+                seeker(1, false, false, 37.0),
+                seeker(2, true, false, 37.0));
+
+        Map<Long, Long> placed = shelterByClient(planner.plan(seekers, sites));
+
+        assertEquals(Map.of(1L, 200L, 2L, 100L), placed);
+    }
+
+    // Greedy seats a at X, leaving b (whose only other option W went to c) with nothing;
+    // repair moves a on to Y so b can have X
+    @Test
+    void repairMovesAnOccupantToFreeABed() {
+        List<Site> sites = List.of(
+                new Site(10, ShelterType.CONGREGATE, false, false, 37.0, LONGITUDE, 1),   // X
+                new Site(20, ShelterType.CONGREGATE, false, false, 37.07, LONGITUDE, 1),  // Y
+                new Site(30, ShelterType.CONGREGATE, true, false, 36.92, LONGITUDE, 1));  // W
+        List<Seeker> seekers = List.of(
+                seeker(1, false, false, 37.02),  // a: X or Y
+                seeker(2, false, false, 36.97),  // b: X or W
+                seeker(3, true, false, 36.92));  // c: W only
+
+        Plan plan = planner.plan(seekers, sites);
+
+        assertEquals(Map.of(1L, 20L, 2L, 10L, 3L, 30L), shelterByClient(plan));
+        assertTrue(plan.unplacedClientIds().isEmpty());
+    }
+
+    @Test
+    void preferredTypeOutweighsAShortDistance() {
+        List<Site> sites = List.of(
+                new Site(100, ShelterType.CONGREGATE, false, false, 37.0, LONGITUDE, 5),
+                new Site(200, ShelterType.TINY_HOME, false, false, 37.05, LONGITUDE, 5));
+        Seeker seeker = new Seeker(1, false, false, ShelterType.TINY_HOME, 37.0, LONGITUDE);
+
+        Assignment assignment = planner.plan(List.of(seeker), sites).assignments().get(0);
+
+        assertEquals(200L, assignment.shelterId()); // 5.5 km beats 0 km + the 15 km penalty
+        assertTrue(assignment.preferredTypeMatched());
+        assertEquals(5.56, assignment.distanceKm(), 0.1);
+    }
+
+    @Test
+    void sheltersBeyondMaxDistanceAreNotOffered() {
+        List<Site> sites = List.of(new Site(100, ShelterType.CONGREGATE, false, false, 37.0, LONGITUDE, 5));
+
+        Plan plan = planner.plan(List.of(seeker(1, false, false, 37.2)), sites); // About 22 km away
+
+        assertTrue(plan.assignments().isEmpty());
+        assertEquals(List.of(1L), plan.unplacedClientIds());
+    }
+
+    private static Seeker seeker(long clientId, boolean hasPet, boolean hasPartner, Double latitude) {
+        return new Seeker(clientId, hasPet, hasPartner, null, latitude, latitude != null ? LONGITUDE : null);
+    }
+
+    private static Map<Long, Long> shelterByClient(Plan plan) {
+        return plan.assignments().stream().collect(Collectors.toMap(Assignment::clientId, Assignment::shelterId));
+    }
+}
@@ -0,0 +1,99 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.mapper.ClientMapper;
+import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.util.KeysetCursor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// Regression test for the client listing N+1: mapping a client reads its LAZY currentShelter,
+// so the listing queries must bring the shelter along in the same statement.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ClientRepositoryTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Shelter> shelters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < 4; i++) {
+            shelters.add(entityManager.persist(newShelter("Shelter " + i, 50)));
+        }
+    }
+
+    @Test
+    void findAllWithShelterUsesOneStatementRegardlessOfClientCount() {
+        addClients(5);
+        long fewClients = countStatements(() -> clientRepository.findAllWithShelter());
+
+        addClients(60);
+        long manyClients = countStatements(() -> clientRepository.findAllWithShelter());
+
+        assertEquals(1, fewClients);
+        assertEquals(fewClients, manyClients);
+    }
+
+    @Test
+    void findPageByIdUsesOneStatement() {
+        addClients(30);
+        long statements = countStatements(() ->
+                clientRepository.findPageById(0L, KeysetCursor.fetchLimit(20)));
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void findWithShelterByIdUsesOneStatement() {
+        addClients(1);
+        Long id = clientRepository.findAll().get(0).getId();
+        long statements = countStatements(() -> List.of(clientRepository.findWithShelterById(id).orElseThrow()));
+        assertEquals(1, statements);
+    }
+
+    // Runs the query on a cleared persistence context, maps every row like the controller does,
+    // and returns how many JDBC statements that took
+    private long countStatements(Supplier<List<Client>> query) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        query.get().forEach(client -> assertNotNull(ClientMapper.mapToResponseDTO(client)));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addClients(int count) {
+        for (int i = 0; i < count; i++) {
+            Client client = new Client();
+            client.setName("Client " + i);
+            client.setStatus(ClientStatus.SHELTERED);
+            client.setCurrentShelter(shelters.get(i % shelters.size()));
+            entityManager.persist(client);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.sjhacks.sjhopes.repository;
+
+import com.sjhacks.sjhopes.models.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Nothing may draw from tasks_seq before the test: a block already handed to Hibernate isn't re-read
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(IdSequenceAligner.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // The IDENTITY-era rows must be committed
+class IdSequenceAlignerTest {
+
+    @Autowired
+    private IdSequenceAligner aligner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void pooledIdsStartAboveRowsWrittenBeforeTheSequence() {
+        // As IDENTITY left them: low ids, written straight to the table
+        for (long id : new long[]{1, 2, 120}) {
+            jdbcTemplate.update("INSERT INTO tasks (id, title, status, last_updated) VALUES (?, ?, 'OPEN', CURRENT_TIMESTAMP)",
+                    id, "Legacy task " + id);
+        }
+
+        aligner.align();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) { // More than one pooled block
+            Task task = new Task();
+            task.setTitle("Imported task " + i);
+            tasks.add(task);
+        }
+        List<Task> saved = taskRepository.saveAll(tasks);
+
+        saved.forEach(task -> assertTrue(task.getId() > 120, "Reused id " + task.getId()));
+        assertEquals(63, taskRepository.count());
+    }
+}
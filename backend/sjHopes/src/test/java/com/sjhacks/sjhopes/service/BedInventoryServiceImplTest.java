@@ -0,0 +1,171 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.ClientStatus;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.sjhacks.sjhopes.TestFixtures.newClient;
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BedInventoryServiceImpl.class, SyncClock.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Reservations commit on their own
+class BedInventoryServiceImplTest {
+
+    private static final int CAPACITY = 10;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void rolledBackClaimIsGivenBack() {
+        Long shelterId = shelterRepository.save(newShelter("Rollback", CAPACITY)).getId();
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            assertTrue(bedInventory.tryReserve(shelterId, 3));
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertEquals(CAPACITY, bedInventory.getAvailability(shelterId).getAsInt());
+    }
+
+    // A read-write transaction that reads a shelter with its live count must not write that count
+    // back over a newer one the write-behind stored in the meantime
+    @Test
+    void overlaidCountIsNotWrittenBackAtCommit() {
+        Long shelterId = shelterRepository.save(newShelter("Overlay", CAPACITY)).getId();
+        assertTrue(bedInventory.tryReserve(shelterId, 2)); // Not written back yet
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Shelter shelter = shelterRepository.findById(shelterId).orElseThrow();
+            bedInventory.overlay(shelter);
+            assertEquals(CAPACITY - 2, shelter.getCurrentAvailability());
+            assertTrue(bedInventory.tryReserve(shelterId, 1));
+            bedInventory.flush(); // Commits CAPACITY - 3 on its own
+        });
+
+        assertEquals(CAPACITY - 3, shelterRepository.findAvailabilityById(shelterId).orElseThrow());
+    }
+
+    // Both the cached entity and a cached aggregate query have to show the written-back count
+    @Test
+    void writeBehindIsVisibleThroughTheSecondLevelCache() {
+        Long shelterId = shelterRepository.save(newShelter("Cached", CAPACITY)).getId();
+        long activeBeds = shelterRepository.getCurrentActiveAvailability(); // Cached from here on
+        assertEquals(CAPACITY, shelterRepository.findById(shelterId).orElseThrow().getCurrentAvailability());
+
+        assertTrue(bedInventory.tryReserve(shelterId, 2));
+        bedInventory.flush();
+
+        assertEquals(CAPACITY - 2, shelterRepository.findById(shelterId).orElseThrow().getCurrentAvailability());
+        assertEquals(activeBeds - 2, shelterRepository.getCurrentActiveAvailability());
+    }
+
+    // Only the shelters a flush wrote leave the entity cache; every other shelter stays cached
+    @Test
+    void writeBehindEvictsOnlyTheSheltersItWrote() {
+        Long written = shelterRepository.save(newShelter("Written", CAPACITY)).getId();
+        Long untouched = shelterRepository.save(newShelter("Untouched", CAPACITY)).getId();
+        shelterRepository.findById(written);
+        shelterRepository.findById(untouched);
+        assertTrue(entityManagerFactory.getCache().contains(Shelter.class, untouched));
+
+        assertTrue(bedInventory.tryReserve(written, 1));
+        bedInventory.flush();
+
+        assertFalse(entityManagerFactory.getCache().contains(Shelter.class, written));
+        assertTrue(entityManagerFactory.getCache().contains(Shelter.class, untouched));
+    }
+
+    // A reservation claims its bed while the pass runs and links the client only afterwards. The
+    // pass must neither count the claim twice nor drop it; the next pass sees the committed link.
+    @Test
+    void reservationDuringReconciliationIsKept() throws Exception {
+        Shelter shelter = shelterRepository.save(newShelter("Reconcile", CAPACITY));
+        Long shelterId = shelter.getId();
+        for (int i = 0; i < 3; i++) {
+            clientRepository.save(sheltered("Resident " + i, shelter)); // Stored count misses these three
+        }
+        assertTrue(bedInventory.tryReserve(shelterId, 1)); // Live slot, unrelated drift of one more
+        bedInventory.release(shelterId, 1);
+
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch linkMayCommit = new CountDownLatch(1);
+        CompletableFuture<Void> reservation = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    assertTrue(bedInventory.tryReserve(shelterId, 1));
+                    clientRepository.save(sheltered("Walk-in", shelter));
+                    claimed.countDown();
+                    await(linkMayCommit);
+                    return null;
+                }));
+
+        Map<Long, Integer> firstPass = bedInventory.reconcile(() -> {
+            await(claimed);
+            return shelterRepository.findAvailabilityDrift();
+        });
+        linkMayCommit.countDown();
+        reservation.get(10, TimeUnit.SECONDS);
+
+        assertFalse(firstPass.containsKey(shelterId)); // Claim in flight, shelter left alone
+        assertEquals(CAPACITY - 1, bedInventory.getAvailability(shelterId).getAsInt());
+
+        Map<Long, Integer> secondPass = bedInventory.reconcile(shelterRepository::findAvailabilityDrift);
+
+        assertEquals(CAPACITY - 4, secondPass.get(shelterId)); // Three residents and the walk-in
+        assertEquals(CAPACITY - 4, bedInventory.getAvailability(shelterId).getAsInt());
+        assertEquals(CAPACITY - 4, shelterRepository.findAvailabilityById(shelterId).orElseThrow());
+        assertTrue(bedInventory.reconcile(shelterRepository::findAvailabilityDrift).isEmpty());
+    }
+
+    private static Client sheltered(String name, Shelter shelter) {
+        Client client = newClient(name);
+        client.setStatus(ClientStatus.SHELTERED);
+        client.setCurrentShelter(shelter);
+        return client;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
+
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Fires N parallel reservations at one shelter and reports throughput, p99 latency and
+// oversell for each way of claiming a bed. Run with: ./gradlew benchmark
+// Sizes can be changed with -Dbenchmark.requests / -Dbenchmark.threads / -Dbenchmark.beds
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({BedInventoryServiceImpl.class, SyncClock.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Every claim commits on its own
+class ReservationContentionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationContentionBenchmarkTest.class);
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int BEDS = Integer.getInteger("benchmark.beds", 500);
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private BedInventoryService bedInventory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // The pre-existing path as it was: load, check in Java, save the whole entity. Nothing stops two
+    // requests reading the same count, so oversold and lostUpdates are reported, not asserted -
+    // they are the race the other modes fix.
+    @Test
+    void readModifyWrite() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        run("READ_MODIFY_WRITE", shelterId -> Boolean.TRUE.equals(tx.execute(status -> {
+            Shelter shelter = shelterRepository.findById(shelterId).orElseThrow();
+            if (shelter.getCurrentAvailability() > 0) {
+                shelter.setCurrentAvailability(shelter.getCurrentAvailability() - 1);
+                shelterRepository.save(shelter);
+                return true;
+            }
+            return false;
+        })));
+    }
+
+    // The same path with the row lock it needs to be correct - the baseline the single-statement
+    // claims are measured against
+    @Test
+    void lockedReadModifyWrite() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Result result = run("LOCKED_READ_MODIFY_WRITE", shelterId -> Boolean.TRUE.equals(tx.execute(status -> {
+            Shelter shelter = entityManager.find(Shelter.class, shelterId, LockModeType.PESSIMISTIC_WRITE);
+            if (shelter.getCurrentAvailability() > 0) {
+                shelter.setCurrentAvailability(shelter.getCurrentAvailability() - 1);
+                shelterRepository.save(shelter);
+                return true;
+            }
+            return false;
+        })));
+        assertSoldExactly(result);
+    }
+
+    @Test
+    void conditionalUpdate() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Result result = run("CONDITIONAL_UPDATE",
+                shelterId -> Boolean.TRUE.equals(tx.execute(status -> shelterRepository.claimBeds(shelterId, 1, LocalDateTime.now()) == 1)));
+        assertSoldExactly(result);
+    }
+
+    @Test
+    void inMemory() throws Exception {
+        Result result = run("IN_MEMORY", shelterId -> bedInventory.tryReserve(shelterId, 1));
+        assertSoldExactly(result);
+    }
+
+    // More requests than beds: every bed goes, none twice, and the row agrees with the grants
+    private static void assertSoldExactly(Result result) {
+        assertEquals(BEDS, result.successes);
+        assertEquals(0, result.oversold);
+        assertEquals(0, result.lostUpdates);
+    }
+
+    private Result run(String mode, LongPredicate claim) throws Exception {
+        Long shelterId = shelterRepository.save(newShelter("Benchmark " + mode, BEDS)).getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[REQUESTS];
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            int slot = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                try {
+                    if (claim.test(shelterId)) {
+                        successes.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet(); // e.g. lock timeouts under the read-modify-write path
+                }
+                latencies[slot] = System.nanoTime() - begin;
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        bedInventory.flush();
+        int finalAvailability = shelterRepository.findById(shelterId).orElseThrow().getCurrentAvailability();
+
+        Result result = new Result();
+        result.successes = successes.get();
+        result.oversold = Math.max(0, result.successes - BEDS);
+        result.lostUpdates = Math.abs((BEDS - result.successes) - finalAvailability);
+
+        Arrays.sort(latencies);
+        double throughput = REQUESTS / (elapsed / 1_000_000_000.0);
+        double p99Millis = latencies[(int) Math.ceil(REQUESTS * 0.99) - 1] / 1_000_000.0;
+        log.info(String.format("%-24s requests=%d threads=%d beds=%d -> %.0f req/s, p99=%.2f ms, granted=%d, oversold=%d, lostUpdates=%d, errors=%d",
+                mode, REQUESTS, THREADS, BEDS, throughput, p99Millis, result.successes, result.oversold, result.lostUpdates, errors.get()));
+        return result;
+    }
+
+    private static class Result {
+        int successes;
+        int oversold;
+        int lostUpdates;
+    }
+}
@@ -0,0 +1,94 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.BulkImportResultDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+// saveShelters is passed straight to the repository; clamping and events are ResourceService's business
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import(ShelterImportServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Each chunk commits on its own
+class ShelterImportServiceImplTest {
+
+    private static final String HEADER = "name,addressLine1,city,state,zipCode,latitude,longitude,totalCapacity,currentAvailability,shelterType\n";
+
+    @Autowired
+    private ShelterImportService importService;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @MockitoBean
+    private ResourceService resourceService;
+
+    @BeforeEach
+    void setUp() {
+        shelterRepository.deleteAll();
+        when(resourceService.saveShelters(anyList()))
+                .thenAnswer(invocation -> shelterRepository.saveAll(invocation.<List<Shelter>>getArgument(0)));
+    }
+
+    @Test
+    void matchesExistingShelterIgnoringCaseAndInnerWhitespace() throws IOException {
+        Long existingId = shelterRepository.save(newShelter("Hope  House", 10)).getId(); // Two spaces, as typed
+
+        BulkImportResultDto result = importCsv(row("hope house", "1   TEST st", 25));
+
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, shelterRepository.count());
+        assertEquals(25, shelterRepository.findById(existingId).orElseThrow().getTotalCapacity());
+    }
+
+    @Test
+    void everyRowIsCountedOnce() throws IOException {
+        BulkImportResultDto result = importCsv(
+                row("North", "1 Test St", 10),
+                row("NORTH", "1 Test St", 12), // Same shelter again, this one wins
+                row("South", "2 Test St", 8),
+                "Broken,3 Test St,San Jose,CA,95112,37.3,-121.8,5,5,NOT_A_TYPE\n");
+
+        assertEquals(4, result.getTotalRows());
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getFailed());
+        assertEquals(result.getTotalRows(), result.getCreated() + result.getUpdated() + result.getFailed());
+        assertEquals(2, shelterRepository.count());
+        Shelter north = shelterRepository.findAll().stream()
+                .filter(shelter -> shelter.getName().equalsIgnoreCase("north")).findFirst().orElseThrow();
+        assertEquals(12, north.getTotalCapacity());
+    }
+
+    private BulkImportResultDto importCsv(String... rows) throws IOException {
+        String csv = HEADER + String.join("", rows);
+        return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String row(String name, String addressLine1, int beds) {
+        return name + "," + addressLine1 + ",San Jose,CA,95112,37.3382,-121.8863," + beds + "," + beds + ",CONGREGATE\n";
+    }
+}
@@ -0,0 +1,125 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.SyncChangesDto;
+import com.sjhacks.sjhopes.models.dto.TaskResponseDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import com.sjhacks.sjhopes.repository.ShelterRepository;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// No fixed lag, so anything that isn't skipped is down to SyncClock holding back open stamps
+@DataJpaTest(properties = "sjhopes.sync.safety-lag-ms=0")
+@ActiveProfiles("test")
+@Import({SyncServiceImpl.class, SyncClock.class, BedInventoryServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Writes commit before each sync
+class SyncServiceImplTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private SyncClock syncClock;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // The transition is stamped early and commits late; a sync in between must not move past it
+    @Test
+    void bulkUpdateInLongTransactionIsNotSkipped() throws Exception {
+        Long slowId = taskRepository.save(newTask("Slow")).getId();
+        String watermark = syncService.getChanges(null, 100).getWatermark();
+
+        CountDownLatch stamped = new CountDownLatch(1);
+        CountDownLatch mayCommit = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    taskRepository.transition(slowId, TaskStatus.OPEN, TaskStatus.ASSIGNED, null, syncClock.stamp());
+                    stamped.countDown();
+                    await(mayCommit);
+                    return null;
+                }));
+        assertTrue(stamped.await(10, TimeUnit.SECONDS));
+        Thread.sleep(5); // The next write is stamped strictly later
+        Long quickId = taskRepository.save(newTask("Quick")).getId();
+
+        SyncChangesDto during = syncService.getChanges(watermark, 100);
+        assertTrue(tasksById(during).isEmpty()); // Held back, including the later committed write
+
+        mayCommit.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+        SyncChangesDto after = syncService.getChanges(during.getWatermark(), 100);
+
+        Map<Long, TaskStatus> tasks = tasksById(after);
+        assertEquals(TaskStatus.ASSIGNED, tasks.get(slowId));
+        assertEquals(TaskStatus.OPEN, tasks.get(quickId));
+    }
+
+    @Test
+    void bulkUpdatesAreStampedFromSyncClock() {
+        Long shelterId = shelterRepository.save(newShelter("Stamped", 5)).getId();
+        LocalDateTime stamp = syncClock.stamp();
+
+        new TransactionTemplate(transactionManager).execute(status -> shelterRepository.claimBeds(shelterId, 1, stamp));
+
+        Shelter shelter = shelterRepository.findById(shelterId).orElseThrow();
+        assertEquals(stamp, shelter.getLastUpdated());
+        assertEquals(4, shelter.getCurrentAvailability());
+    }
+
+    @Test
+    void stampOutsideTransactionDoesNotHoldSyncBack() {
+        LocalDateTime stamp = syncClock.stamp();
+        assertFalse(syncClock.safeUpTo(0).isBefore(stamp));
+    }
+
+    private static Map<Long, TaskStatus> tasksById(SyncChangesDto changes) {
+        List<TaskResponseDto> tasks = changes.getTasks();
+        return tasks.stream().collect(Collectors.toMap(TaskResponseDto::getId, TaskResponseDto::getStatus));
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setLocation("St James Park");
+        return task;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
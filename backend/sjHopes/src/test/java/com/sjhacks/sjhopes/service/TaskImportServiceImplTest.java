@@ -0,0 +1,117 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.BulkImportResultDto;
+import com.sjhacks.sjhopes.models.dto.ImportRowErrorDto;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Chunks of two, so a handful of rows spans several transactions
+@DataJpaTest(properties = "sjhopes.import.chunk-size=2")
+@ActiveProfiles("test")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import(TaskImportServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Each chunk commits on its own
+class TaskImportServiceImplTest {
+
+    private static final String HEADER = "title,location,estimatedDuration\n";
+
+    @Autowired
+    private TaskImportService importService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    // Row 4 passes validation but is too long for its column, so the database rejects its chunk
+    @Test
+    void failedChunkIsRolledBackWithoutTheOthers() throws IOException {
+        BulkImportResultDto result = importCsv(
+                "One,St James Park,2 hours\n",
+                "Two,St James Park,2 hours\n",
+                "Three,St James Park,2 hours\n",
+                "Four,St James Park," + "x".repeat(300) + "\n",
+                "Five,St James Park,2 hours\n");
+
+        assertEquals(5, result.getTotalRows());
+        assertEquals(3, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(3L, 4L), result.getErrors().stream().map(ImportRowErrorDto::getRow).toList());
+        result.getErrors().forEach(error -> assertTrue(error.getMessage().startsWith("Not saved, batch failed"), error.getMessage()));
+        assertEquals(List.of("Five", "One", "Two"), titles());
+    }
+
+    @Test
+    void invalidRowsAreReportedByRowAndSkipped() throws IOException {
+        BulkImportResultDto result = importJson("""
+                [
+                  {"title": "Litter pick-up", "location": "St James Park"},
+                  {"title": " ", "location": "St James Park"},
+                  {"title": "Yesterday's shift", "taskDateTime": "2000-01-01T09:00:00"},
+                  {"title": "Someday", "taskDateTime": "next week"},
+                  {"title": "Call back", "taskContactPhone": "not a phone"},
+                  {"title": "Kitchen help", "location": "Community Center"}
+                ]""");
+
+        assertEquals(6, result.getTotalRows());
+        assertEquals(2, result.getCreated());
+        assertEquals(4, result.getFailed());
+        List<ImportRowErrorDto> errors = result.getErrors();
+        assertEquals(List.of(2L, 3L, 4L, 5L), errors.stream().map(ImportRowErrorDto::getRow).toList());
+        assertEquals("title: Task title cannot be blank", errors.get(0).getMessage());
+        assertEquals("taskDateTime: Task date/time must be now or in the future if provided", errors.get(1).getMessage());
+        assertTrue(errors.get(2).getMessage().startsWith("Unreadable task"), errors.get(2).getMessage());
+        assertEquals("taskContactPhone: Invalid phone number format", errors.get(3).getMessage());
+        assertEquals(List.of("Kitchen help", "Litter pick-up"), titles());
+    }
+
+    @Test
+    void malformedJsonKeepsTheRowsBeforeIt() throws IOException {
+        BulkImportResultDto result = importJson("""
+                [
+                  {"title": "Litter pick-up"},
+                  {"title": "Kitchen help"},
+                  {"title": "Cut off" """);
+
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Malformed JSON, import stopped here"));
+        assertEquals(List.of("Kitchen help", "Litter pick-up"), titles());
+    }
+
+    private BulkImportResultDto importCsv(String... rows) throws IOException {
+        String csv = HEADER + String.join("", rows);
+        return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private BulkImportResultDto importJson(String json) throws IOException {
+        return importService.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<String> titles() {
+        return taskRepository.findAll().stream().map(Task::getTitle).sorted().toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.index.UpcomingTaskIndex;
+import com.sjhacks.sjhopes.models.entity.Client;
+import com.sjhacks.sjhopes.models.entity.Task;
+import com.sjhacks.sjhopes.models.enums.TaskStatus;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import com.sjhacks.sjhopes.repository.TaskRepository;
+import com.sjhacks.sjhopes.sync.SyncClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskServiceImpl.class, UpcomingTaskIndex.class, SyncClock.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Each service call commits on its own
+class TaskServiceImplTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Test
+    void exactlyOneConcurrentAssignmentWins() throws Exception {
+        Long taskId = taskService.createTask(newTask()).getId();
+        List<Long> clientIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            clientIds.add(clientRepository.save(newClient("Client " + i)).getId());
+        }
+
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        clientIds.forEach(clientId -> attempts.add(() -> taskService.assignTask(taskId, clientId)));
+        AtomicInteger winnerIndex = new AtomicInteger(-1);
+        List<Boolean> results = runConcurrently(attempts);
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i)) winnerIndex.set(i);
+        }
+
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(TaskStatus.ASSIGNED, task.getStatus());
+        assertEquals(clientIds.get(winnerIndex.get()), task.getClientId());
+    }
+
+    @Test
+    void exactlyOneConcurrentCompletionWins() throws Exception {
+        Long taskId = taskService.createTask(newTask()).getId();
+        Long clientId = clientRepository.save(newClient("Worker")).getId();
+        assertTrue(taskService.assignTask(taskId, clientId));
+
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            attempts.add(() -> taskService.completeTask(taskId));
+        }
+
+        assertEquals(1, runConcurrently(attempts).stream().filter(Boolean::booleanValue).count());
+        assertEquals(TaskStatus.COMPLETED, taskRepository.findById(taskId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void transitionsFollowTheStateMachine() {
+        Long taskId = taskService.createTask(newTask()).getId();
+        Long clientId = clientRepository.save(newClient("Worker")).getId();
+
+        assertFalse(taskService.completeTask(taskId));       // OPEN can't be completed
+        assertTrue(taskService.assignTask(taskId, clientId));
+        assertFalse(taskService.assignTask(taskId, clientId)); // Already ASSIGNED
+        assertTrue(taskService.completeTask(taskId));
+        assertFalse(taskService.assignTask(taskId, clientId)); // COMPLETED is final
+        assertFalse(taskService.assignTask(-1L, clientId));    // Unknown task
+    }
+
+    private static List<Boolean> runConcurrently(List<Callable<Boolean>> attempts) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(attempts.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (Callable<Boolean> attempt : attempts) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return attempt.call();
+            }));
+        }
+        start.countDown();
+        List<Boolean> results = new ArrayList<>();
+        for (Future<Boolean> future : futures) {
+            results.add(future.get());
+        }
+        pool.shutdown();
+        return results;
+    }
+
+    private static Task newTask() {
+        Task task = new Task();
+        task.setTitle("Park cleanup");
+        task.setLocation("St James Park");
+        return task;
+    }
+
+    private static Client newClient(String name) {
+        Client client = new Client();
+        client.setName(name);
+        return client;
+    }
+}
@@ -0,0 +1,108 @@
+package com.sjhacks.sjhopes.service;
+
+import com.sjhacks.sjhopes.models.dto.WaitlistEntryDto;
+import com.sjhacks.sjhopes.models.dto.WaitlistRequestDto;
+import com.sjhacks.sjhopes.models.entity.Shelter;
+import com.sjhacks.sjhopes.models.enums.WaitlistStatus;
+import com.sjhacks.sjhopes.models.event.ShelterChangedEvent;
+import com.sjhacks.sjhopes.repository.ClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static com.sjhacks.sjhopes.TestFixtures.newClient;
+import static com.sjhacks.sjhopes.TestFixtures.newShelter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// The bed side is stubbed: these tests are about the queue and the entry rows, not the claim itself
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(WaitlistServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // The dispatcher thread must see committed rows
+class WaitlistServiceImplTest {
+
+    private static final Long SHELTER_ID = 7L;
+
+    @Autowired
+    private WaitlistServiceImpl waitlistService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @MockitoBean
+    private ResourceService resourceService;
+
+    @BeforeEach
+    void setUp() {
+        Shelter shelter = newShelter("Waitlisted", 1);
+        shelter.setId(SHELTER_ID);
+        when(resourceService.getShelterById(SHELTER_ID)).thenReturn(Optional.of(shelter));
+    }
+
+    @Test
+    void dispatchPlacesWaitingClient() {
+        when(resourceService.reserveShelterBed(eq(SHELTER_ID), anyLong())).thenReturn(true);
+
+        WaitlistEntryDto joined = waitlistService.join(request(clientRepository.save(newClient("Waiting")).getId()));
+
+        WaitlistEntryDto placed = awaitEntry(joined.getId(), entry -> entry.getStatus() == WaitlistStatus.PLACED);
+        assertEquals(SHELTER_ID, placed.getPlacedShelterId());
+        assertNull(placed.getPosition());
+    }
+
+    @Test
+    void failedDispatchKeepsTicketInLine() {
+        Long clientId = clientRepository.save(newClient("Unlucky")).getId();
+        when(resourceService.reserveShelterBed(SHELTER_ID, clientId))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(true);
+
+        WaitlistEntryDto joined = waitlistService.join(request(clientId));
+        verify(resourceService, timeout(5000)).reserveShelterBed(SHELTER_ID, clientId);
+
+        // Rolled back: still WAITING and back at the head of the queue, so the next pass finds it
+        WaitlistEntryDto requeued = awaitEntry(joined.getId(), entry -> entry.getPosition() != null);
+        assertEquals(WaitlistStatus.WAITING, requeued.getStatus());
+        assertEquals(1, requeued.getPosition());
+        waitlistService.onShelterChanged(ShelterChangedEvent.availabilityChanged(SHELTER_ID, 1));
+
+        awaitEntry(joined.getId(), entry -> entry.getStatus() == WaitlistStatus.PLACED);
+        verify(resourceService, times(2)).reserveShelterBed(SHELTER_ID, clientId);
+    }
+
+    // Dispatch runs on its own thread; polls until the entry gets there
+    private WaitlistEntryDto awaitEntry(Long entryId, Predicate<WaitlistEntryDto> condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        WaitlistEntryDto current = waitlistService.getEntry(entryId).orElseThrow();
+        while (!condition.test(current) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+            current = waitlistService.getEntry(entryId).orElseThrow();
+        }
+        assertTrue(condition.test(current), "Entry " + entryId + " never got there: " + current);
+        return current;
+    }
+
+    private static WaitlistRequestDto request(Long clientId) {
+        WaitlistRequestDto request = new WaitlistRequestDto();
+        request.setClientId(clientId);
+        request.setShelterId(SHELTER_ID);
+        return request;
+    }
+}
@@ -0,0 +1,9 @@
+-- Load after clients.sql. Plain UTF-8 bodies (compressed = FALSE); the app compresses large notes itself.
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (1, '2025-04-27 03:54:50.000000', NULL, FALSE, 'Placed at Rue Ferrari. Actively seeking work opportunities. Good feedback on park maintenance task.');
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (2, '2025-04-27 03:54:50.000000', NULL, FALSE, 'Placed at LifeMoves Villa. Needs assistance with event support tasks. Attended resume workshop.');
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (3, '2025-04-27 03:54:50.000000', NULL, FALSE, 'Staying at BRC. Reliable for warehouse/stocking tasks. Follow up on job application support.');
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (4, '2025-04-27 03:54:50.000000', NULL, FALSE, 'New intake via Here4You hotline. Needs assessment. Interested in pet-friendly options if possible.');
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (5, '2025-04-27 03:54:50.000000', NULL, FALSE, 'Currently unsheltered, staying near downtown. Expressed interest in safe parking if available.');
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (6, '2025-04-18 17:00:00.000000', NULL, FALSE, 'Previously at Shelter ID 4 (CityTeam). Left program, current whereabouts unknown. Marked inactive.');
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (7, '2025-04-27 03:54:50.000000', NULL, FALSE, 'Just placed at Julian Street Navigation Center. Needs initial assessment and connection to services.');
+INSERT INTO sjhopes.client_notes (client_id, created_at, author, compressed, body) VALUES (8, '2025-04-27 12:10:01.601504', NULL, FALSE, 'Currently unsheltered, staying near downtown. Expressed interest in safe parking if available.');
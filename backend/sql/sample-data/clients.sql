@@ -1,8 +1,9 @@
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('Placed at Rue Ferrari. Actively seeking work opportunities. Good feedback on park maintenance task.', '2025-04-27 03:54:50.000000', 'John D.', '2025-04-15 10:00:00.000000', 'SHELTERED', 8);
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('Placed at LifeMoves Villa. Needs assistance with event support tasks. Attended resume workshop.', '2025-04-27 03:54:50.000000', 'Maria S.', '2025-04-20 14:30:00.000000', 'SHELTERED', 23);
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('Staying at BRC. Reliable for warehouse/stocking tasks. Follow up on job application support.', '2025-04-27 03:54:50.000000', 'Robert P.', '2025-04-22 09:15:00.000000', 'SHELTERED', 1);
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('New intake via Here4You hotline. Needs assessment. Interested in pet-friendly options if possible.', '2025-04-27 03:54:50.000000', 'Anita K.', '2025-04-25 11:00:00.000000', 'SEEKING_PLACEMENT', null);
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('Currently unsheltered, staying near downtown. Expressed interest in safe parking if available.', '2025-04-27 03:54:50.000000', 'David Chen', '2025-04-26 16:00:00.000000', 'SEEKING_PLACEMENT', null);
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('Previously at Shelter ID 4 (CityTeam). Left program, current whereabouts unknown. Marked inactive.', '2025-04-18 17:00:00.000000', 'Samantha B.', '2025-03-10 08:00:00.000000', 'INACTIVE', null);
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('Just placed at Julian Street Navigation Center. Needs initial assessment and connection to services.', '2025-04-27 03:54:50.000000', 'Carlos R.', '2025-04-27 09:00:00.000000', 'SHELTERED', 11);
-INSERT INTO sjhopes.clients (caseworker_notes, last_activity_date, name, registration_date, status, current_shelter_id) VALUES ('Currently unsheltered, staying near downtown. Expressed interest in safe parking if available.', '2025-04-27 12:10:01.601504', 'Mark Wood', '2025-04-27 12:10:01.488066', 'SHELTERED', 2);
+-- Explicit ids so client_notes.sql can refer to them. Caseworker notes live in client_notes.
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (1, '2025-04-27 03:54:50.000000', 'John D.', '2025-04-15 10:00:00.000000', 'SHELTERED', 8);
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (2, '2025-04-27 03:54:50.000000', 'Maria S.', '2025-04-20 14:30:00.000000', 'SHELTERED', 23);
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (3, '2025-04-27 03:54:50.000000', 'Robert P.', '2025-04-22 09:15:00.000000', 'SHELTERED', 1);
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (4, '2025-04-27 03:54:50.000000', 'Anita K.', '2025-04-25 11:00:00.000000', 'SEEKING_PLACEMENT', null);
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (5, '2025-04-27 03:54:50.000000', 'David Chen', '2025-04-26 16:00:00.000000', 'SEEKING_PLACEMENT', null);
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (6, '2025-04-18 17:00:00.000000', 'Samantha B.', '2025-03-10 08:00:00.000000', 'INACTIVE', null);
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (7, '2025-04-27 03:54:50.000000', 'Carlos R.', '2025-04-27 09:00:00.000000', 'SHELTERED', 11);
+INSERT INTO sjhopes.clients (id, last_activity_date, name, registration_date, status, current_shelter_id) VALUES (8, '2025-04-27 12:10:01.601504', 'Mark Wood', '2025-04-27 12:10:01.488066', 'SHELTERED', 2);
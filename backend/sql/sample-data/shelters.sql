@@ -1,25 +1,27 @@
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('2011 Little Orchard Street', null, false, true, 'San Jose', 40, 'Largest homeless services center in Santa Clara County. Congregate shelter serving adults nightly. Provides beds, meals, showers, supportive services. Intake line starts 3:30 PM. Pets reported as welcome (verify).', 'info@homefirstscc.org', true, '2025-04-27 03:36:07.000000', 37.2995, -121.867, 'Boccardo Reception Center (BRC)', 'HomeFirst Services', '408-294-2100', 'CONGREGATE', 'CA', 250, '95125');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('692 N. King Rd', null, true, false, 'San Jose', 5, 'Congregate shelter exclusively serving single- and two-parent families with children (up to 35 families in private rooms). Offers case management, meals, workshops. Intake M-F 10-11 AM.', null, true, '2025-04-27 12:10:01.592757', 37.3612, -121.8595, 'San Jose Family Shelter', 'Family Supportive Housing', '408-926-8885', 'CONGREGATE', 'CA', 35, '95116');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('693 South 2nd Street', null, false, false, 'San Jose', 3, 'Short-term congregate emergency shelter for homeless or runaway youth (ages 12-17). Focus on family reunification. Case management, counseling provided. (Address listed is Drop-In Center, call for shelter info).', null, true, '2025-04-27 03:36:07.000000', 37.3274, -121.8821, 'Bill Wilson Center Safety Net Shelter', 'Bill Wilson Center', '408-243-0222', 'CONGREGATE', 'CA', 15, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('435 N. Third Street', null, false, false, 'San Jose', 5, 'Congregate transitional housing for single women (18+) and women with children facing homelessness, domestic violence, or needing support. Offers case management, life skills.', 'info@cityteam.org', true, '2025-04-27 03:36:07.000000', 37.342, -121.8925, 'CityTeam Heritage Home', 'CityTeam', '408-294-1238', 'CONGREGATE', 'CA', 25, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('260 Commercial St', null, true, false, 'San Jose', 8, 'Congregate emergency shelter serving families (units) and single adults (beds). Referral typically via Here4You Hotline (408-385-2400). Case management offered.', null, true, '2025-04-27 03:36:07.000000', 37.3415, -121.894, 'Georgia Travis House', 'LifeMoves', '408-271-1630', 'CONGREGATE', 'CA', 50, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('318 N 6th St', null, false, false, 'San Jose', 4, 'Congregate shelter for women, children allowed. Requires sobriety. Offers limited day services.', 'casadeclara@sjcw.org', true, '2025-04-27 03:36:07.000000', 37.341, -121.8882, 'Casa De Clara', 'San Jose Catholic Worker', '408-297-8330', 'CONGREGATE', 'CA', 20, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('2011 Little Orchard Street', 'Veterans Section', false, true, 'San Jose', 7, 'Congregate Emergency Shelter and Transitional Housing section specifically for veterans located within the BRC facility. Check-in 3:30 PM. Pets policy follows BRC (verify).', 'info@homefirstscc.org', true, '2025-04-27 03:36:07.000000', 37.2995, -121.867, 'HomeFirst Veterans Services Shelter', 'HomeFirst Services', '408-510-7522', 'CONGREGATE', 'CA', 30, '95125');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('1200 Rue Ferrari', null, false, false, 'San Jose', 10, 'Community of individual tiny home units providing interim housing with support services for adults. Based on actual project type.', 'info@homefirstscc.org', true, '2025-04-27 03:36:07.000000', 37.248, -121.845, 'Rue Ferrari Tiny Homes', 'HomeFirst Services', '408-539-2100', 'TINY_HOME', 'CA', 70, '95118');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('500 Ezie St', 'Parking Lot', true, true, 'San Jose', 3, 'Designated overnight safe parking program for individuals/families living in vehicles (capacity = vehicle spots). Access to restrooms and case management linkage often provided.', 'info@amigosadg.org', true, '2025-04-27 03:36:07.000000', 37.2955, -121.8155, 'Hope Lot Safe Parking', 'Amigos de Guadalupe', '408-931-6500', 'SAFE_PARKING', 'CA', 20, '95111');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('1000 The Alameda', null, true, false, 'San Jose', 5, 'Example of a converted motel (Project Homekey) providing interim or permanent supportive housing units. On-site support services typical.', 'info@abodeservices.org', true, '2025-04-27 03:36:07.000000', 37.3305, -121.915, 'Bella Vista Inn - Project Homekey', 'Abode Services', '510-657-7409', 'MOTEL_CONVERSION', 'CA', 60, '95126');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('510 W Julian St', null, false, false, 'San Jose', 12, 'Example of a service-intensive center focused on assessment, service connection, and rapid pathways to housing. Temporary stays.', 'info@abodeservices.org', true, '2025-04-27 03:36:07.000000', 37.337, -121.902, 'Julian Street Navigation Center', 'Abode Services', '510-657-7409', 'NAVIGATION_CENTER', 'CA', 80, '95110');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('850 Montgomery St', null, false, false, 'San Jose', 15, 'Congregate emergency and transitional shelter for single adult men, including dedicated beds for veterans. Case management and support services available.', null, true, '2025-04-27 03:36:46.000000', 37.345, -121.9, 'LifeMoves Montgomery Street Inn', 'LifeMoves', '408-271-0685', 'CONGREGATE', 'CA', 90, '95110');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('8490 Wren Ave', null, false, false, 'Gilroy', 20, 'Year-round congregate shelter serving adults in South County. Capacity approx 120. Referral required via Here4You Hotline (408-385-2400).', null, true, '2025-04-27 03:36:46.000000', 37.02, -121.595, 'HomeFirst Gilroy Shelter', 'HomeFirst Services', '408-539-2100', 'CONGREGATE', 'CA', 120, '95020');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('405 North 4th Street', null, false, false, 'San Jose', 10, 'Provides congregate emergency shelter and transitional housing, along with meals, casework, and other support services. Population served may vary (verify).', null, true, '2025-04-27 03:36:46.000000', 37.342, -121.89, 'Salvation Army Emmanuel House', 'The Salvation Army', '408-282-1175', 'CONGREGATE', 'CA', 60, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('Activated Sites (e.g., Armory)', '', false, false, 'San Jose', 0, 'Seasonal (approx Dec-Mar) overnight congregate warming locations activated during cold weather. Locations vary. Access via Here4You hotline. (Marked inactive as of April).', '', true, '2025-04-27 14:07:03.289481', 37.338, -121.886, 'County Cold Weather Shelter (Varies)', 'County of Santa Clara OSH / Partner Agency', '408-385-2400', 'CONGREGATE', 'CA', 75, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('33 Encina Avenue', null, false, false, 'Palo Alto', 5, 'Drop-in center (M-F 8-4) with services. Associated Hotel de Zink program uses rotating congregations for temporary congregate shelter. Access via Opportunity Center.', null, true, '2025-04-27 03:36:46.000000', 37.435, -122.15, 'LifeMoves Opportunity Svcs / Hotel de Zink', 'LifeMoves', '650-853-8672', 'CONGREGATE', 'CA', 30, '94301');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('2500 Leghorn Street', null, true, false, 'Mountain View', 8, 'Project Homekey interim housing site (modular units) with private rooms for individuals & families (approx 100 units total). Intensive case management.', null, true, '2025-04-27 03:36:46.000000', 37.41, -122.098, 'LifeMoves Mountain View', 'LifeMoves', '650-853-8672', 'MOTEL_CONVERSION', 'CA', 100, '94043');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('1111 Pastoria Ave', 'Parking Lot', true, true, 'Sunnyvale', 4, 'Plausible example of a designated lot providing safe overnight parking for individuals/families in vehicles (capacity = vehicle spots). Support service linkage may be available.', null, true, '2025-04-27 03:36:46.000000', 37.385, -122.02, 'Sunnyvale Community Safe Parking', 'LifeMoves', '408-271-0685', 'SAFE_PARKING', 'CA', 25, '94086');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('100 Woz Way', null, false, false, 'San Jose', 6, 'Transitional housing programs (congregate or scattered site) for young adults (18-24) experiencing homelessness. Focus on life skills and independence.', null, true, '2025-04-27 03:36:46.000000', 37.33, -121.89, 'Bill Wilson Center TAY Housing', 'Bill Wilson Center', '408-243-0222', 'CONGREGATE', 'CA', 40, '95110');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('Confidential Location', null, false, false, 'San Jose', 4, 'Confidential congregate shelter providing safe emergency housing and support services for survivors of domestic violence and their children. Access via Crisis Line.', null, true, '2025-04-27 03:36:46.000000', 37.338, -121.886, 'YWCA Domestic Violence Shelter', 'YWCA Golden Gate Silicon Valley', '800-572-2782', 'CONGREGATE', 'CA', 30, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('1180 S 2nd St', null, true, true, 'San Jose', 0, 'Permanent Supportive Housing (PSH) studios for formerly homeless individuals. On-site services. Not emergency/temporary shelter. Availability via Coordinated Entry.', null, true, '2025-04-27 03:36:46.000000', 37.318, -121.876, 'Abode Second Street Studios', 'Abode Services', '510-657-7409', 'OTHER', 'CA', 134, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('Confidential Location', null, false, false, 'San Jose', 3, 'Inclusive congregate shelter with focused support for adults identifying as LGBTQ+. Accessed by referral only. Confidential location.', null, true, '2025-04-27 03:36:46.000000', 37.338, -121.886, 'LifeMoves | New Haven Inn', 'LifeMoves', '408-271-0685', 'CONGREGATE', 'CA', 25, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('500 E. Taylor St', null, true, false, 'San Jose', 8, 'Congregate interim shelter serving families (approx 15 units) and single adult women (approx 18 beds). Provides support services.', null, true, '2025-04-27 03:36:46.000000', 37.348, -121.885, 'LifeMoves | Villa', 'LifeMoves', '408-271-0685', 'CONGREGATE', 'CA', 60, '95112');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('2011 Little Orchard Street', 'Medical Wing', false, false, 'San Jose', 2, 'Specialized program providing recuperative care beds for homeless individuals discharging from hospital. Integrated health services. (Verify operational status).', 'info@homefirstscc.org', true, '2025-04-27 03:36:46.000000', 37.2995, -121.867, 'BRC - Medical Respite Program', 'HomeFirst / Valley Health', '408-510-7543', 'OTHER', 'CA', 20, '95125');
-INSERT INTO sjhopes.shelters (address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES ('1650 Flickinger Ave', '', true, false, 'San Jose', 50, 'Interim housing community featuring individual modular units (tiny homes) with on-site case management, community space, and resource navigation assistance. Focus on transitioning residents to stable home.', 'intake@unityshelters-nsh.org', true, '2025-04-27 14:06:01.767454', 0, 0, 'Northside Community Haven', 'Unity Shelter Services', '408-555-0156', 'TINY_HOME', 'CA', 65, '95131');
+-- Explicit ids: shelters.id comes from the pooled shelters_seq sequence, not AUTO_INCREMENT,
+-- and clients.sql refers to these ids. Load before starting the app (or restart it afterwards).
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (1, '2011 Little Orchard Street', null, false, true, 'San Jose', 40, 'Largest homeless services center in Santa Clara County. Congregate shelter serving adults nightly. Provides beds, meals, showers, supportive services. Intake line starts 3:30 PM. Pets reported as welcome (verify).', 'info@homefirstscc.org', true, '2025-04-27 03:36:07.000000', 37.2995, -121.867, 'Boccardo Reception Center (BRC)', 'HomeFirst Services', '408-294-2100', 'CONGREGATE', 'CA', 250, '95125');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (2, '692 N. King Rd', null, true, false, 'San Jose', 5, 'Congregate shelter exclusively serving single- and two-parent families with children (up to 35 families in private rooms). Offers case management, meals, workshops. Intake M-F 10-11 AM.', null, true, '2025-04-27 12:10:01.592757', 37.3612, -121.8595, 'San Jose Family Shelter', 'Family Supportive Housing', '408-926-8885', 'CONGREGATE', 'CA', 35, '95116');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (3, '693 South 2nd Street', null, false, false, 'San Jose', 3, 'Short-term congregate emergency shelter for homeless or runaway youth (ages 12-17). Focus on family reunification. Case management, counseling provided. (Address listed is Drop-In Center, call for shelter info).', null, true, '2025-04-27 03:36:07.000000', 37.3274, -121.8821, 'Bill Wilson Center Safety Net Shelter', 'Bill Wilson Center', '408-243-0222', 'CONGREGATE', 'CA', 15, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (4, '435 N. Third Street', null, false, false, 'San Jose', 5, 'Congregate transitional housing for single women (18+) and women with children facing homelessness, domestic violence, or needing support. Offers case management, life skills.', 'info@cityteam.org', true, '2025-04-27 03:36:07.000000', 37.342, -121.8925, 'CityTeam Heritage Home', 'CityTeam', '408-294-1238', 'CONGREGATE', 'CA', 25, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (5, '260 Commercial St', null, true, false, 'San Jose', 8, 'Congregate emergency shelter serving families (units) and single adults (beds). Referral typically via Here4You Hotline (408-385-2400). Case management offered.', null, true, '2025-04-27 03:36:07.000000', 37.3415, -121.894, 'Georgia Travis House', 'LifeMoves', '408-271-1630', 'CONGREGATE', 'CA', 50, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (6, '318 N 6th St', null, false, false, 'San Jose', 4, 'Congregate shelter for women, children allowed. Requires sobriety. Offers limited day services.', 'casadeclara@sjcw.org', true, '2025-04-27 03:36:07.000000', 37.341, -121.8882, 'Casa De Clara', 'San Jose Catholic Worker', '408-297-8330', 'CONGREGATE', 'CA', 20, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (7, '2011 Little Orchard Street', 'Veterans Section', false, true, 'San Jose', 7, 'Congregate Emergency Shelter and Transitional Housing section specifically for veterans located within the BRC facility. Check-in 3:30 PM. Pets policy follows BRC (verify).', 'info@homefirstscc.org', true, '2025-04-27 03:36:07.000000', 37.2995, -121.867, 'HomeFirst Veterans Services Shelter', 'HomeFirst Services', '408-510-7522', 'CONGREGATE', 'CA', 30, '95125');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (8, '1200 Rue Ferrari', null, false, false, 'San Jose', 10, 'Community of individual tiny home units providing interim housing with support services for adults. Based on actual project type.', 'info@homefirstscc.org', true, '2025-04-27 03:36:07.000000', 37.248, -121.845, 'Rue Ferrari Tiny Homes', 'HomeFirst Services', '408-539-2100', 'TINY_HOME', 'CA', 70, '95118');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (9, '500 Ezie St', 'Parking Lot', true, true, 'San Jose', 3, 'Designated overnight safe parking program for individuals/families living in vehicles (capacity = vehicle spots). Access to restrooms and case management linkage often provided.', 'info@amigosadg.org', true, '2025-04-27 03:36:07.000000', 37.2955, -121.8155, 'Hope Lot Safe Parking', 'Amigos de Guadalupe', '408-931-6500', 'SAFE_PARKING', 'CA', 20, '95111');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (10, '1000 The Alameda', null, true, false, 'San Jose', 5, 'Example of a converted motel (Project Homekey) providing interim or permanent supportive housing units. On-site support services typical.', 'info@abodeservices.org', true, '2025-04-27 03:36:07.000000', 37.3305, -121.915, 'Bella Vista Inn - Project Homekey', 'Abode Services', '510-657-7409', 'MOTEL_CONVERSION', 'CA', 60, '95126');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (11, '510 W Julian St', null, false, false, 'San Jose', 12, 'Example of a service-intensive center focused on assessment, service connection, and rapid pathways to housing. Temporary stays.', 'info@abodeservices.org', true, '2025-04-27 03:36:07.000000', 37.337, -121.902, 'Julian Street Navigation Center', 'Abode Services', '510-657-7409', 'NAVIGATION_CENTER', 'CA', 80, '95110');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (12, '850 Montgomery St', null, false, false, 'San Jose', 15, 'Congregate emergency and transitional shelter for single adult men, including dedicated beds for veterans. Case management and support services available.', null, true, '2025-04-27 03:36:46.000000', 37.345, -121.9, 'LifeMoves Montgomery Street Inn', 'LifeMoves', '408-271-0685', 'CONGREGATE', 'CA', 90, '95110');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (13, '8490 Wren Ave', null, false, false, 'Gilroy', 20, 'Year-round congregate shelter serving adults in South County. Capacity approx 120. Referral required via Here4You Hotline (408-385-2400).', null, true, '2025-04-27 03:36:46.000000', 37.02, -121.595, 'HomeFirst Gilroy Shelter', 'HomeFirst Services', '408-539-2100', 'CONGREGATE', 'CA', 120, '95020');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (14, '405 North 4th Street', null, false, false, 'San Jose', 10, 'Provides congregate emergency shelter and transitional housing, along with meals, casework, and other support services. Population served may vary (verify).', null, true, '2025-04-27 03:36:46.000000', 37.342, -121.89, 'Salvation Army Emmanuel House', 'The Salvation Army', '408-282-1175', 'CONGREGATE', 'CA', 60, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (15, 'Activated Sites (e.g., Armory)', '', false, false, 'San Jose', 0, 'Seasonal (approx Dec-Mar) overnight congregate warming locations activated during cold weather. Locations vary. Access via Here4You hotline. (Marked inactive as of April).', '', true, '2025-04-27 14:07:03.289481', 37.338, -121.886, 'County Cold Weather Shelter (Varies)', 'County of Santa Clara OSH / Partner Agency', '408-385-2400', 'CONGREGATE', 'CA', 75, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (16, '33 Encina Avenue', null, false, false, 'Palo Alto', 5, 'Drop-in center (M-F 8-4) with services. Associated Hotel de Zink program uses rotating congregations for temporary congregate shelter. Access via Opportunity Center.', null, true, '2025-04-27 03:36:46.000000', 37.435, -122.15, 'LifeMoves Opportunity Svcs / Hotel de Zink', 'LifeMoves', '650-853-8672', 'CONGREGATE', 'CA', 30, '94301');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (17, '2500 Leghorn Street', null, true, false, 'Mountain View', 8, 'Project Homekey interim housing site (modular units) with private rooms for individuals & families (approx 100 units total). Intensive case management.', null, true, '2025-04-27 03:36:46.000000', 37.41, -122.098, 'LifeMoves Mountain View', 'LifeMoves', '650-853-8672', 'MOTEL_CONVERSION', 'CA', 100, '94043');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (18, '1111 Pastoria Ave', 'Parking Lot', true, true, 'Sunnyvale', 4, 'Plausible example of a designated lot providing safe overnight parking for individuals/families in vehicles (capacity = vehicle spots). Support service linkage may be available.', null, true, '2025-04-27 03:36:46.000000', 37.385, -122.02, 'Sunnyvale Community Safe Parking', 'LifeMoves', '408-271-0685', 'SAFE_PARKING', 'CA', 25, '94086');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (19, '100 Woz Way', null, false, false, 'San Jose', 6, 'Transitional housing programs (congregate or scattered site) for young adults (18-24) experiencing homelessness. Focus on life skills and independence.', null, true, '2025-04-27 03:36:46.000000', 37.33, -121.89, 'Bill Wilson Center TAY Housing', 'Bill Wilson Center', '408-243-0222', 'CONGREGATE', 'CA', 40, '95110');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (20, 'Confidential Location', null, false, false, 'San Jose', 4, 'Confidential congregate shelter providing safe emergency housing and support services for survivors of domestic violence and their children. Access via Crisis Line.', null, true, '2025-04-27 03:36:46.000000', 37.338, -121.886, 'YWCA Domestic Violence Shelter', 'YWCA Golden Gate Silicon Valley', '800-572-2782', 'CONGREGATE', 'CA', 30, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (21, '1180 S 2nd St', null, true, true, 'San Jose', 0, 'Permanent Supportive Housing (PSH) studios for formerly homeless individuals. On-site services. Not emergency/temporary shelter. Availability via Coordinated Entry.', null, true, '2025-04-27 03:36:46.000000', 37.318, -121.876, 'Abode Second Street Studios', 'Abode Services', '510-657-7409', 'OTHER', 'CA', 134, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (22, 'Confidential Location', null, false, false, 'San Jose', 3, 'Inclusive congregate shelter with focused support for adults identifying as LGBTQ+. Accessed by referral only. Confidential location.', null, true, '2025-04-27 03:36:46.000000', 37.338, -121.886, 'LifeMoves | New Haven Inn', 'LifeMoves', '408-271-0685', 'CONGREGATE', 'CA', 25, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (23, '500 E. Taylor St', null, true, false, 'San Jose', 8, 'Congregate interim shelter serving families (approx 15 units) and single adult women (approx 18 beds). Provides support services.', null, true, '2025-04-27 03:36:46.000000', 37.348, -121.885, 'LifeMoves | Villa', 'LifeMoves', '408-271-0685', 'CONGREGATE', 'CA', 60, '95112');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (24, '2011 Little Orchard Street', 'Medical Wing', false, false, 'San Jose', 2, 'Specialized program providing recuperative care beds for homeless individuals discharging from hospital. Integrated health services. (Verify operational status).', 'info@homefirstscc.org', true, '2025-04-27 03:36:46.000000', 37.2995, -121.867, 'BRC - Medical Respite Program', 'HomeFirst / Valley Health', '408-510-7543', 'OTHER', 'CA', 20, '95125');
+INSERT INTO sjhopes.shelters (id, address_line1, address_line2, allows_partner, allows_pets, city, current_availability, description, email, is_active, last_updated, latitude, longitude, name, operating_organization, phone, shelter_type, state, total_capacity, zip_code) VALUES (25, '1650 Flickinger Ave', '', true, false, 'San Jose', 50, 'Interim housing community featuring individual modular units (tiny homes) with on-site case management, community space, and resource navigation assistance. Focus on transitioning residents to stable home.', 'intake@unityshelters-nsh.org', true, '2025-04-27 14:06:01.767454', 0, 0, 'Northside Community Haven', 'Unity Shelter Services', '408-555-0156', 'TINY_HOME', 'CA', 65, '95131');
@@ -1,59 +1,61 @@
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (4, '$18/hour stipend', 'Meet near Childrens Discovery Museum. Litter pickup along trails and banks. Gloves/bags provided.', '3 hours', '2025-04-27 14:25:50.795317', 'Guadalupe River Park Downtown', 'COMPLETED', 'Maria Garcia (Parks Dept)', '408-555-1001', '2025-05-03 09:00:00.000000', 'Guadalupe River Park Cleanup - Zone 1');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (2, '$18/hour stipend', 'Focus area between Tully Rd and Story Rd. Clearing debris and encampment waste.', '4 hours', '2025-04-27 15:59:17.797843', 'Coyote Creek Trail near Tully Rd', 'COMPLETED', 'David Lee (Creek Org)', '408-555-1002', '2025-05-10 08:30:00.000000', 'Coyote Creek Trail Cleanup - Tully Rd Section');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (2, 'Volunteer Credit + Lunch', 'Help maintain garden beds in the Japanese Friendship Garden. Basic gardening.', '2.5 hours', '2025-04-27 16:07:15.078592', 'Kelley Park', 'COMPLETED', 'Susan Chen (Parks Volunteer Lead)', '408-555-1003', '2025-05-06 10:00:00.000000', 'Kelley Park Japanese Garden Weeding');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (5, '$17.50/hour stipend', 'Light trail work including clearing brush and minor erosion control near lower trails.', '4 hours', '2025-04-27 14:19:32.320736', 'Alum Rock Park', 'ASSIGNED', 'Ranger Thompson', '408-555-1004', '2025-05-08 09:00:00.000000', 'Alum Rock Park Trail Maintenance');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16/hour stipend', 'Walk through park collecting litter, emptying designated cans. Morning shift.', '2 hours', '2025-04-27 03:55:26.000000', 'St James Park, Downtown SJ', 'OPEN', 'Downtown Streets Team Lead', '408-555-1005', '2025-05-12 08:00:00.000000', 'St James Park Litter Patrol');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Focus on removing trash from around the lake shoreline area.', '3 hours', '2025-04-27 03:55:26.000000', 'Lake Cunningham Park', 'OPEN', 'Park Staff', '408-555-1006', '2025-05-17 09:30:00.000000', 'Lake Cunningham Park Shoreline Cleanup');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16/hour stipend', 'Help sweep and maintain cleanliness in the public animal viewing areas.', '2 hours (flexible AM)', '2025-04-27 03:55:26.000000', 'Emma Prusch Farm Park', 'OPEN', 'Farm Staff', '408-555-1007', null, 'Emma Prusch Farm Park Animal Area Sweeping');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$18/hour stipend', 'Paint over graffiti on designated sections near Meridian Ave crossing.', '3 hours', '2025-04-27 03:55:26.000000', 'Los Gatos Creek Trail @ Meridian', 'OPEN', 'City Beautification Crew', '408-555-1008', '2025-05-14 10:00:00.000000', 'Los Gatos Creek Trail Graffiti Removal');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Help prepare soil beds for upcoming community planting event.', '4 hours', '2025-04-27 03:55:26.000000', 'Silver Creek Linear Park', 'OPEN', 'Parks Dept Horticulturist', '408-555-1009', '2025-05-20 09:00:00.000000', 'Silver Creek Linear Park Planting Prep');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16.50/hour stipend', 'Sweep debris from the grand stairway.', '2 hours (flexible)', '2025-04-27 03:55:26.000000', 'Communications Hill Stairway', 'OPEN', 'Local Volunteer Group', '408-555-1010', null, 'Communications Hill Stairway Sweeping');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$18/hour stipend', 'Help vendors set up tents and tables early Saturday morning.', '3 hours', '2025-04-27 03:55:26.000000', 'San Pedro Square Area', 'OPEN', 'Market Manager', '408-555-2001', '2025-05-03 06:00:00.000000', 'Downtown Farmers Market Setup');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend + T-shirt', 'Assist with setting up barricades and directing participants along designated route section.', '5 hours', '2025-04-27 03:55:26.000000', 'Specific SJ Street (TBD)', 'OPEN', 'Viva CalleSJ Staff', '408-555-2002', '2025-05-18 07:00:00.000000', 'Viva CalleSJ Event Route Support');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (2, '$18.50/hour stipend', 'Help take down booths, stages, and clean up after a local festival concludes Sunday evening.', '4 hours', '2025-04-27 03:55:26.000000', 'History Park San Jose', 'ASSIGNED', 'Event Coordinator', '408-555-2003', '2025-05-11 18:00:00.000000', 'Community Festival Teardown Crew');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Lunch provided', 'Assist residents with setting up tables, chairs, and simple decorations.', '2 hours', '2025-04-27 03:55:26.000000', 'Willow Glen Neighborhood Park', 'OPEN', 'Neighborhood Association Lead', '408-555-2004', '2025-05-24 10:00:00.000000', 'Neighborhood Block Party Setup');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (2, 'Volunteer Credit', 'Greet families and check children into summer reading program event.', '3 hours', '2025-04-27 15:59:06.254335', 'MLK Jr Library Downtown', 'ASSIGNED', 'Librarian Nguyen', '408-555-2005', '2025-06-07 13:00:00.000000', 'Library Reading Program Check-in');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit + Snack', 'Hand out water cups to runners at a designated station along the race route.', '3 hours', '2025-04-27 03:55:26.000000', 'Guadalupe River Park Trail', 'OPEN', 'Race Volunteer Captain', '408-555-2006', '2025-06-01 08:00:00.000000', '5K Charity Run Water Station');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16/hour stipend', 'Help guide attendees to seating areas and answer basic questions.', '4 hours', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'Event Staff Lead', '408-555-2007', '2025-05-30 17:00:00.000000', 'Music in the Park Ushering');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$35 flat stipend', 'Help an artist setup their display booth early morning.', '2 hours', '2025-04-27 03:55:26.000000', 'SOFA District Art Fair', 'OPEN', 'Artist Coordinator', '408-555-2008', '2025-06-14 07:00:00.000000', 'Art Fair Booth Assistant (Setup)');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit', 'Welcome attendees, provide basic directions and hand out information packets.', '3 hours', '2025-04-27 03:55:26.000000', 'Mayfair Community Center', 'OPEN', 'Health Fair Organizer', '408-555-2009', '2025-05-10 10:00:00.000000', 'Community Health Fair Greeter');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Post-event cleanup, collecting trash and organizing chairs/blankets.', '2 hours', '2025-04-27 03:55:26.000000', 'Discovery Meadow Park', 'OPEN', 'Parks & Rec Staff', '408-555-2010', '2025-06-06 21:30:00.000000', 'Movie Night in Park Cleanup Crew');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Shelter Credit / Volunteer', 'Help sort incoming clothing and hygiene product donations.', '3 hours (flexible weekday AM)', '2025-04-27 03:55:26.000000', 'Boccardo Reception Center', 'OPEN', 'Volunteer Coordinator', '408-555-3001', null, 'BRC Donation Sorting');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit', 'Supervise children in the play area while parents attend workshops (requires background check - simulated for demo).', '2 hours', '2025-04-27 03:55:26.000000', 'San Jose Family Shelter', 'OPEN', 'Program Manager', '408-555-3002', '2025-05-07 14:00:00.000000', 'San Jose Family Shelter Play Area Monitor');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (1, 'Meal included', 'Assist kitchen staff with basic food preparation like chopping vegetables or making salads.', '3 hours', '2025-04-27 03:55:26.000000', 'CityTeam Heritage Home', 'COMPLETED', 'Kitchen Supervisor', '408-555-3003', '2025-04-29 10:00:00.000000', 'CityTeam Heritage Home Kitchen Prep Assist');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Shelter Credit / Volunteer', 'Help fold and organize clean linens for shelter residents.', '2 hours (flexible PM)', '2025-04-27 03:55:26.000000', 'Georgia Travis House', 'OPEN', 'House Manager', '408-555-3004', null, 'Georgia Travis House Linen Folding');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16/hour stipend', 'Light cleaning duties in common areas - wiping tables, sweeping floors.', '1.5 hours', '2025-04-27 03:55:26.000000', 'LifeMoves Mountain View', 'OPEN', 'Site Manager', '408-555-3005', '2025-05-13 15:00:00.000000', 'LifeMoves Mountain View Common Area Cleaning');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16.50/hour stipend', 'Welcome visitors, answer basic phone calls, direct inquiries during busy period.', '3 hours', '2025-04-27 03:55:26.000000', 'Gardner Community Center', 'OPEN', 'Center Director', '408-555-3006', '2025-05-20 12:00:00.000000', 'Community Center Front Desk Greeter');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (3, 'Volunteer Credit', 'Help unload deliveries and stock shelves at the Second Harvest warehouse.', '4 hours', '2025-04-27 03:55:26.000000', 'Second Harvest Food Bank Warehouse', 'COMPLETED', 'Warehouse Manager', '408-555-3007', '2025-05-01 09:00:00.000000', 'Food Bank Warehouse Stocking');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Lunch included', 'Assist with setting tables, serving lunch, and light cleanup for senior lunch program.', '2.5 hours', '2025-04-27 03:55:26.000000', 'Alma Community Center', 'OPEN', 'Program Coordinator', '408-555-3008', '2025-05-15 11:00:00.000000', 'Senior Center Lunch Service Helper');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Shelter Credit', 'Help count and organize inventory of hygiene supplies, linens, etc.', '2 hours (flexible)', '2025-04-27 03:55:26.000000', 'Hope Village SJ', 'OPEN', 'Operations Lead', '408-555-3009', null, 'Shelter Supply Inventory Check');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (1, 'Stipend Provided', 'Put together kits with basic hygiene items, socks, resource information.', '3 hours (flexible)', '2025-04-27 12:51:02.385562', 'Downtown Streets Team Office', 'COMPLETED', 'Program Coordinator', '408-555-3010', null, 'Assemble Welcome Kits for New Shelter Residents');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Distribute flyers for upcoming community resource fair to local businesses and notice boards.', '3 hours', '2025-04-27 03:55:26.000000', 'Downtown San Jose', 'OPEN', 'Resource Fair Organizer', '408-555-4001', '2025-05-05 10:00:00.000000', 'Flyer Distribution - Downtown Area');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$18/hour stipend', 'Enter contact information from paper forms into a simple spreadsheet. Basic computer skills needed.', '4 hours (flexible weekday)', '2025-04-27 03:55:26.000000', 'Non-Profit Office (TBD)', 'OPEN', 'Office Manager', '408-555-4002', null, 'Basic Data Entry for Non-Profit');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit', 'Help librarians shelve returned books in the correct sections.', '2 hours', '2025-04-27 03:55:26.000000', 'Edenvale Branch Library', 'OPEN', 'Head Librarian', '408-555-4003', '2025-05-19 14:00:00.000000', 'Library Book Shelving Assistant');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit', 'Water designated garden plots during assigned times.', '1.5 hours', '2025-04-27 03:55:26.000000', 'Martial Cottle Park Community Garden', 'OPEN', 'Garden Coordinator', '408-555-4004', '2025-05-09 08:00:00.000000', 'Community Garden Watering Duty');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16.50/hour stipend', 'Sort incoming mail and deliver to internal mailboxes for a large non-profit.', '2 hours (daily AM)', '2025-04-27 03:55:26.000000', 'Charity Org HQ', 'OPEN', 'Admin Assistant', '408-555-4005', null, 'Office Mail Sorting and Delivery');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (2, '$16/hour stipend', 'Arrange chairs and tables according to diagrams for upcoming workshops.', '1 hour', '2025-04-27 03:55:26.000000', 'Workforce Development Center', 'COMPLETED', 'Training Coordinator', '408-555-4006', '2025-05-02 08:00:00.000000', 'Workshop Room Setup');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$18/hour stipend', 'Approach park visitors (with script) to complete short surveys about park usage.', '3 hours', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'City Research Analyst', '408-555-4007', '2025-05-22 11:00:00.000000', 'Survey Administration Assistant (In Person)');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit', 'Work as part of a team assembling hygiene kits for street outreach.', '2 hours', '2025-04-27 03:55:26.000000', 'Volunteer Center SJ', 'OPEN', 'Volunteer Lead', '408-555-4008', '2025-06-03 10:00:00.000000', 'Hygiene Kit Assembly Line');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16/hour stipend', 'Help sort recyclables collected at the center into correct bins.', '1.5 hours (flexible)', '2025-04-27 03:55:26.000000', 'Roosevelt Community Center', 'OPEN', 'Center Staff', '408-555-4009', null, 'Recycling Sorting at Community Center');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Help assemble new shelving units or small furniture items for a shelter common area.', '3 hours', '2025-04-27 03:55:26.000000', 'LifeMoves | Villa', 'OPEN', 'Facilities Manager', '408-555-4010', '2025-05-28 13:00:00.000000', 'Simple Furniture Assembly (Shelter)');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Litter pickup around Berryessa Community Center grounds.', '2 hours', '2025-04-27 03:55:26.000000', 'Berryessa Community Center', 'OPEN', 'Parks Dept', '408-555-1011', '2025-05-21 09:00:00.000000', 'Park Cleanup - Berryessa Area');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17.50/hour stipend', 'Removing trash and debris near the creek bed within the park.', '3 hours', '2025-04-27 03:55:26.000000', 'Penetencia Creek Park', 'OPEN', 'Creek Org Volunteer', '408-555-1012', '2025-05-24 09:00:00.000000', 'Creek Cleanup - Penetencia Creek Park');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Place directional signs around downtown for an upcoming weekend event.', '2.5 hours', '2025-04-27 03:55:26.000000', 'Downtown San Jose Streets', 'OPEN', 'Event Logistics', '408-555-2011', '2025-06-06 14:00:00.000000', 'Event Signage Placement');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$18/hour stipend', 'Assist vendors in packing up and clearing their booths after an event.', '3 hours', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'Event Manager Asst', '408-555-2012', '2025-06-08 17:00:00.000000', 'Post-Event Booth Breakdown');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Meal included', 'Help with washing dishes during peak meal times.', '1.5 hours (Lunch or Dinner)', '2025-04-27 03:55:26.000000', 'Salvation Army Emmanuel House', 'OPEN', 'Kitchen Lead', '408-555-3011', null, 'Shelter Kitchen Dishwashing Assist');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit', 'Check expiration dates and sort canned goods onto shelves.', '2 hours', '2025-04-27 03:55:26.000000', 'Local Church Food Pantry', 'OPEN', 'Pantry Coordinator', '408-555-3012', '2025-05-29 10:00:00.000000', 'Sorting Canned Goods at Food Pantry');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Distribute community meeting flyers door-to-door in designated neighborhood.', '3 hours', '2025-04-27 03:55:26.000000', 'East San Jose Neighborhood', 'OPEN', 'Community Organizer', '408-555-4011', '2025-06-10 11:00:00.000000', 'Flyer Distribution - East Side SJ');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16.50/hour stipend', 'Help users log in, basic troubleshooting (under supervision) at a community center computer lab.', '2 hours (Weekday PM)', '2025-04-27 03:55:26.000000', 'Seven Trees Community Center', 'OPEN', 'Lab Coordinator', '408-555-4012', null, 'Computer Lab Monitor Assistant');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Stipend Provided', 'Walk with Downtown Ambassador, help provide directions and report issues (observational).', '3 hours (Weekday)', '2025-04-27 03:55:26.000000', 'Downtown San Jose', 'OPEN', 'SJDA Program Lead', '408-555-5001', null, 'Downtown Ambassador Assistant');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Volunteer Credit', 'Clean and organize gardening tools used by community volunteers.', '1.5 hours', '2025-04-27 03:55:26.000000', 'Veggielution Community Farm', 'OPEN', 'Farm Manager', '408-555-5002', '2025-05-31 14:00:00.000000', 'Tool Cleaning and Organization');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16/hour stipend', 'Sit at an info table for a non-profit at a public event, hand out brochures (with supervision).', '2 hours', '2025-04-27 03:55:26.000000', 'San Jose Public Market', 'OPEN', 'Non-Profit Outreach Lead', '408-555-5003', '2025-06-15 12:00:00.000000', 'Information Table Staffing');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (5, '$17/hour stipend', 'Help scrape and sand park benches in preparation for painting.', '3 hours', '2025-04-27 12:55:42.601367', 'Rose Garden Neighborhood Park', 'COMPLETED', 'Parks Maintenance Crew', '408-555-1013', '2025-06-04 09:30:00.000000', 'Park Bench Painting Prep');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$16.50/hour stipend', 'Wipe down and clean trail marker signs along a park trail.', '2 hours (flexible)', '2025-04-27 03:55:26.000000', 'Coyote Hellyer County Park', 'OPEN', 'Park Volunteer Lead', '408-555-1014', null, 'Trail Sign Cleaning');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$17/hour stipend', 'Provide short breaks for main info booth staff at a large festival.', '2 hours (split)', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'Volunteer Captain', '408-555-2013', '2025-06-22 14:00:00.000000', 'Festival Information Booth Relief');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Store Voucher', 'Help accept donations from cars, provide receipts, initial sorting.', '3 hours (Sat AM)', '2025-04-27 03:55:26.000000', 'Goodwill Donation Center', 'OPEN', 'Donation Center Manager', '408-555-3013', null, 'Donation Center Receiving Assistant');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, 'Shelter Credit', 'Raking leaves, pulling weeds around shelter grounds.', '2 hours', '2025-04-27 03:55:26.000000', 'Casa De Clara', 'OPEN', 'House Manager', '408-555-3014', '2025-06-11 10:00:00.000000', 'Basic Landscape Maintenance (Shelter)');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$50 flat stipend', 'Use Canva template to create a simple flyer for an upcoming event. Basic computer/design sense needed.', 'Flexible (2-3 hours total)', '2025-04-27 03:55:26.000000', 'Remote or Community Center', 'OPEN', 'Center Program Lead', '408-555-4013', null, 'Community Center Event Flyer Design (Simple)');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$18/hour stipend', 'Scan old paper records and save digitally, or file documents for a non-profit.', '4 hours (flexible)', '2025-04-27 03:55:26.000000', 'Non-Profit Office (TBD)', 'OPEN', 'Admin Manager', '408-555-4014', null, 'Document Scanning/Filing (Non-Confidential)');
-INSERT INTO sjhopes.tasks (client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (null, '$18.00/hour stipend', 'Assist vendors and event staff with unloading and setting up 10x10 pop-up tents and information tables in designated areas at Berryessa Community Center park grounds. Must be able to lift moderately heavy items. Early morning start.', 'Approx. 3.5 hours', '2025-04-27 14:32:50.049211', 'Berryessa Community Center (Park Grounds)', 'OPEN', 'Angela Rossi (Event Coordinator)', '408-555-0210', '2025-05-17 22:30:00.000000', 'Berryessa Art & Wine Festival - Tent Setup');
+-- Explicit ids: tasks.id comes from the pooled tasks_seq sequence, not AUTO_INCREMENT.
+-- Load before starting the app (or restart it afterwards) so the sequence is moved past these ids.
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (1, 4, '$18/hour stipend', 'Meet near Childrens Discovery Museum. Litter pickup along trails and banks. Gloves/bags provided.', '3 hours', '2025-04-27 14:25:50.795317', 'Guadalupe River Park Downtown', 'COMPLETED', 'Maria Garcia (Parks Dept)', '408-555-1001', '2025-05-03 09:00:00.000000', 'Guadalupe River Park Cleanup - Zone 1');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (2, 2, '$18/hour stipend', 'Focus area between Tully Rd and Story Rd. Clearing debris and encampment waste.', '4 hours', '2025-04-27 15:59:17.797843', 'Coyote Creek Trail near Tully Rd', 'COMPLETED', 'David Lee (Creek Org)', '408-555-1002', '2025-05-10 08:30:00.000000', 'Coyote Creek Trail Cleanup - Tully Rd Section');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (3, 2, 'Volunteer Credit + Lunch', 'Help maintain garden beds in the Japanese Friendship Garden. Basic gardening.', '2.5 hours', '2025-04-27 16:07:15.078592', 'Kelley Park', 'COMPLETED', 'Susan Chen (Parks Volunteer Lead)', '408-555-1003', '2025-05-06 10:00:00.000000', 'Kelley Park Japanese Garden Weeding');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (4, 5, '$17.50/hour stipend', 'Light trail work including clearing brush and minor erosion control near lower trails.', '4 hours', '2025-04-27 14:19:32.320736', 'Alum Rock Park', 'ASSIGNED', 'Ranger Thompson', '408-555-1004', '2025-05-08 09:00:00.000000', 'Alum Rock Park Trail Maintenance');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (5, null, '$16/hour stipend', 'Walk through park collecting litter, emptying designated cans. Morning shift.', '2 hours', '2025-04-27 03:55:26.000000', 'St James Park, Downtown SJ', 'OPEN', 'Downtown Streets Team Lead', '408-555-1005', '2025-05-12 08:00:00.000000', 'St James Park Litter Patrol');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (6, null, '$17/hour stipend', 'Focus on removing trash from around the lake shoreline area.', '3 hours', '2025-04-27 03:55:26.000000', 'Lake Cunningham Park', 'OPEN', 'Park Staff', '408-555-1006', '2025-05-17 09:30:00.000000', 'Lake Cunningham Park Shoreline Cleanup');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (7, null, '$16/hour stipend', 'Help sweep and maintain cleanliness in the public animal viewing areas.', '2 hours (flexible AM)', '2025-04-27 03:55:26.000000', 'Emma Prusch Farm Park', 'OPEN', 'Farm Staff', '408-555-1007', null, 'Emma Prusch Farm Park Animal Area Sweeping');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (8, null, '$18/hour stipend', 'Paint over graffiti on designated sections near Meridian Ave crossing.', '3 hours', '2025-04-27 03:55:26.000000', 'Los Gatos Creek Trail @ Meridian', 'OPEN', 'City Beautification Crew', '408-555-1008', '2025-05-14 10:00:00.000000', 'Los Gatos Creek Trail Graffiti Removal');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (9, null, '$17/hour stipend', 'Help prepare soil beds for upcoming community planting event.', '4 hours', '2025-04-27 03:55:26.000000', 'Silver Creek Linear Park', 'OPEN', 'Parks Dept Horticulturist', '408-555-1009', '2025-05-20 09:00:00.000000', 'Silver Creek Linear Park Planting Prep');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (10, null, '$16.50/hour stipend', 'Sweep debris from the grand stairway.', '2 hours (flexible)', '2025-04-27 03:55:26.000000', 'Communications Hill Stairway', 'OPEN', 'Local Volunteer Group', '408-555-1010', null, 'Communications Hill Stairway Sweeping');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (11, null, '$18/hour stipend', 'Help vendors set up tents and tables early Saturday morning.', '3 hours', '2025-04-27 03:55:26.000000', 'San Pedro Square Area', 'OPEN', 'Market Manager', '408-555-2001', '2025-05-03 06:00:00.000000', 'Downtown Farmers Market Setup');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (12, null, '$17/hour stipend + T-shirt', 'Assist with setting up barricades and directing participants along designated route section.', '5 hours', '2025-04-27 03:55:26.000000', 'Specific SJ Street (TBD)', 'OPEN', 'Viva CalleSJ Staff', '408-555-2002', '2025-05-18 07:00:00.000000', 'Viva CalleSJ Event Route Support');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (13, 2, '$18.50/hour stipend', 'Help take down booths, stages, and clean up after a local festival concludes Sunday evening.', '4 hours', '2025-04-27 03:55:26.000000', 'History Park San Jose', 'ASSIGNED', 'Event Coordinator', '408-555-2003', '2025-05-11 18:00:00.000000', 'Community Festival Teardown Crew');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (14, null, 'Lunch provided', 'Assist residents with setting up tables, chairs, and simple decorations.', '2 hours', '2025-04-27 03:55:26.000000', 'Willow Glen Neighborhood Park', 'OPEN', 'Neighborhood Association Lead', '408-555-2004', '2025-05-24 10:00:00.000000', 'Neighborhood Block Party Setup');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (15, 2, 'Volunteer Credit', 'Greet families and check children into summer reading program event.', '3 hours', '2025-04-27 15:59:06.254335', 'MLK Jr Library Downtown', 'ASSIGNED', 'Librarian Nguyen', '408-555-2005', '2025-06-07 13:00:00.000000', 'Library Reading Program Check-in');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (16, null, 'Volunteer Credit + Snack', 'Hand out water cups to runners at a designated station along the race route.', '3 hours', '2025-04-27 03:55:26.000000', 'Guadalupe River Park Trail', 'OPEN', 'Race Volunteer Captain', '408-555-2006', '2025-06-01 08:00:00.000000', '5K Charity Run Water Station');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (17, null, '$16/hour stipend', 'Help guide attendees to seating areas and answer basic questions.', '4 hours', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'Event Staff Lead', '408-555-2007', '2025-05-30 17:00:00.000000', 'Music in the Park Ushering');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (18, null, '$35 flat stipend', 'Help an artist setup their display booth early morning.', '2 hours', '2025-04-27 03:55:26.000000', 'SOFA District Art Fair', 'OPEN', 'Artist Coordinator', '408-555-2008', '2025-06-14 07:00:00.000000', 'Art Fair Booth Assistant (Setup)');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (19, null, 'Volunteer Credit', 'Welcome attendees, provide basic directions and hand out information packets.', '3 hours', '2025-04-27 03:55:26.000000', 'Mayfair Community Center', 'OPEN', 'Health Fair Organizer', '408-555-2009', '2025-05-10 10:00:00.000000', 'Community Health Fair Greeter');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (20, null, '$17/hour stipend', 'Post-event cleanup, collecting trash and organizing chairs/blankets.', '2 hours', '2025-04-27 03:55:26.000000', 'Discovery Meadow Park', 'OPEN', 'Parks & Rec Staff', '408-555-2010', '2025-06-06 21:30:00.000000', 'Movie Night in Park Cleanup Crew');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (21, null, 'Shelter Credit / Volunteer', 'Help sort incoming clothing and hygiene product donations.', '3 hours (flexible weekday AM)', '2025-04-27 03:55:26.000000', 'Boccardo Reception Center', 'OPEN', 'Volunteer Coordinator', '408-555-3001', null, 'BRC Donation Sorting');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (22, null, 'Volunteer Credit', 'Supervise children in the play area while parents attend workshops (requires background check - simulated for demo).', '2 hours', '2025-04-27 03:55:26.000000', 'San Jose Family Shelter', 'OPEN', 'Program Manager', '408-555-3002', '2025-05-07 14:00:00.000000', 'San Jose Family Shelter Play Area Monitor');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (23, 1, 'Meal included', 'Assist kitchen staff with basic food preparation like chopping vegetables or making salads.', '3 hours', '2025-04-27 03:55:26.000000', 'CityTeam Heritage Home', 'COMPLETED', 'Kitchen Supervisor', '408-555-3003', '2025-04-29 10:00:00.000000', 'CityTeam Heritage Home Kitchen Prep Assist');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (24, null, 'Shelter Credit / Volunteer', 'Help fold and organize clean linens for shelter residents.', '2 hours (flexible PM)', '2025-04-27 03:55:26.000000', 'Georgia Travis House', 'OPEN', 'House Manager', '408-555-3004', null, 'Georgia Travis House Linen Folding');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (25, null, '$16/hour stipend', 'Light cleaning duties in common areas - wiping tables, sweeping floors.', '1.5 hours', '2025-04-27 03:55:26.000000', 'LifeMoves Mountain View', 'OPEN', 'Site Manager', '408-555-3005', '2025-05-13 15:00:00.000000', 'LifeMoves Mountain View Common Area Cleaning');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (26, null, '$16.50/hour stipend', 'Welcome visitors, answer basic phone calls, direct inquiries during busy period.', '3 hours', '2025-04-27 03:55:26.000000', 'Gardner Community Center', 'OPEN', 'Center Director', '408-555-3006', '2025-05-20 12:00:00.000000', 'Community Center Front Desk Greeter');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (27, 3, 'Volunteer Credit', 'Help unload deliveries and stock shelves at the Second Harvest warehouse.', '4 hours', '2025-04-27 03:55:26.000000', 'Second Harvest Food Bank Warehouse', 'COMPLETED', 'Warehouse Manager', '408-555-3007', '2025-05-01 09:00:00.000000', 'Food Bank Warehouse Stocking');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (28, null, 'Lunch included', 'Assist with setting tables, serving lunch, and light cleanup for senior lunch program.', '2.5 hours', '2025-04-27 03:55:26.000000', 'Alma Community Center', 'OPEN', 'Program Coordinator', '408-555-3008', '2025-05-15 11:00:00.000000', 'Senior Center Lunch Service Helper');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (29, null, 'Shelter Credit', 'Help count and organize inventory of hygiene supplies, linens, etc.', '2 hours (flexible)', '2025-04-27 03:55:26.000000', 'Hope Village SJ', 'OPEN', 'Operations Lead', '408-555-3009', null, 'Shelter Supply Inventory Check');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (30, 1, 'Stipend Provided', 'Put together kits with basic hygiene items, socks, resource information.', '3 hours (flexible)', '2025-04-27 12:51:02.385562', 'Downtown Streets Team Office', 'COMPLETED', 'Program Coordinator', '408-555-3010', null, 'Assemble Welcome Kits for New Shelter Residents');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (31, null, '$17/hour stipend', 'Distribute flyers for upcoming community resource fair to local businesses and notice boards.', '3 hours', '2025-04-27 03:55:26.000000', 'Downtown San Jose', 'OPEN', 'Resource Fair Organizer', '408-555-4001', '2025-05-05 10:00:00.000000', 'Flyer Distribution - Downtown Area');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (32, null, '$18/hour stipend', 'Enter contact information from paper forms into a simple spreadsheet. Basic computer skills needed.', '4 hours (flexible weekday)', '2025-04-27 03:55:26.000000', 'Non-Profit Office (TBD)', 'OPEN', 'Office Manager', '408-555-4002', null, 'Basic Data Entry for Non-Profit');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (33, null, 'Volunteer Credit', 'Help librarians shelve returned books in the correct sections.', '2 hours', '2025-04-27 03:55:26.000000', 'Edenvale Branch Library', 'OPEN', 'Head Librarian', '408-555-4003', '2025-05-19 14:00:00.000000', 'Library Book Shelving Assistant');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (34, null, 'Volunteer Credit', 'Water designated garden plots during assigned times.', '1.5 hours', '2025-04-27 03:55:26.000000', 'Martial Cottle Park Community Garden', 'OPEN', 'Garden Coordinator', '408-555-4004', '2025-05-09 08:00:00.000000', 'Community Garden Watering Duty');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (35, null, '$16.50/hour stipend', 'Sort incoming mail and deliver to internal mailboxes for a large non-profit.', '2 hours (daily AM)', '2025-04-27 03:55:26.000000', 'Charity Org HQ', 'OPEN', 'Admin Assistant', '408-555-4005', null, 'Office Mail Sorting and Delivery');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (36, 2, '$16/hour stipend', 'Arrange chairs and tables according to diagrams for upcoming workshops.', '1 hour', '2025-04-27 03:55:26.000000', 'Workforce Development Center', 'COMPLETED', 'Training Coordinator', '408-555-4006', '2025-05-02 08:00:00.000000', 'Workshop Room Setup');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (37, null, '$18/hour stipend', 'Approach park visitors (with script) to complete short surveys about park usage.', '3 hours', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'City Research Analyst', '408-555-4007', '2025-05-22 11:00:00.000000', 'Survey Administration Assistant (In Person)');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (38, null, 'Volunteer Credit', 'Work as part of a team assembling hygiene kits for street outreach.', '2 hours', '2025-04-27 03:55:26.000000', 'Volunteer Center SJ', 'OPEN', 'Volunteer Lead', '408-555-4008', '2025-06-03 10:00:00.000000', 'Hygiene Kit Assembly Line');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (39, null, '$16/hour stipend', 'Help sort recyclables collected at the center into correct bins.', '1.5 hours (flexible)', '2025-04-27 03:55:26.000000', 'Roosevelt Community Center', 'OPEN', 'Center Staff', '408-555-4009', null, 'Recycling Sorting at Community Center');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (40, null, '$17/hour stipend', 'Help assemble new shelving units or small furniture items for a shelter common area.', '3 hours', '2025-04-27 03:55:26.000000', 'LifeMoves | Villa', 'OPEN', 'Facilities Manager', '408-555-4010', '2025-05-28 13:00:00.000000', 'Simple Furniture Assembly (Shelter)');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (41, null, '$17/hour stipend', 'Litter pickup around Berryessa Community Center grounds.', '2 hours', '2025-04-27 03:55:26.000000', 'Berryessa Community Center', 'OPEN', 'Parks Dept', '408-555-1011', '2025-05-21 09:00:00.000000', 'Park Cleanup - Berryessa Area');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (42, null, '$17.50/hour stipend', 'Removing trash and debris near the creek bed within the park.', '3 hours', '2025-04-27 03:55:26.000000', 'Penetencia Creek Park', 'OPEN', 'Creek Org Volunteer', '408-555-1012', '2025-05-24 09:00:00.000000', 'Creek Cleanup - Penetencia Creek Park');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (43, null, '$17/hour stipend', 'Place directional signs around downtown for an upcoming weekend event.', '2.5 hours', '2025-04-27 03:55:26.000000', 'Downtown San Jose Streets', 'OPEN', 'Event Logistics', '408-555-2011', '2025-06-06 14:00:00.000000', 'Event Signage Placement');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (44, null, '$18/hour stipend', 'Assist vendors in packing up and clearing their booths after an event.', '3 hours', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'Event Manager Asst', '408-555-2012', '2025-06-08 17:00:00.000000', 'Post-Event Booth Breakdown');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (45, null, 'Meal included', 'Help with washing dishes during peak meal times.', '1.5 hours (Lunch or Dinner)', '2025-04-27 03:55:26.000000', 'Salvation Army Emmanuel House', 'OPEN', 'Kitchen Lead', '408-555-3011', null, 'Shelter Kitchen Dishwashing Assist');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (46, null, 'Volunteer Credit', 'Check expiration dates and sort canned goods onto shelves.', '2 hours', '2025-04-27 03:55:26.000000', 'Local Church Food Pantry', 'OPEN', 'Pantry Coordinator', '408-555-3012', '2025-05-29 10:00:00.000000', 'Sorting Canned Goods at Food Pantry');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (47, null, '$17/hour stipend', 'Distribute community meeting flyers door-to-door in designated neighborhood.', '3 hours', '2025-04-27 03:55:26.000000', 'East San Jose Neighborhood', 'OPEN', 'Community Organizer', '408-555-4011', '2025-06-10 11:00:00.000000', 'Flyer Distribution - East Side SJ');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (48, null, '$16.50/hour stipend', 'Help users log in, basic troubleshooting (under supervision) at a community center computer lab.', '2 hours (Weekday PM)', '2025-04-27 03:55:26.000000', 'Seven Trees Community Center', 'OPEN', 'Lab Coordinator', '408-555-4012', null, 'Computer Lab Monitor Assistant');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (49, null, 'Stipend Provided', 'Walk with Downtown Ambassador, help provide directions and report issues (observational).', '3 hours (Weekday)', '2025-04-27 03:55:26.000000', 'Downtown San Jose', 'OPEN', 'SJDA Program Lead', '408-555-5001', null, 'Downtown Ambassador Assistant');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (50, null, 'Volunteer Credit', 'Clean and organize gardening tools used by community volunteers.', '1.5 hours', '2025-04-27 03:55:26.000000', 'Veggielution Community Farm', 'OPEN', 'Farm Manager', '408-555-5002', '2025-05-31 14:00:00.000000', 'Tool Cleaning and Organization');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (51, null, '$16/hour stipend', 'Sit at an info table for a non-profit at a public event, hand out brochures (with supervision).', '2 hours', '2025-04-27 03:55:26.000000', 'San Jose Public Market', 'OPEN', 'Non-Profit Outreach Lead', '408-555-5003', '2025-06-15 12:00:00.000000', 'Information Table Staffing');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (52, 5, '$17/hour stipend', 'Help scrape and sand park benches in preparation for painting.', '3 hours', '2025-04-27 12:55:42.601367', 'Rose Garden Neighborhood Park', 'COMPLETED', 'Parks Maintenance Crew', '408-555-1013', '2025-06-04 09:30:00.000000', 'Park Bench Painting Prep');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (53, null, '$16.50/hour stipend', 'Wipe down and clean trail marker signs along a park trail.', '2 hours (flexible)', '2025-04-27 03:55:26.000000', 'Coyote Hellyer County Park', 'OPEN', 'Park Volunteer Lead', '408-555-1014', null, 'Trail Sign Cleaning');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (54, null, '$17/hour stipend', 'Provide short breaks for main info booth staff at a large festival.', '2 hours (split)', '2025-04-27 03:55:26.000000', 'Plaza de Cesar Chavez', 'OPEN', 'Volunteer Captain', '408-555-2013', '2025-06-22 14:00:00.000000', 'Festival Information Booth Relief');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (55, null, 'Store Voucher', 'Help accept donations from cars, provide receipts, initial sorting.', '3 hours (Sat AM)', '2025-04-27 03:55:26.000000', 'Goodwill Donation Center', 'OPEN', 'Donation Center Manager', '408-555-3013', null, 'Donation Center Receiving Assistant');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (56, null, 'Shelter Credit', 'Raking leaves, pulling weeds around shelter grounds.', '2 hours', '2025-04-27 03:55:26.000000', 'Casa De Clara', 'OPEN', 'House Manager', '408-555-3014', '2025-06-11 10:00:00.000000', 'Basic Landscape Maintenance (Shelter)');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (57, null, '$50 flat stipend', 'Use Canva template to create a simple flyer for an upcoming event. Basic computer/design sense needed.', 'Flexible (2-3 hours total)', '2025-04-27 03:55:26.000000', 'Remote or Community Center', 'OPEN', 'Center Program Lead', '408-555-4013', null, 'Community Center Event Flyer Design (Simple)');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (58, null, '$18/hour stipend', 'Scan old paper records and save digitally, or file documents for a non-profit.', '4 hours (flexible)', '2025-04-27 03:55:26.000000', 'Non-Profit Office (TBD)', 'OPEN', 'Admin Manager', '408-555-4014', null, 'Document Scanning/Filing (Non-Confidential)');
+INSERT INTO sjhopes.tasks (id, client_id, compensation_details, description, estimated_duration, last_updated, location, status, task_contact_name, task_contact_phone, task_date_time, title) VALUES (59, null, '$18.00/hour stipend', 'Assist vendors and event staff with unloading and setting up 10x10 pop-up tents and information tables in designated areas at Berryessa Community Center park grounds. Must be able to lift moderately heavy items. Early morning start.', 'Approx. 3.5 hours', '2025-04-27 14:32:50.049211', 'Berryessa Community Center (Park Grounds)', 'OPEN', 'Angela Rossi (Event Coordinator)', '408-555-0210', '2025-05-17 22:30:00.000000', 'Berryessa Art & Wine Festival - Tent Setup');
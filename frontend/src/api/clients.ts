@@ -1,4 +1,5 @@
 import axiosInstance from './axiosConfig';
+import type { ShelterType } from './shelters';
 
 export type ClientStatus = 'SEEKING_PLACEMENT' | 'SHELTERED' | 'INACTIVE' | 'PERMANENTLY_HOUSED';
 
@@ -11,12 +12,55 @@ export interface Client {
   currentShelterName?: string;
   registrationDate?: string;
   lastActivityDate?: string;
-  caseworkerNotes?: string;
+  hasPet?: boolean;
+  hasPartner?: boolean;
+  preferredShelterType?: ShelterType | null;
+  latitude?: number | null;
+  longitude?: number | null;
+  possibleDuplicates?: ClientMatch[] | null; // Only in the registration response
+}
+
+export interface ClientMatch {
+  id: number;
+  name: string;
+  similarity: number;
+}
+
+export interface ClientNote {
+  id: number;
+  clientId: number;
+  createdAt: string;
+  author: string | null;
+  text: string;
 }
 
 export interface CreateClientDto {
   name: string;
-  caseworkerNotes?: string;
+  caseworkerNotes?: string; // Saved as the first note
+  hasPet?: boolean;
+  hasPartner?: boolean;
+  preferredShelterType?: ShelterType;
+  latitude?: number;
+  longitude?: number;
+}
+
+export interface Placement {
+  clientId: number;
+  shelterId: number;
+  shelterName: string;
+  distanceKm: number | null;
+  preferredTypeMatched: boolean;
+}
+
+export interface PlacementResult {
+  dryRun: boolean;
+  seekingClients: number;
+  sheltersWithBeds: number;
+  placed: number;
+  unplaced: number;
+  planningMs: number;
+  placements: Placement[];
+  unplacedClientIds: number[];
 }
 
 export const clientService = {
@@ -30,8 +74,40 @@ export const clientService = {
     return response.data;
   },
 
+  // Newest first; pass the last note's id as `before` to page back
+  async getClientNotes(id: string, before?: number, limit = 20): Promise<ClientNote[]> {
+    const response = await axiosInstance.get(`/api/clients/${id}/notes`, { params: { before, limit } });
+    return response.data;
+  },
+
+  async addClientNote(id: string, text: string, author?: string): Promise<ClientNote> {
+    const response = await axiosInstance.post(`/api/clients/${id}/notes`, { text, author });
+    return response.data;
+  },
+
+  // Fuzzy name match; typeahead treats the last word as still being typed
+  async lookupClients(q: string, typeahead = true, limit = 10): Promise<ClientMatch[]> {
+    const response = await axiosInstance.get('/api/clients/lookup', { params: { q, typeahead, limit } });
+    return response.data;
+  },
+
   async createClient(client: CreateClientDto): Promise<Client> {
     const response = await axiosInstance.post('/api/clients', client);
     return response.data;
+  },
+
+  // Unlinks the client from their shelter and returns the bed
+  async checkOutClient(id: string, status: 'INACTIVE' | 'PERMANENTLY_HOUSED' | 'SEEKING_PLACEMENT' = 'INACTIVE'): Promise<void> {
+    await axiosInstance.post(`/api/clients/${id}/check-out`, null, { params: { status } });
+  },
+
+  async transferClient(id: string, shelterId: string): Promise<void> {
+    await axiosInstance.post(`/api/clients/${id}/transfer`, { shelterId });
+  },
+
+  // Matches every SEEKING_PLACEMENT client to a free bed; dryRun only returns the plan
+  async placeSeekingClients(dryRun = true): Promise<PlacementResult> {
+    const response = await axiosInstance.post('/api/admin/placements/batch', null, { params: { dryRun } });
+    return response.data;
   }
 }; 
\ No newline at end of file
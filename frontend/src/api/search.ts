@@ -0,0 +1,19 @@
+import axiosInstance from './axiosConfig';
+
+export type SearchDocType = 'SHELTER' | 'TASK';
+
+export interface SearchHit {
+  type: SearchDocType;
+  id: number;
+  title: string;
+  score: number;
+  snippet: string | null;
+}
+
+export const searchService = {
+  // Ranked full-text search; omit type to search shelters and tasks together
+  async search(q: string, type?: SearchDocType, limit = 20): Promise<SearchHit[]> {
+    const response = await axiosInstance.get('/api/search', { params: { q, type, limit } });
+    return response.data;
+  }
+};
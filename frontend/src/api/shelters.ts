@@ -1,4 +1,5 @@
 import axiosInstance from './axiosConfig';
+import type { BulkImportResult } from './tasks';
 
 export type ShelterType = 'CONGREGATE' | 'TINY_HOME' | 'SAFE_PARKING' | 'MOTEL_CONVERSION' | 'NAVIGATION_CENTER' | 'OTHER';
 
@@ -51,12 +52,47 @@ export interface ShelterSearchParams {
   allowsPartner?: boolean;
   isActive?: boolean;
   allowsPets?: boolean;
+  minAvailability?: number; // Only shelters with at least this many free beds
 }
 
 export interface ShelterReserveRequestDto {
   clientId: string;
 }
 
+export type HoldStatus = 'HELD' | 'CONFIRMED' | 'RELEASED' | 'EXPIRED';
+
+export interface BedHold {
+  id: number;
+  shelterId: number;
+  clientId: number;
+  beds: number;
+  status: HoldStatus;
+  createdAt: string;
+  expiresAt: string;
+  resolvedAt: string | null;
+}
+
+export type WaitlistStatus = 'WAITING' | 'PLACED' | 'CANCELLED';
+
+export interface WaitlistEntry {
+  id: number;
+  clientId: number;
+  shelterId: number | null;
+  shelterType: string | null;
+  priority: number;
+  status: WaitlistStatus;
+  position: number | null;
+  placedShelterId: number | null;
+  createdAt: string;
+  resolvedAt: string | null;
+}
+
+export interface ShelterAvailabilityDelta {
+  shelterId: string;
+  currentAvailability: number;
+  active: boolean;
+}
+
 export interface ShelterSummaryDto {
   totalShelters?: number;
   activeShelters?: number;
@@ -77,6 +113,15 @@ export interface ShelterTypeSummaryDto {
 }
 
 export const shelterService = {
+  // Live availability deltas pushed over SSE; returns a function that closes the stream
+  subscribeToAvailability(onDelta: (deltas: ShelterAvailabilityDelta[]) => void): () => void {
+    const source = new EventSource(`${axiosInstance.defaults.baseURL}/api/shelters/stream`);
+    source.addEventListener('availability', (event) => {
+      onDelta(JSON.parse((event as MessageEvent).data));
+    });
+    return () => source.close();
+  },
+
   async getAllShelters(): Promise<Shelter[]> {
     const response = await axiosInstance.get('/api/shelters');
     return response.data;
@@ -102,6 +147,15 @@ export const shelterService = {
     return response.data;
   },
 
+  // Upserts by name + addressLine1; .csv files go as CSV, anything else as GeoJSON
+  async importShelters(file: File): Promise<BulkImportResult> {
+    const contentType = file.name.toLowerCase().endsWith('.csv') ? 'text/csv' : 'application/geo+json';
+    const response = await axiosInstance.post('/api/admin/shelters/bulk', file, {
+      headers: { 'Content-Type': contentType },
+    });
+    return response.data;
+  },
+
   async deleteShelter(id: string): Promise<void> {
     await axiosInstance.delete(`/api/admin/shelters/${id}`);
   },
@@ -110,6 +164,44 @@ export const shelterService = {
     await axiosInstance.post(`/api/shelters/${shelterId}/reserve`, { clientId });
   },
 
+  // One bed per client at the same shelter; all clients are placed or none are
+  async reserveGroup(shelterId: string, clientIds: string[]): Promise<void> {
+    await axiosInstance.post(`/api/shelters/${shelterId}/reserve-group`, { clientIds });
+  },
+
+  // Takes a bed out of availability until confirmed, released, or the TTL runs out
+  async holdBed(shelterId: string, clientId: string, ttlMinutes?: number): Promise<BedHold> {
+    const response = await axiosInstance.post(`/api/shelters/${shelterId}/holds`, { clientId, ttlMinutes });
+    return response.data;
+  },
+
+  async confirmHold(holdId: number): Promise<void> {
+    await axiosInstance.put(`/api/shelters/holds/${holdId}/confirm`);
+  },
+
+  async releaseHold(holdId: number): Promise<void> {
+    await axiosInstance.delete(`/api/shelters/holds/${holdId}`);
+  },
+
+  // Pass shelterId to wait for one shelter, or shelterType to take the first bed of that type
+  async joinWaitlist(request: { clientId: string; shelterId?: string; shelterType?: string; priority?: number }): Promise<WaitlistEntry> {
+    const response = await axiosInstance.post('/api/waitlist', request);
+    return response.data;
+  },
+
+  // Long poll: resolves when the entry is placed/cancelled, or with its current position on timeout
+  async awaitWaitlistEntry(entryId: number, timeoutSeconds = 30): Promise<WaitlistEntry> {
+    const response = await axiosInstance.get(`/api/waitlist/${entryId}/await`, {
+      params: { timeoutSeconds },
+      timeout: (timeoutSeconds + 5) * 1000,
+    });
+    return response.data;
+  },
+
+  async leaveWaitlist(entryId: number): Promise<void> {
+    await axiosInstance.delete(`/api/waitlist/${entryId}`);
+  },
+
   async getShelterSummary(): Promise<ShelterSummaryDto> {
     const response = await axiosInstance.get('/api/admin/analytics/shelter-summary');
     return response.data;
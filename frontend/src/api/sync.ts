@@ -0,0 +1,31 @@
+import axiosInstance from './axiosConfig';
+import type { Client } from './clients';
+import type { Shelter } from './shelters';
+import type { Task } from './tasks';
+
+export type SyncEntityType = 'SHELTER' | 'TASK';
+
+export interface Tombstone {
+  type: SyncEntityType;
+  id: number;
+  deletedAt: string;
+}
+
+export interface SyncChanges {
+  watermark: string | null;
+  hasMore: boolean;
+  fullResyncRequired: boolean;
+  shelters: Shelter[];
+  tasks: Task[];
+  clients: Client[];
+  deleted: Tombstone[];
+}
+
+export const syncService = {
+  // Rows changed since the watermark; omit since for a full download. Store the returned
+  // watermark and call again right away while hasMore is true.
+  async getChanges(since?: string, limit = 200): Promise<SyncChanges> {
+    const response = await axiosInstance.get('/api/sync/changes', { params: { since, limit } });
+    return response.data;
+  }
+};
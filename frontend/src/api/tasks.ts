@@ -51,6 +51,28 @@ export interface TaskSummaryDto {
   averageCompletionTime: string;
 }
 
+export interface ImportRowError {
+  row: number;
+  message: string;
+}
+
+export interface BulkImportResult {
+  totalRows: number;
+  created: number;
+  updated: number;
+  failed: number;
+  errorsTruncated: boolean;
+  errors: ImportRowError[];
+}
+
+export interface TaskSearchParams {
+  status?: TaskStatus;
+  clientId?: number;
+  from?: string; // ISO local date-time, inclusive
+  to?: string;   // ISO local date-time, exclusive
+  limit?: number;
+}
+
 class TaskService {
   private baseUrl = '/api/tasks';
   private adminBaseUrl = '/api/admin/tasks';
@@ -60,6 +82,18 @@ class TaskService {
     return response.data;
   }
 
+  // Server-side filtering instead of pulling every task through getAllTasks
+  async searchTasks(params: TaskSearchParams): Promise<Task[]> {
+    const response = await axios.get<Task[]>(`${this.baseUrl}/search`, { params });
+    return response.data;
+  }
+
+  // OPEN scheduled tasks, soonest first (defaults to the next 7 days)
+  async getUpcomingTasks(params: Pick<TaskSearchParams, 'from' | 'to' | 'limit'> = {}): Promise<Task[]> {
+    const response = await axios.get<Task[]>(`${this.baseUrl}/upcoming`, { params });
+    return response.data;
+  }
+
   async getTaskById(id: number): Promise<Task> {
     const response = await axios.get<Task>(`${this.baseUrl}/${id}`);
     return response.data;
@@ -70,6 +104,15 @@ class TaskService {
     return response.data;
   }
 
+  // Accepts a .csv file (header row named after CreateTaskDto fields) or a JSON array
+  async importTasks(file: File): Promise<BulkImportResult> {
+    const contentType = file.name.toLowerCase().endsWith('.csv') ? 'text/csv' : 'application/json';
+    const response = await axios.post<BulkImportResult>(`${this.adminBaseUrl}/bulk`, file, {
+      headers: { 'Content-Type': contentType },
+    });
+    return response.data;
+  }
+
   async updateTask(id: number, data: UpdateTaskDto): Promise<Task> {
     const response = await axios.put<Task>(`${this.adminBaseUrl}/${id}`, data);
     return response.data;